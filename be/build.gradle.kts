@@ -39,6 +39,9 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation ("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
 
+	// 채팅 소켓 바이너리 프로토콜 (CBOR)
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+
 	// 더미 데이터 생성을 위한 라이브러리
 	implementation("net.datafaker:datafaker:2.1.0")
 
@@ -70,6 +73,9 @@ dependencies {
 		exclude(group = "org.apache.commons", module = "commons-compress")
 	}
 	implementation("org.apache.commons:commons-compress:1.26.0")
+
+	//PDF 썸네일 (첫 페이지 렌더링)
+	implementation("org.apache.pdfbox:pdfbox:3.0.3")
 }
 
 tasks.withType<Test> {
@@ -1,14 +1,22 @@
 package com.example.mingle.domain.chat.archive.controller;
 
 import com.example.mingle.domain.chat.archive.dto.ArchiveAutoCompleteResponse;
+import com.example.mingle.domain.chat.archive.dto.ArchiveFinalizeRequest;
+import com.example.mingle.domain.chat.archive.dto.ArchiveItemPageResponse;
 import com.example.mingle.domain.chat.archive.dto.ArchiveItemResponse;
+import com.example.mingle.domain.chat.archive.dto.ArchiveSearchRequest;
+import com.example.mingle.domain.chat.archive.dto.ArchiveTypeFacetResponse;
 import com.example.mingle.domain.chat.archive.dto.ArchiveUploadRequest;
 import com.example.mingle.domain.chat.archive.dto.ArchiveTagUpdateRequest;
 import com.example.mingle.domain.chat.archive.service.ArchiveQueryService;
 import com.example.mingle.domain.chat.archive.service.ArchiveUploadService;
+import com.example.mingle.global.aws.dto.PresignedUploadRequest;
+import com.example.mingle.global.aws.dto.PresignedUploadResponse;
+import com.example.mingle.global.security.auth.SecurityUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
@@ -29,6 +37,20 @@ public class ApiV1ArchiveItemController {
         return ResponseEntity.ok(response);
     }
 
+    // 1-1. 직접 업로드: S3 presigned PUT URL 발급 (파일은 클라이언트가 S3로 바로 전송)
+    @PostMapping("/uploads/presign")
+    public ResponseEntity<PresignedUploadResponse> presign(@RequestBody @Valid PresignedUploadRequest request,
+                                                           @AuthenticationPrincipal SecurityUser loginUser) {
+        return ResponseEntity.ok(archiveUploadService.presign(loginUser.getId(), request));
+    }
+
+    // 1-2. 직접 업로드 완료: 업로드된 파일 확인 후 자료 등록
+    @PostMapping("/uploads/finalize")
+    public ResponseEntity<ArchiveItemResponse> finalizeUpload(@RequestBody @Valid ArchiveFinalizeRequest request,
+                                                              @AuthenticationPrincipal SecurityUser loginUser) {
+        return ResponseEntity.ok(archiveUploadService.finalizeUpload(loginUser.getId(), request));
+    }
+
     // 2. 채팅방 ID 기준 전체 자료 조회
     @GetMapping("/{chatRoomId}")
     public List<ArchiveItemResponse> getFiles(
@@ -38,6 +60,19 @@ public class ApiV1ArchiveItemController {
         return archiveQueryService.getFiles(chatRoomId, type);
     }
 
+    // 2-1. 조건 검색: 유형 + 태그(AND/OR) + 기간, 최신순 페이지
+    @GetMapping("/{chatRoomId}/items")
+    public ArchiveItemPageResponse search(@PathVariable Long chatRoomId,
+                                          @ModelAttribute ArchiveSearchRequest request) {
+        return archiveQueryService.search(chatRoomId, request);
+    }
+
+    // 2-2. 유형(확장자)별 자료 수 (사이드바)
+    @GetMapping("/{chatRoomId}/facets")
+    public List<ArchiveTypeFacetResponse> getTypeFacets(@PathVariable Long chatRoomId) {
+        return archiveQueryService.getTypeFacets(chatRoomId);
+    }
+
     // 3. 태그로 필터링된 자료 조회
     @GetMapping("/{chatRoomId}/filter")
     public List<ArchiveItemResponse> getFilesByTag(@PathVariable Long chatRoomId,
@@ -61,9 +96,10 @@ public class ApiV1ArchiveItemController {
         return ResponseEntity.ok().build();
     }
 
-    // 6. 자동완성용 태그 검색 (추후 구현)
-    @GetMapping("/tags/search")
-    public List<ArchiveAutoCompleteResponse> searchTags(@RequestParam String prefix) {
-        return archiveQueryService.searchTagsByPrefix(prefix);
+    // 6. 자동완성용 태그 검색 (채팅방 단위)
+    @GetMapping("/{chatRoomId}/tags/search")
+    public List<ArchiveAutoCompleteResponse> searchTags(@PathVariable Long chatRoomId,
+                                                        @RequestParam String prefix) {
+        return archiveQueryService.searchTagsByPrefix(chatRoomId, prefix);
     }
 }
@@ -0,0 +1,23 @@
+package com.example.mingle.domain.chat.archive.dto;
+
+import com.example.mingle.global.aws.dto.UploadedFileRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * 직접 업로드 완료 요청 (S3 업로드가 끝난 파일로 자료 등록)
+ */
+public record ArchiveFinalizeRequest(
+
+        @NotNull(message = "채팅방 ID는 필수입니다.")
+        Long chatRoomId,
+
+        @Valid
+        @NotNull(message = "파일 정보는 필수입니다.")
+        UploadedFileRequest file,
+
+        List<String> tags // 수동 등록된 태그 (예: #아이디어, #회의)
+
+) {}
@@ -0,0 +1,13 @@
+package com.example.mingle.domain.chat.archive.dto;
+
+import java.util.List;
+
+/**
+ * 자료 페이지 응답 (최신순)
+ * - nextCursor: 다음 페이지 요청 시 cursor 파라미터로 그대로 전달 (없으면 null)
+ */
+public record ArchiveItemPageResponse(
+        List<ArchiveItemResponse> items,
+        Long nextCursor,
+        boolean hasNext
+) {}
@@ -18,11 +18,16 @@ public record ArchiveItemResponse (
         LocalDateTime createdAt
 ) {
     public static ArchiveItemResponse from(ArchiveItem item) {
+        return from(item, item.getThumbnailUrl());
+    }
+
+    // 썸네일 URL을 엔티티 밖에서 정한 경우 (업로드 직후 재사용된 썸네일)
+    public static ArchiveItemResponse from(ArchiveItem item, String thumbnailUrl) {
         return new ArchiveItemResponse(
                 item.getId(),
                 item.getFileUrl(),
                 item.getOriginalFilename(),
-                item.getThumbnailUrl(),
+                thumbnailUrl,
                 item.getTags().stream().map(ArchiveTag::getName).toList(),
                 item.getUploader().getNickname(),
                 item.getCreatedAt()
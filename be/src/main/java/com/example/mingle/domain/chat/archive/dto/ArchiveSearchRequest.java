@@ -0,0 +1,22 @@
+package com.example.mingle.domain.chat.archive.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 자료 조건 검색 요청 (모든 조건 선택)
+public record ArchiveSearchRequest(
+        String type,            // 확장자 (예: pdf, .PDF 모두 허용)
+        List<String> tags,      // 태그 조건
+        Boolean matchAllTags,   // true: 모든 태그 포함(AND), 없으면 하나라도 포함(OR)
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate from,         // 업로드일 시작 (포함)
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate to,           // 업로드일 끝 (포함)
+
+        Long cursor,            // 이전 응답의 nextCursor (없으면 첫 페이지)
+        Integer size
+) {}
@@ -0,0 +1,36 @@
+package com.example.mingle.domain.chat.archive.dto;
+
+import com.example.mingle.domain.chat.archive.entity.ArchiveItem;
+
+import java.util.List;
+
+/**
+ * 노드 간 태그 인덱스 변경분 (자료 1건 단위)
+ * - tags가 null이면 태그 유지, thumbnailUrl이 null이면 썸네일 유지
+ * - removed면 자료 제거
+ * - version: 자료별 변경 순서 (ArchiveItem.indexVersion), 이미 반영한 버전보다 낮은 태그 변경분은 무시
+ */
+public record ArchiveTagIndexEvent(
+        Long chatRoomId,
+        Long archiveItemId,
+        String previewTitle,
+        String fileUrl,
+        String thumbnailUrl,
+        List<String> tags,
+        boolean removed,
+        long version
+) {
+    public static ArchiveTagIndexEvent upsert(ArchiveItem item, List<String> tags, long version) {
+        return new ArchiveTagIndexEvent(item.getChatRoomId(), item.getId(), item.getOriginalFilename(),
+                item.getFileUrl(), item.getThumbnailUrl(), tags, false, version);
+    }
+
+    public static ArchiveTagIndexEvent thumbnail(ArchiveItem item, String thumbnailUrl) {
+        return new ArchiveTagIndexEvent(item.getChatRoomId(), item.getId(), item.getOriginalFilename(),
+                item.getFileUrl(), thumbnailUrl, null, false, 0L);
+    }
+
+    public static ArchiveTagIndexEvent removed(Long chatRoomId, Long archiveItemId) {
+        return new ArchiveTagIndexEvent(chatRoomId, archiveItemId, null, null, null, null, true, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.mingle.domain.chat.archive.dto;
+
+// 채팅방 사이드바용 유형(확장자)별 자료 수
+public record ArchiveTypeFacetResponse(
+        String type,
+        long count
+) {}
@@ -14,6 +14,14 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SuperBuilder
+@Table(
+        indexes = {
+                // 채팅방 + 확장자 필터 + 최신순 키셋 페이징 / 확장자별 개수 (커버링)
+                @Index(name = "idx_archive_item_room_ext_id", columnList = "chat_room_id, extension, id"),
+                // 채팅방 + 기간 필터
+                @Index(name = "idx_archive_item_room_created", columnList = "chat_room_id, created_at, id")
+        }
+)
 public class ArchiveItem extends BaseEntity {
 
     // 어떤 자료방에 속해 있는지
@@ -33,9 +41,25 @@ public class ArchiveItem extends BaseEntity {
     @Column(nullable = false)
     private String originalFilename;
 
+    // 확장자 (소문자, 점 제외, 없으면 빈 문자열) - 유형 필터/개수 집계용
+    @Column(length = 20)
+    private String extension;
+
+    @Column(length = 100)
+    private String mimeType;
+
+    // 파일 내용 SHA-256 (중복 제거 인덱스 참조 해제용, 도입 전 자료는 null)
+    @Column(length = 44)
+    private String fileHash;
+
     // 썸네일 (선택적 필드)
     private String thumbnailUrl;
 
+    // 태그 인덱스 변경분 순서 (등록/태그 수정 트랜잭션에서 행 잠금으로 +1, 엔티티 저장 시에는 쓰지 않음)
+    @Builder.Default
+    @Column(nullable = false, updatable = false, columnDefinition = "bigint not null default 0")
+    private long indexVersion = 0L;
+
     // @ElementCollection → 태그를 개별 엔티티 ArchiveTag로 분리
     // 이유: 태그 검색, 연동, 수정 등 확장성 고려
     @Builder.Default
@@ -10,6 +10,12 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SuperBuilder
+@Table(
+        indexes = {
+                // 자료별 태그 조건 (EXISTS / 개수) 조회용
+                @Index(name = "idx_archive_tag_item_name", columnList = "archive_item_id, name")
+        }
+)
 public class ArchiveTag extends BaseEntity {
     // 태그명 (ex: #아이디어)
     @Column(nullable = false)
@@ -0,0 +1,51 @@
+package com.example.mingle.domain.chat.archive.entity;
+
+import com.example.mingle.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자료 썸네일 생성 작업 (재시작해도 작업이 사라지지 않도록 DB에 보관)
+ * - 성공하면 행 삭제, 재시도 초과 시 FAILED로 남김
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@SuperBuilder
+@Table(
+        name = "thumbnail_job",
+        indexes = {
+                @Index(name = "uk_thumbnail_job_archive_item", columnList = "archive_item_id", unique = true),
+                @Index(name = "idx_thumbnail_job_status_available", columnList = "status, available_at")
+        }
+)
+public class ThumbnailJob extends BaseEntity {
+
+    @Column(nullable = false)
+    private Long archiveItemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ThumbnailJobStatus status;
+
+    private int attempts;
+
+    // PENDING: 이 시각 이후 실행, RUNNING: 점유 만료 시각
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public static ThumbnailJob of(Long archiveItemId) {
+        return ThumbnailJob.builder()
+                .archiveItemId(archiveItemId)
+                .status(ThumbnailJobStatus.PENDING)
+                .availableAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.mingle.domain.chat.archive.entity;
+
+public enum ThumbnailJobStatus {
+    PENDING,  // 대기 (재시도 대기 포함)
+    RUNNING,  // 처리 중 (availableAt까지 점유, 지나면 다른 워커가 다시 가져감)
+    FAILED    // 재시도 초과
+}
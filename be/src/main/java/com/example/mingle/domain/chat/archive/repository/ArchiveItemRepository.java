@@ -2,11 +2,15 @@ package com.example.mingle.domain.chat.archive.repository;
 
 import com.example.mingle.domain.chat.archive.entity.ArchiveItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ArchiveItemRepository extends JpaRepository<ArchiveItem, Long> {
@@ -14,11 +18,11 @@ public interface ArchiveItemRepository extends JpaRepository<ArchiveItem, Long>
     // 특정 채팅방에 속한 자료들 전체조회
     List<ArchiveItem> findByChatRoomId(Long chatRoomId);
 
-    // 채팅방 ID + 확장자(type) 필터 + 최신순 정렬
+    // 채팅방 ID + 확장자(type) 필터 + 최신순 정렬 (type은 정규화된 확장자, 예: pdf)
     @Query("SELECT ai FROM ArchiveItem ai " +
             "WHERE ai.chatRoomId = :chatRoomId " +
-            "AND (:type IS NULL OR LOWER(ai.originalFilename) LIKE %:type) " +
-            "ORDER BY ai.createdAt DESC")
+            "AND (:type IS NULL OR ai.extension = :type) " +
+            "ORDER BY ai.id DESC")
     List<ArchiveItem> findByChatRoomIdWithFilters(@Param("chatRoomId") Long chatRoomId,
                                                   @Param("type") String type);
 
@@ -27,5 +31,30 @@ public interface ArchiveItemRepository extends JpaRepository<ArchiveItem, Long>
             "WHERE ai.chatRoomId = :chatRoomId AND t.name = :tag")
     List<ArchiveItem> findByChatRoomIdAndTagName(@Param("chatRoomId") Long chatRoomId,
                                                  @Param("tag") String tag);
-}
 
+    // 태그 인덱스 적재용: 채팅방 자료 + 태그를 한 번에 (N+1 방지)
+    @Query("SELECT DISTINCT ai FROM ArchiveItem ai LEFT JOIN FETCH ai.tags WHERE ai.chatRoomId = :chatRoomId")
+    List<ArchiveItem> findWithTagsByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    // 페이지에 들어갈 자료를 업로더/태그와 함께 한 번에 (N+1 방지)
+    @Query("SELECT DISTINCT ai FROM ArchiveItem ai JOIN FETCH ai.uploader LEFT JOIN FETCH ai.tags WHERE ai.id IN :ids")
+    List<ArchiveItem> findWithUploaderAndTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 같은 내용(해시)의 자료 중 썸네일이 이미 만들어진 것 (썸네일 재사용)
+    Optional<ArchiveItem> findFirstByFileHashAndThumbnailUrlIsNotNull(String fileHash);
+
+    // 썸네일만 갱신 (엔티티 로딩 없이)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ArchiveItem ai SET ai.thumbnailUrl = :thumbnailUrl WHERE ai.id = :id")
+    int updateThumbnailUrl(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl);
+
+    // 태그 인덱스 버전 +1 (행 잠금이 커밋까지 유지 → 같은 자료의 버전 순서 = 커밋 순서)
+    @Transactional
+    @Modifying
+    @Query("UPDATE ArchiveItem ai SET ai.indexVersion = ai.indexVersion + 1 WHERE ai.id = :id")
+    int incrementIndexVersion(@Param("id") Long id);
+
+    @Query("SELECT ai.indexVersion FROM ArchiveItem ai WHERE ai.id = :id")
+    Optional<Long> findIndexVersion(@Param("id") Long id);
+}
@@ -0,0 +1,81 @@
+package com.example.mingle.domain.chat.archive.repository;
+
+import com.example.mingle.domain.chat.archive.dto.ArchiveTypeFacetResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 자료 조건 검색 (조건 조합이 많아 SQL을 직접 구성)
+ * - 채팅방 + 확장자 + 키셋(id)은 idx_archive_item_room_ext_id, 기간은 idx_archive_item_room_created
+ * - 태그 조건은 자료별 서브쿼리 (idx_archive_tag_item_name) → 태그 JOIN으로 행이 불어나지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveItemSearchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조건에 맞는 자료 ID (최신순, 최대 limit개)
+     */
+    public List<Long> searchIds(Long chatRoomId, String extension, List<String> tags, boolean matchAllTags,
+                                LocalDateTime from, LocalDateTime to, Long beforeId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ai.id FROM archive_item ai WHERE ai.chat_room_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(chatRoomId);
+
+        if (extension != null) {
+            sql.append(" AND ai.extension = ?");
+            args.add(extension);
+        }
+        if (from != null) {
+            sql.append(" AND ai.created_at >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            sql.append(" AND ai.created_at < ?");
+            args.add(to);
+        }
+        if (beforeId != null) {
+            sql.append(" AND ai.id < ?");
+            args.add(beforeId);
+        }
+
+        if (!tags.isEmpty()) {
+            String placeholders = String.join(", ", Collections.nCopies(tags.size(), "?"));
+            if (matchAllTags) {
+                // 모든 태그 포함: 일치하는 서로 다른 태그 수 = 조건 태그 수
+                sql.append(" AND (SELECT COUNT(DISTINCT t.name) FROM archive_tag t")
+                        .append(" WHERE t.archive_item_id = ai.id AND t.name IN (").append(placeholders).append(")) = ?");
+                args.addAll(tags);
+                args.add(tags.size());
+            } else {
+                sql.append(" AND EXISTS (SELECT 1 FROM archive_tag t")
+                        .append(" WHERE t.archive_item_id = ai.id AND t.name IN (").append(placeholders).append("))");
+                args.addAll(tags);
+            }
+        }
+
+        sql.append(" ORDER BY ai.id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+    /**
+     * 채팅방 유형(확장자)별 자료 수 (인덱스만으로 집계)
+     */
+    public List<ArchiveTypeFacetResponse> countByExtension(Long chatRoomId) {
+        return jdbcTemplate.query(
+                "SELECT extension, COUNT(*) AS cnt FROM archive_item WHERE chat_room_id = ? " +
+                        "GROUP BY extension ORDER BY cnt DESC",
+                (rs, rowNum) -> new ArchiveTypeFacetResponse(rs.getString("extension"), rs.getLong("cnt")),
+                chatRoomId);
+    }
+}
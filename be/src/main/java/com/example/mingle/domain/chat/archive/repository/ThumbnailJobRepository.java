@@ -0,0 +1,39 @@
+package com.example.mingle.domain.chat.archive.repository;
+
+import com.example.mingle.domain.chat.archive.entity.ThumbnailJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ThumbnailJobRepository extends JpaRepository<ThumbnailJob, Long> {
+
+    // 실행할 차례가 된 작업 (점유가 만료된 RUNNING 포함 → 처리 중 죽은 노드의 작업 회수)
+    @Query(value = "SELECT * FROM thumbnail_job " +
+            "WHERE status IN ('PENDING', 'RUNNING') AND available_at <= :now " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<ThumbnailJob> findRunnable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 조건부 점유 (다른 워커/노드가 먼저 가져갔으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE thumbnail_job SET status = 'RUNNING', attempts = attempts + 1, " +
+            "available_at = :leaseUntil, updated_at = NOW() " +
+            "WHERE id = :id AND status IN ('PENDING', 'RUNNING') AND available_at <= :now", nativeQuery = true)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE thumbnail_job SET status = :status, available_at = :availableAt, " +
+            "last_error = :lastError, updated_at = NOW() WHERE id = :id", nativeQuery = true)
+    int reschedule(@Param("id") Long id,
+                   @Param("status") String status,
+                   @Param("availableAt") LocalDateTime availableAt,
+                   @Param("lastError") String lastError);
+}
@@ -0,0 +1,62 @@
+package com.example.mingle.domain.chat.archive.service;
+
+import com.example.mingle.domain.chat.common.util.ChatUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * extension/mimeType 컬럼 도입 전 자료 백필
+ * - 주기마다 batch-size개씩 채움 (한 번에 큰 UPDATE를 걸지 않음), 남은 행이 없으면 종료
+ * - 여러 노드가 동시에 돌아도 같은 값으로 채우므로 안전 (extension IS NULL 조건)
+ */
+@Slf4j
+@Component
+public class ArchiveExtensionBackfill {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    private volatile boolean done;
+
+    public ArchiveExtensionBackfill(JdbcTemplate jdbcTemplate,
+                                    @Value("${archive.backfill.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${archive.backfill.initial-delay-ms:30000}",
+            fixedDelayString = "${archive.backfill.interval-ms:1000}")
+    public void backfill() {
+        if (done) return;
+
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, original_filename FROM archive_item WHERE extension IS NULL LIMIT ?",
+                (rs, rowNum) -> {
+                    String filename = rs.getString("original_filename");
+                    String mimeType = MediaTypeFactory.getMediaType(filename)
+                            .map(MediaType::toString)
+                            .orElse(null);
+                    return new Object[]{ChatUtil.extractExtension(filename), mimeType, rs.getLong("id")};
+                },
+                batchSize);
+
+        if (rows.isEmpty()) {
+            done = true;
+            log.info("자료 확장자 백필 완료");
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE archive_item SET extension = ?, mime_type = COALESCE(mime_type, ?) " +
+                        "WHERE id = ? AND extension IS NULL",
+                rows);
+        log.debug("자료 확장자 백필: rows={}", rows.size());
+    }
+}
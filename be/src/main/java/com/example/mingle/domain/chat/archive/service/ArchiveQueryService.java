@@ -1,6 +1,9 @@
 package com.example.mingle.domain.chat.archive.service;
 
+import com.example.mingle.domain.chat.archive.dto.ArchiveItemPageResponse;
 import com.example.mingle.domain.chat.archive.dto.ArchiveItemResponse;
+import com.example.mingle.domain.chat.archive.dto.ArchiveSearchRequest;
+import com.example.mingle.domain.chat.archive.dto.ArchiveTypeFacetResponse;
 import com.example.mingle.domain.chat.archive.dto.ArchiveAutoCompleteResponse;
 
 import java.util.List;
@@ -11,6 +14,12 @@ public interface ArchiveQueryService {
 
     List<ArchiveItemResponse> getFilesByTag(Long chatRoomId, String tag);
 
-    // 자동완성용 자료 추천
-    List<ArchiveAutoCompleteResponse> searchTagsByPrefix(String prefix);
+    // 유형 + 태그(AND/OR) + 기간 조건 검색 (최신순 페이지)
+    ArchiveItemPageResponse search(Long chatRoomId, ArchiveSearchRequest request);
+
+    // 유형(확장자)별 자료 수
+    List<ArchiveTypeFacetResponse> getTypeFacets(Long chatRoomId);
+
+    // 자동완성용 자료 추천 (채팅방 단위)
+    List<ArchiveAutoCompleteResponse> searchTagsByPrefix(Long chatRoomId, String prefix);
 }
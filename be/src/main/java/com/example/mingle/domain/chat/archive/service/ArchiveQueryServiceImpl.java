@@ -1,26 +1,40 @@
 package com.example.mingle.domain.chat.archive.service;
 
 import com.example.mingle.domain.chat.archive.dto.ArchiveAutoCompleteResponse;
+import com.example.mingle.domain.chat.archive.dto.ArchiveItemPageResponse;
 import com.example.mingle.domain.chat.archive.dto.ArchiveItemResponse;
+import com.example.mingle.domain.chat.archive.dto.ArchiveSearchRequest;
+import com.example.mingle.domain.chat.archive.dto.ArchiveTypeFacetResponse;
 import com.example.mingle.domain.chat.archive.entity.ArchiveItem;
 import com.example.mingle.domain.chat.archive.repository.ArchiveItemRepository;
-import com.example.mingle.domain.chat.archive.repository.ArchiveTagRepository;
+import com.example.mingle.domain.chat.archive.repository.ArchiveItemSearchRepository;
+import com.example.mingle.domain.chat.common.util.ChatPaging;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ArchiveQueryServiceImpl implements ArchiveQueryService {
 
     private final ArchiveItemRepository archiveItemRepository;
-    private final ArchiveTagRepository archiveTagRepository;
+    private final ArchiveItemSearchRepository archiveItemSearchRepository;
+    private final ArchiveTagIndex archiveTagIndex;
+
+    private static final int AUTOCOMPLETE_LIMIT = 5;
+    private static final int MAX_FILTER_TAGS = 10;
 
     // 채팅방 자료 전체 조회
     @Override
     public List<ArchiveItemResponse> getFiles(Long chatRoomId, String type) {
-        List<ArchiveItem> items = archiveItemRepository.findByChatRoomIdWithFilters(chatRoomId, type);
+        List<ArchiveItem> items = archiveItemRepository.findByChatRoomIdWithFilters(chatRoomId, normalizeType(type));
         return items.stream()
                 .map(ArchiveItemResponse::from)
                 .toList();
@@ -39,18 +53,62 @@ public class ArchiveQueryServiceImpl implements ArchiveQueryService {
 
 
 
-    // 자동완성: prefix로 시작하는 태그를 가진 자료 일부 미리보기
+    // 조건 검색: ID만 키셋 페이징으로 먼저 구한 뒤 페이지 자료를 한 번에 로딩
     @Override
-    public List<ArchiveAutoCompleteResponse> searchTagsByPrefix(String prefix) {
-        return archiveTagRepository.findTop5ByNameStartingWith(prefix).stream()
-                .map(tag -> {
-                    ArchiveItem item = tag.getArchiveItem();
-                    return ArchiveAutoCompleteResponse.builder()
-                            .id(item.getId())
-                            .fileUrl(item.getFileUrl())
-                            .previewTitle(item.getOriginalFilename())
-                            .thumbnailUrl(item.getThumbnailUrl())
-                            .build();
-                }).toList();
+    public ArchiveItemPageResponse search(Long chatRoomId, ArchiveSearchRequest request) {
+        int size = ChatPaging.resolveSize(request.size());
+        List<String> tags = request.tags() == null ? List.of() : request.tags().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .limit(MAX_FILTER_TAGS)
+                .toList();
+        LocalDateTime from = request.from() != null ? request.from().atStartOfDay() : null;
+        LocalDateTime to = request.to() != null ? request.to().plusDays(1).atStartOfDay() : null;
+
+        // size + 1개 조회 → 초과분이 있으면 다음 페이지 존재
+        List<Long> ids = archiveItemSearchRepository.searchIds(chatRoomId, normalizeType(request.type()), tags,
+                Boolean.TRUE.equals(request.matchAllTags()), from, to, request.cursor(), size + 1);
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+        if (pageIds.isEmpty()) {
+            return new ArchiveItemPageResponse(List.of(), null, false);
+        }
+
+        Map<Long, ArchiveItem> loaded = archiveItemRepository.findWithUploaderAndTagsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(ArchiveItem::getId, Function.identity()));
+        List<ArchiveItemResponse> items = pageIds.stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .map(ArchiveItemResponse::from)
+                .toList();
+
+        return new ArchiveItemPageResponse(items, hasNext ? pageIds.get(size - 1) : null, hasNext);
+    }
+
+
+
+    // 유형(확장자)별 자료 수
+    @Override
+    public List<ArchiveTypeFacetResponse> getTypeFacets(Long chatRoomId) {
+        return archiveItemSearchRepository.countByExtension(chatRoomId);
+    }
+
+
+
+    // 자동완성: prefix로 시작하는 태그를 가진 최근 자료 미리보기 (메모리 인덱스, DB 조회 없음)
+    @Override
+    public List<ArchiveAutoCompleteResponse> searchTagsByPrefix(Long chatRoomId, String prefix) {
+        return archiveTagIndex.search(chatRoomId, prefix, AUTOCOMPLETE_LIMIT);
+    }
+
+
+
+    // "pdf", ".PDF" → "pdf" (비어 있으면 필터 없음)
+    private static String normalizeType(String type) {
+        if (type == null || type.isBlank()) return null;
+        String trimmed = type.trim();
+        return (trimmed.startsWith(".") ? trimmed.substring(1) : trimmed).toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,279 @@
+package com.example.mingle.domain.chat.archive.service;
+
+import com.example.mingle.domain.chat.archive.dto.ArchiveAutoCompleteResponse;
+import com.example.mingle.domain.chat.archive.dto.ArchiveTagIndexEvent;
+import com.example.mingle.domain.chat.archive.entity.ArchiveItem;
+import com.example.mingle.domain.chat.archive.entity.ArchiveTag;
+import com.example.mingle.domain.chat.archive.repository.ArchiveItemRepository;
+import com.example.mingle.domain.chat.common.cluster.ChatClusterBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방별 태그 자동완성 인덱스 (메모리)
+ * - 방마다 태그(소문자) → 자료 ID(최신순) 정렬 맵 → prefix 범위만 훑어서 최근 자료 상위 N개 반환
+ * - 자동완성 응답에 필요한 자료 요약(파일명/URL/썸네일)도 같이 보관 → 조회 시 DB 접근 없음
+ * - 방을 처음 조회할 때 자료+태그를 fetch join 1회로 적재, 이후 업로드/태그 수정/삭제/썸네일 변경분만 반영
+ * - 변경분은 커밋 후 클러스터 버스로 발행하고 수신 측(자기 자신 포함)에서만 반영
+ *   발행 순서는 커밋 순서와 다를 수 있음 → 자료별 버전(indexVersion)이 이미 반영한 것보다 낮은 태그 변경분은 무시,
+ *   삭제된 자료는 방 인덱스에 기록해 늦게 도착한 변경분으로 되살아나지 않게 함 (썸네일 변경은 썸네일 필드만 갱신)
+ *   삭제 기록은 tombstone-seconds(이벤트 최대 지연)가 지나면 정리
+ * - idle-seconds 동안 조회가 없는 방은 제거 (다시 조회하면 재적재)
+ * - 지표: archive.tag-index.rooms, archive.tag-index.loads
+ */
+@Slf4j
+@Component
+public class ArchiveTagIndex {
+
+    private static final String CHANNEL = ChatClusterBus.ARCHIVE_CHANNEL_PREFIX + "tags";
+
+    private final ArchiveItemRepository archiveItemRepository;
+    private final ChatClusterBus clusterBus;
+    private final ObjectMapper objectMapper;
+    private final long idleMillis;
+    private final long tombstoneMillis;
+
+    // 채팅방 ID → 인덱스
+    private final Map<Long, RoomIndex> rooms = new ConcurrentHashMap<>();
+
+    private final Counter loadCounter;
+
+    public ArchiveTagIndex(ArchiveItemRepository archiveItemRepository,
+                           ChatClusterBus clusterBus,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${archive.tag-index.idle-seconds:1800}") long idleSeconds,
+                           @Value("${archive.tag-index.tombstone-seconds:300}") long tombstoneSeconds) {
+        this.archiveItemRepository = archiveItemRepository;
+        this.clusterBus = clusterBus;
+        this.objectMapper = objectMapper;
+        this.idleMillis = idleSeconds * 1000;
+        this.tombstoneMillis = tombstoneSeconds * 1000;
+
+        Gauge.builder("archive.tag-index.rooms", rooms, Map::size)
+                .description("태그 인덱스가 메모리에 적재된 채팅방 수")
+                .register(meterRegistry);
+        this.loadCounter = meterRegistry.counter("archive.tag-index.loads");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(ChatClusterBus.ARCHIVE_CHANNEL_PREFIX, this::onClusterEvent);
+    }
+
+    /**
+     * prefix로 시작하는 태그를 가진 자료 중 최근 자료 limit개
+     */
+    public List<ArchiveAutoCompleteResponse> search(Long chatRoomId, String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) return List.of();
+        return room(chatRoomId).search(normalized, limit);
+    }
+
+    // 자료 등록 / 태그 변경 (호출 트랜잭션 안에서 버전 +1)
+    public void upsert(ArchiveItem item, List<String> tags) {
+        archiveItemRepository.incrementIndexVersion(item.getId());
+        long version = archiveItemRepository.findIndexVersion(item.getId()).orElse(0L);
+        publishAfterCommit(ArchiveTagIndexEvent.upsert(item, tags, version));
+    }
+
+    public void updateThumbnail(ArchiveItem item, String thumbnailUrl) {
+        publishAfterCommit(ArchiveTagIndexEvent.thumbnail(item, thumbnailUrl));
+    }
+
+    public void remove(Long chatRoomId, Long archiveItemId) {
+        publishAfterCommit(ArchiveTagIndexEvent.removed(chatRoomId, archiveItemId));
+    }
+
+    /**
+     * 한동안 조회되지 않은 방 인덱스 제거 + 남은 방의 오래된 삭제 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${archive.tag-index.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        long threshold = now - idleMillis;
+        rooms.values().removeIf(room -> room.lastAccess < threshold);
+        rooms.values().forEach(room -> room.pruneTombstones(now - tombstoneMillis));
+    }
+
+    private RoomIndex room(Long chatRoomId) {
+        RoomIndex room = rooms.computeIfAbsent(chatRoomId, id -> new RoomIndex());
+        room.lastAccess = System.currentTimeMillis();
+        if (!room.loaded) {
+            load(chatRoomId, room);
+        }
+        return room;
+    }
+
+    // 적재 중에는 방 잠금을 잡고 있으므로 그 사이 도착한 변경분은 적재 후에 반영됨
+    private void load(Long chatRoomId, RoomIndex room) {
+        synchronized (room) {
+            if (room.loaded) return;
+
+            for (ArchiveItem item : archiveItemRepository.findWithTagsByChatRoomId(chatRoomId)) {
+                List<String> tags = item.getTags().stream().map(ArchiveTag::getName).toList();
+                room.apply(ArchiveTagIndexEvent.upsert(item, tags, item.getIndexVersion()));
+            }
+            room.loaded = true;
+            loadCounter.increment();
+            log.debug("태그 인덱스 적재: chatRoomId={}, items={}", chatRoomId, room.items.size());
+        }
+    }
+
+    // 적재된 방에만 반영 (적재 전인 방은 처음 조회할 때 DB에서 읽음)
+    private void onClusterEvent(String channel, String json) {
+        if (!CHANNEL.equals(channel)) return;
+        try {
+            ArchiveTagIndexEvent event = objectMapper.readValue(json, ArchiveTagIndexEvent.class);
+            RoomIndex room = rooms.get(event.chatRoomId());
+            if (room != null) {
+                room.apply(event);
+            }
+        } catch (Exception e) {
+            log.warn("태그 인덱스 이벤트 처리 실패: error={}", e.getMessage());
+        }
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤 발행 (롤백된 변경은 인덱스에 반영하지 않음)
+    private void publishAfterCommit(ArchiveTagIndexEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(event);
+                }
+            });
+        } else {
+            publish(event);
+        }
+    }
+
+    private void publish(ArchiveTagIndexEvent event) {
+        try {
+            clusterBus.publish(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.warn("태그 인덱스 이벤트 발행 실패: archiveItemId={}", event.archiveItemId(), e);
+        }
+    }
+
+    private static String normalize(String tag) {
+        return tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalize(Collection<String> tags) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String tag : tags) {
+            String value = normalize(tag);
+            if (!value.isEmpty()) normalized.add(value);
+        }
+        return normalized;
+    }
+
+    // 채팅방 하나의 인덱스 (synchronized(this)로 보호)
+    private static final class RoomIndex {
+        private final Map<Long, Item> items = new HashMap<>();
+        // 삭제된 자료 ID → 삭제 반영 시각 (반영 순서 = 시각 순서)
+        private final Map<Long, Long> removedAt = new LinkedHashMap<>();
+        private final TreeMap<String, TreeSet<Long>> itemsByTag = new TreeMap<>();
+        private volatile boolean loaded;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        synchronized void apply(ArchiveTagIndexEvent event) {
+            if (removedAt.containsKey(event.archiveItemId())) return;
+
+            Item current = items.get(event.archiveItemId());
+            // 태그 변경분은 버전이 더 낮으면 늦게 도착한 이전 변경 → 무시
+            if (current != null && event.tags() != null && !event.removed() && event.version() < current.version()) return;
+
+            Item old = items.remove(event.archiveItemId());
+            if (old != null) unlink(old);
+            if (event.removed()) {
+                removedAt.put(event.archiveItemId(), System.currentTimeMillis());
+                return;
+            }
+
+            Set<String> tags = event.tags() != null ? normalize(event.tags())
+                    : old != null ? old.tags() : Set.of();
+            String thumbnailUrl = event.thumbnailUrl() != null ? event.thumbnailUrl()
+                    : old != null ? old.thumbnailUrl() : null;
+
+            long version = event.tags() != null ? event.version() : old != null ? old.version() : 0L;
+
+            Item item = new Item(event.archiveItemId(), event.previewTitle(), event.fileUrl(), thumbnailUrl, tags, version);
+            items.put(item.id(), item);
+            for (String tag : tags) {
+                itemsByTag.computeIfAbsent(tag, k -> new TreeSet<>(Comparator.reverseOrder())).add(item.id());
+            }
+        }
+
+        // 이벤트 최대 지연보다 오래된 삭제 기록 제거 (그 뒤로는 같은 자료의 변경분이 도착하지 않음)
+        synchronized void pruneTombstones(long threshold) {
+            Iterator<Long> removedTimes = removedAt.values().iterator();
+            while (removedTimes.hasNext() && removedTimes.next() < threshold) {
+                removedTimes.remove();
+            }
+        }
+
+        synchronized List<ArchiveAutoCompleteResponse> search(String prefix, int limit) {
+            // 최신(ID 큰) 순으로 상위 limit개만 유지
+            TreeSet<Long> best = new TreeSet<>(Comparator.reverseOrder());
+            for (Map.Entry<String, TreeSet<Long>> entry : itemsByTag.tailMap(prefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) break;
+                for (Long id : entry.getValue()) {
+                    // 태그별 목록도 최신순 → 현재 상위 목록보다 오래된 자료가 나오면 이 태그는 그만 봄
+                    if (best.size() >= limit && id < best.last()) break;
+                    best.add(id);
+                    if (best.size() > limit) best.pollLast();
+                }
+            }
+
+            List<ArchiveAutoCompleteResponse> result = new ArrayList<>(best.size());
+            for (Long id : best) {
+                Item item = items.get(id);
+                result.add(ArchiveAutoCompleteResponse.builder()
+                        .id(item.id())
+                        .previewTitle(item.title())
+                        .fileUrl(item.fileUrl())
+                        .thumbnailUrl(item.thumbnailUrl())
+                        .build());
+            }
+            return result;
+        }
+
+        private void unlink(Item item) {
+            for (String tag : item.tags()) {
+                TreeSet<Long> ids = itemsByTag.get(tag);
+                if (ids == null) continue;
+                ids.remove(item.id());
+                if (ids.isEmpty()) itemsByTag.remove(tag);
+            }
+        }
+    }
+
+    private record Item(Long id, String title, String fileUrl, String thumbnailUrl, Set<String> tags, long version) {
+    }
+}
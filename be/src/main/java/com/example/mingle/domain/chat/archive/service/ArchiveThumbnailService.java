@@ -0,0 +1,249 @@
+package com.example.mingle.domain.chat.archive.service;
+
+import com.example.mingle.domain.chat.archive.entity.ArchiveItem;
+import com.example.mingle.domain.chat.archive.entity.ThumbnailJob;
+import com.example.mingle.domain.chat.archive.entity.ThumbnailJobStatus;
+import com.example.mingle.domain.chat.archive.repository.ArchiveItemRepository;
+import com.example.mingle.domain.chat.archive.repository.ThumbnailJobRepository;
+import com.example.mingle.domain.chat.common.util.ChatUtil;
+import com.example.mingle.global.aws.AwsS3Uploader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자료 썸네일 비동기 생성 (이미지 / PDF 첫 페이지)
+ * - 업로드 시 thumbnail_job 행만 남기고, poll-interval-ms마다 실행할 차례가 된 작업을 가져와 워커 풀에서 처리
+ * - 동시 처리 수는 concurrency로 제한 (빈 자리만큼만 가져옴)
+ * - 작업은 조건부 UPDATE로 점유 + lease-seconds 동안만 유효 → 처리 중 재시작/노드 장애 시 만료 후 다시 처리
+ * - 실패 시 retry-delay-seconds x 시도 횟수 뒤 재시도, max-attempts 초과 시 FAILED
+ * - 같은 내용(fileHash)의 썸네일은 한 번만 생성하고 재사용
+ * - 지표: archive.thumbnail (type=image|pdf), archive.thumbnail.failed, archive.thumbnail.running
+ */
+@Slf4j
+@Service
+public class ArchiveThumbnailService {
+
+    private static final String THUMBNAIL_DIR = "archive_thumbnails";
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+    private static final String PDF_EXTENSION = "pdf";
+
+    private final ArchiveItemRepository archiveItemRepository;
+    private final ThumbnailJobRepository thumbnailJobRepository;
+    private final AwsS3Uploader awsS3Uploader;
+    private final ArchiveTagIndex archiveTagIndex;
+
+    private final int size;
+    private final float quality;
+    private final int concurrency;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final long maxSourceSize;
+
+    private final ExecutorService workers;
+    private final Semaphore slots;
+
+    private final Timer imageTimer;
+    private final Timer pdfTimer;
+    private final Counter failedCounter;
+
+    public ArchiveThumbnailService(ArchiveItemRepository archiveItemRepository,
+                                   ThumbnailJobRepository thumbnailJobRepository,
+                                   AwsS3Uploader awsS3Uploader,
+                                   ArchiveTagIndex archiveTagIndex,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${archive.thumbnail.size:320}") int size,
+                                   @Value("${archive.thumbnail.quality:0.8}") float quality,
+                                   @Value("${archive.thumbnail.concurrency:2}") int concurrency,
+                                   @Value("${archive.thumbnail.lease-seconds:300}") long leaseSeconds,
+                                   @Value("${archive.thumbnail.max-attempts:3}") int maxAttempts,
+                                   @Value("${archive.thumbnail.retry-delay-seconds:60}") long retryDelaySeconds,
+                                   @Value("${archive.thumbnail.max-source-size:52428800}") long maxSourceSize) {
+        this.archiveItemRepository = archiveItemRepository;
+        this.thumbnailJobRepository = thumbnailJobRepository;
+        this.awsS3Uploader = awsS3Uploader;
+        this.archiveTagIndex = archiveTagIndex;
+        this.size = size;
+        this.quality = quality;
+        this.concurrency = Math.max(concurrency, 1);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryDelay = Duration.ofSeconds(retryDelaySeconds);
+        this.maxSourceSize = maxSourceSize;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(this.concurrency,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "archive-thumbnail-" + threadIndex.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.slots = new Semaphore(this.concurrency);
+
+        this.imageTimer = meterRegistry.timer("archive.thumbnail", "type", "image");
+        this.pdfTimer = meterRegistry.timer("archive.thumbnail", "type", "pdf");
+        this.failedCounter = meterRegistry.counter("archive.thumbnail.failed");
+        Gauge.builder("archive.thumbnail.running", slots, s -> this.concurrency - s.availablePermits())
+                .description("처리 중인 썸네일 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 자료의 썸네일 작업 등록 (이미지/PDF만)
+     * @return 같은 내용의 썸네일을 바로 재사용했으면 그 URL (일괄 UPDATE라 엔티티에는 반영되지 않음)
+     */
+    public Optional<String> enqueue(ArchiveItem item) {
+        if (!isSupported(item.getExtension())) return Optional.empty();
+
+        // 같은 내용의 썸네일이 이미 있으면 작업 없이 재사용
+        if (item.getFileHash() != null) {
+            Optional<ArchiveItem> same = archiveItemRepository.findFirstByFileHashAndThumbnailUrlIsNotNull(item.getFileHash());
+            if (same.isPresent()) {
+                String thumbnailUrl = same.get().getThumbnailUrl();
+                archiveItemRepository.updateThumbnailUrl(item.getId(), thumbnailUrl);
+                archiveTagIndex.updateThumbnail(item, thumbnailUrl);
+                return Optional.of(thumbnailUrl);
+            }
+        }
+        thumbnailJobRepository.save(ThumbnailJob.of(item.getId()));
+        return Optional.empty();
+    }
+
+    /**
+     * 빈 워커 수만큼 실행할 작업을 점유해서 처리 시작
+     */
+    @Scheduled(fixedDelayString = "${archive.thumbnail.poll-interval-ms:2000}")
+    public void poll() {
+        int free = slots.availablePermits();
+        if (free == 0) return;
+
+        LocalDateTime now = LocalDateTime.now();
+        for (ThumbnailJob job : thumbnailJobRepository.findRunnable(now, free)) {
+            if (!slots.tryAcquire()) break;
+
+            // 다른 노드가 먼저 가져간 작업은 건너뜀
+            if (thumbnailJobRepository.claim(job.getId(), now, now.plus(lease)) == 0) {
+                slots.release();
+                continue;
+            }
+
+            int attempt = job.getAttempts() + 1;
+            try {
+                workers.execute(() -> {
+                    try {
+                        process(job.getId(), job.getArchiveItemId(), attempt);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중 → 점유 만료 후 다시 처리됨
+                slots.release();
+            }
+        }
+    }
+
+    private void process(Long jobId, Long archiveItemId, int attempt) {
+        try {
+            Optional<ArchiveItem> item = archiveItemRepository.findById(archiveItemId);
+            if (item.isEmpty()) {
+                // 그 사이 삭제된 자료
+                thumbnailJobRepository.deleteById(jobId);
+                return;
+            }
+
+            String thumbnailUrl = generate(item.get());
+            archiveItemRepository.updateThumbnailUrl(archiveItemId, thumbnailUrl);
+            archiveTagIndex.updateThumbnail(item.get(), thumbnailUrl);
+            thumbnailJobRepository.deleteById(jobId);
+            log.debug("썸네일 생성 완료: archiveItemId={}, url={}", archiveItemId, thumbnailUrl);
+
+        } catch (Exception e) {
+            failedCounter.increment();
+            boolean giveUp = attempt >= maxAttempts;
+            log.warn("썸네일 생성 실패: archiveItemId={}, attempt={}/{}", archiveItemId, attempt, maxAttempts, e);
+
+            ThumbnailJobStatus status = giveUp ? ThumbnailJobStatus.FAILED : ThumbnailJobStatus.PENDING;
+            String error = String.valueOf(e.getMessage());
+            thumbnailJobRepository.reschedule(jobId, status.name(),
+                    LocalDateTime.now().plus(retryDelay.multipliedBy(attempt)),
+                    error.length() > 500 ? error.substring(0, 500) : error);
+        }
+    }
+
+    private String generate(ArchiveItem item) throws IOException {
+        boolean pdf = PDF_EXTENSION.equals(ChatUtil.extractExtension(item.getOriginalFilename()));
+        long start = System.nanoTime();
+
+        byte[] thumbnail;
+        try (ResponseInputStream<GetObjectResponse> in = awsS3Uploader.download(item.getFileUrl())) {
+            Long length = in.response().contentLength();
+            if (length != null && length > maxSourceSize) {
+                in.abort();
+                throw new IOException("원본 파일이 너무 큼: " + length);
+            }
+            thumbnail = pdf ? renderPdf(in) : ThumbnailRenderer.renderImage(in, size, quality);
+        }
+
+        // 같은 내용이면 같은 키 (재시도/중복 업로드 시 덮어씀)
+        String key = item.getFileHash() != null
+                ? thumbnailKey(item.getFileHash())
+                : THUMBNAIL_DIR + "/item-" + item.getId() + ".jpg";
+        String url = awsS3Uploader.uploadBytes(thumbnail, key, "image/jpeg");
+
+        (pdf ? pdfTimer : imageTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return url;
+    }
+
+    /**
+     * 내용 해시 기반 썸네일 키 (같은 내용의 자료가 공유 → 원본 참조가 모두 해제될 때 함께 삭제)
+     */
+    public static String thumbnailKey(String fileHash) {
+        return THUMBNAIL_DIR + "/" + fileHash.replace('+', '-').replace('/', '_').replace("=", "") + ".jpg";
+    }
+
+    // PDF는 임의 접근이 필요해서 임시 파일로 받은 뒤 렌더링
+    private byte[] renderPdf(InputStream in) throws IOException {
+        Path temp = Files.createTempFile("archive-thumbnail-", ".pdf");
+        try {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            return ThumbnailRenderer.renderPdf(temp.toFile(), size, quality);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static boolean isSupported(String extension) {
+        return IMAGE_EXTENSIONS.contains(extension) || PDF_EXTENSION.equals(extension);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.mingle.domain.chat.archive.service;
 
+import com.example.mingle.domain.chat.archive.dto.ArchiveFinalizeRequest;
 import com.example.mingle.domain.chat.archive.dto.ArchiveItemResponse;
 import com.example.mingle.domain.chat.archive.dto.ArchiveUploadRequest;
+import com.example.mingle.global.aws.dto.PresignedUploadRequest;
+import com.example.mingle.global.aws.dto.PresignedUploadResponse;
 
 import java.util.List;
 import java.io.IOException;
@@ -11,6 +14,12 @@ public interface ArchiveUploadService {
     // 실제 파일 업로드 + 태그 저장
     ArchiveItemResponse upload(ArchiveUploadRequest request) throws IOException;
 
+    // 직접 업로드 1단계: S3 presigned PUT URL 발급
+    PresignedUploadResponse presign(Long uploaderId, PresignedUploadRequest request);
+
+    // 직접 업로드 2단계: 업로드된 파일 확인 + 자료 등록
+    ArchiveItemResponse finalizeUpload(Long uploaderId, ArchiveFinalizeRequest request);
+
     // 태그 수정용 메서드
     void updateTags(Long archiveItemId, List<String> tags);
 
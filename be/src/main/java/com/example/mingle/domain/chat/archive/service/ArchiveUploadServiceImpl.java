@@ -1,5 +1,6 @@
 package com.example.mingle.domain.chat.archive.service;
 
+import com.example.mingle.domain.chat.archive.dto.ArchiveFinalizeRequest;
 import com.example.mingle.domain.chat.archive.dto.ArchiveUploadRequest;
 import com.example.mingle.domain.chat.archive.dto.ArchiveItemResponse;
 import com.example.mingle.domain.chat.archive.entity.ArchiveItem;
@@ -9,16 +10,24 @@ import com.example.mingle.domain.chat.archive.repository.ArchiveTagRepository;
 import com.example.mingle.domain.chat.common.util.ChatUtil;
 import com.example.mingle.domain.user.user.entity.User;
 import com.example.mingle.domain.user.user.repository.UserRepository;
+import com.example.mingle.global.aws.AwsS3DirectUploader;
 import com.example.mingle.global.aws.AwsS3Uploader;
+import com.example.mingle.global.aws.StoredObjectService;
+import com.example.mingle.global.aws.dto.PresignedUploadRequest;
+import com.example.mingle.global.aws.dto.PresignedUploadResponse;
+import com.example.mingle.global.aws.dto.StoredFile;
 import com.example.mingle.global.exception.ApiException;
 import com.example.mingle.global.exception.ErrorCode;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,37 +39,90 @@ public class ArchiveUploadServiceImpl implements ArchiveUploadService {
     private final ArchiveItemRepository archiveItemRepository;
     private final ArchiveTagRepository archiveTagRepository;
     private final AwsS3Uploader awsS3Uploader;
+    private final AwsS3DirectUploader awsS3DirectUploader;
+    private final StoredObjectService storedObjectService;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveThumbnailService archiveThumbnailService;
+    private final ArchiveTagIndex archiveTagIndex;
+
+    private static final String ARCHIVE_DIR = "archive_files";
 
     @Override
     public ArchiveItemResponse upload(ArchiveUploadRequest request) throws IOException {
 
-        // 1. S3에 업로드
-        String fileUrl = awsS3Uploader.upload(request.file(), "archive_files");
+        // 1. S3에 업로드 (같은 내용이 이미 있으면 기존 객체 재사용)
+        StoredFile stored = awsS3Uploader.store(request.file(), ARCHIVE_DIR);
+
+        // 2. 자료 등록
+        return saveOrRelease(stored.sha256(), () -> save(request.chatRoomId(), request.uploaderId(),
+                stored.fileUrl(), stored.sha256(), request.file().getOriginalFilename(),
+                request.file().getContentType(), request.tags()));
+    }
+
+
+
+    @Override
+    public PresignedUploadResponse presign(Long uploaderId, PresignedUploadRequest request) {
+        return awsS3DirectUploader.presign(ARCHIVE_DIR, uploaderId, request);
+    }
+
 
 
-        // 2. 업로더 User 조회 (uploaderId → User 객체)
-        User uploader = userRepository.findById(request.uploaderId())
+    @Override
+    public ArchiveItemResponse finalizeUpload(Long uploaderId, ArchiveFinalizeRequest request) {
+        // 1. S3에 올라간 파일 확인 (크기/타입/체크섬)
+        String fileUrl = awsS3DirectUploader.confirm(ARCHIVE_DIR, uploaderId, request.file());
+
+        // 2. 자료 등록
+        return saveOrRelease(request.file().checksumSha256(), () -> save(request.chatRoomId(), uploaderId,
+                fileUrl, request.file().checksumSha256(), request.file().filename(),
+                request.file().contentType(), request.tags()));
+    }
+
+
+
+    // 업로드(S3 전송)는 트랜잭션 밖에서 끝나므로 참조가 이미 커밋됨
+    // → 자료 등록은 한 트랜잭션으로 묶고, 실패하면 잡아둔 참조를 해제
+    private ArchiveItemResponse saveOrRelease(String fileHash, Supplier<ArchiveItemResponse> save) {
+        try {
+            return transactionTemplate.execute(status -> save.get());
+        } catch (RuntimeException e) {
+            storedObjectService.release(fileHash);
+            throw e;
+        }
+    }
+
+
+
+    private ArchiveItemResponse save(Long chatRoomId, Long uploaderId, String fileUrl, String fileHash,
+                                     String originalFilename, String mimeType, List<String> manualTags) {
+
+        // 업로더 User 조회 (uploaderId → User 객체)
+        User uploader = userRepository.findById(uploaderId)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
 
 
-        // 3. ArchiveItem 생성
+        // ArchiveItem 생성
         ArchiveItem archiveItem = ArchiveItem.builder()
-                .chatRoomId(request.chatRoomId())
+                .chatRoomId(chatRoomId)
                 .uploader(uploader)
                 .fileUrl(fileUrl)
-                .originalFilename(request.file().getOriginalFilename())
-                .thumbnailUrl(null) // 이미지 파일이 아니라면 비워둠 (후처리로 가능)
+                .fileHash(fileHash)
+                .originalFilename(originalFilename)
+                .extension(ChatUtil.extractExtension(originalFilename))
+                .mimeType(mimeType)
+                .thumbnailUrl(null) // 이미지/PDF는 썸네일 작업에서 채움 (ArchiveThumbnailService)
                 .build();
 
 
-        // 4. 태그 처리 (수동 입력이 없으면 파일명 기반 추출 예정)
+        // 태그 처리 (수동 입력이 없으면 파일명 기반 추출 예정)
 
         // 수동 태그가 비어 있으면 파일명에서 자동 추출
         List<String> tags;
-        if (request.tags() != null && !request.tags().isEmpty()) {
-            tags = request.tags(); // 수동 입력 우선
+        if (manualTags != null && !manualTags.isEmpty()) {
+            tags = manualTags; // 수동 입력 우선
         } else {
-            tags = ChatUtil.extractTagsFromFilename(request.file().getOriginalFilename()); // 자동 추출
+            tags = ChatUtil.extractTagsFromFilename(originalFilename); // 자동 추출
         }
 
         // 추출된 태그가 존재하면 ArchiveTag로 변환 후 연결
@@ -75,10 +137,15 @@ public class ArchiveUploadServiceImpl implements ArchiveUploadService {
         }
 
 
-        // 5. 저장
+        // 저장
         archiveItemRepository.save(archiveItem);
+        archiveTagIndex.upsert(archiveItem, tags);
+
+        // 썸네일은 비동기로 생성 (같은 내용의 썸네일이 이미 있으면 바로 재사용)
+        Optional<String> reusedThumbnail = archiveThumbnailService.enqueue(archiveItem);
 
-        return ArchiveItemResponse.from(archiveItem); // 저장된 결과를 응답 객체로 변환하여 반환
+        // 저장된 결과를 응답 객체로 변환하여 반환
+        return ArchiveItemResponse.from(archiveItem, reusedThumbnail.orElse(archiveItem.getThumbnailUrl()));
     }
 
 
@@ -99,6 +166,7 @@ public class ArchiveUploadServiceImpl implements ArchiveUploadService {
                 .toList();
 
         archiveTagRepository.saveAll(newTags);
+        archiveTagIndex.upsert(archiveItem, tags); // 커밋 후 반영
     }
 
 
@@ -110,6 +178,14 @@ public class ArchiveUploadServiceImpl implements ArchiveUploadService {
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND_ARCHIVE));
 
         archiveItemRepository.delete(archiveItem); // 실제 삭제
+
+        // 같은 파일을 참조하는 자료/게시글이 더 없으면 S3 객체도 삭제
+        // 해시 기반 썸네일도 같은 내용의 자료가 공유 → 마지막 참조일 때 원본과 함께 삭제
+        String fileHash = archiveItem.getFileHash();
+        if (fileHash != null) {
+            storedObjectService.release(fileHash, ArchiveThumbnailService.thumbnailKey(fileHash));
+        }
+        archiveTagIndex.remove(archiveItem.getChatRoomId(), archiveItemId);
         log.info("자료가 삭제되었습니다. id: {}", archiveItemId);
     }
 }
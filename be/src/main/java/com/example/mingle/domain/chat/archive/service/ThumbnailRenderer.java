@@ -0,0 +1,108 @@
+package com.example.mingle.domain.chat.archive.service;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 썸네일 렌더링 (긴 변 기준 size 픽셀 이하 JPEG)
+ * - 이미지: 디코딩 단계에서 서브샘플링 → 큰 원본도 전체 해상도로 힙에 올리지 않음
+ * - PDF: 첫 페이지만 목표 크기에 맞춘 배율로 래스터화
+ */
+final class ThumbnailRenderer {
+
+    private ThumbnailRenderer() {
+    }
+
+    static byte[] renderImage(InputStream in, int size, float quality) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+
+                // 목표 크기의 2배 정도까지만 디코딩 (축소 품질 유지)
+                int step = Math.max(1, longest / (size * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+
+                return encode(fit(reader.read(0, param), size), quality);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    static byte[] renderPdf(File file, int size, float quality) throws IOException {
+        try (PDDocument document = Loader.loadPDF(file)) {
+            if (document.getNumberOfPages() == 0) {
+                throw new IOException("페이지가 없는 PDF");
+            }
+
+            PDRectangle box = document.getPage(0).getCropBox();
+            float scale = size / Math.max(box.getWidth(), box.getHeight());
+            BufferedImage page = new PDFRenderer(document).renderImage(0, scale, ImageType.RGB);
+            return encode(fit(page, size), quality);
+        }
+    }
+
+    // 비율 유지하며 size 안에 맞춤 (투명 배경은 흰색으로)
+    private static BufferedImage fit(BufferedImage source, int size) {
+        double ratio = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
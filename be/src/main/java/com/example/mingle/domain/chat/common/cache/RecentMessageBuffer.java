@@ -0,0 +1,160 @@
+package com.example.mingle.domain.chat.common.cache;
+
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 채팅방 하나의 최신 메시지 링 버퍼 (메시지 ID 오름차순, 최대 capacity개)
+ * - 새 메시지는 대부분 ID 순서대로 들어오므로 끝에 추가 (가득 차면 가장 오래된 칸을 덮어씀)
+ * - 순서가 뒤바뀐 메시지(다른 노드 지연 등)나 DB 워밍 결과는 ID 기준 병합 후 다시 채움
+ * - 모든 변경 메서드는 추정 메모리 증감(byte)을 반환 → RecentMessageCache의 전체 예산 계산에 사용
+ */
+final class RecentMessageBuffer {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ChatMessagePayload[] ring;
+    private int head;           // 가장 오래된 메시지 위치
+    private int size;
+    private long bytes;
+
+    private boolean warm;       // DB에서 최신 메시지를 한 번 읽어와 합쳤는지
+    private boolean complete;   // 버퍼보다 오래된 메시지가 DB에 없는지
+    private boolean evicted;    // 캐시에서 제거됨 (이후 변경 무시)
+
+    private volatile long lastAccess;
+
+    RecentMessageBuffer(int capacity) {
+        this.ring = new ChatMessagePayload[capacity];
+    }
+
+    /**
+     * 새 메시지 추가
+     */
+    synchronized long add(ChatMessagePayload message) {
+        if (evicted) return 0;
+        long before = bytes;
+
+        if (size > 0 && message.getMessageId() <= newest().getMessageId()) {
+            // 순서가 뒤바뀌었거나 중복 → ID 기준 병합
+            rebuild(List.of(message));
+            return bytes - before;
+        }
+
+        if (size == ring.length) {
+            bytes -= estimate(ring[head]);
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+            size--;
+            complete = false;
+        }
+        ring[(head + size) % ring.length] = message;
+        size++;
+        bytes += estimate(message);
+        return bytes - before;
+    }
+
+    /**
+     * DB에서 읽어온 최신 메시지와 병합
+     * - 워밍 중에 들어온 메시지도 잃지 않도록 기존 내용과 합침
+     *
+     * @param complete DB 결과가 capacity보다 적었는지 (= 더 오래된 메시지 없음)
+     */
+    synchronized long warm(Collection<ChatMessagePayload> loaded, boolean complete) {
+        if (evicted) return 0;
+        long before = bytes;
+        this.complete = complete;
+        rebuild(loaded);
+        this.warm = true;
+        return bytes - before;
+    }
+
+    /**
+     * 최신 메시지 limit개 (최신순)
+     * - 워밍 전이거나, 개수가 모자라는데 더 오래된 메시지가 있을 수 있으면 null (DB 조회 필요)
+     */
+    synchronized List<ChatMessagePayload> latest(int limit) {
+        if (!warm || (size < limit && !complete)) return null;
+
+        int count = Math.min(limit, size);
+        List<ChatMessagePayload> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(ring[(head + size - 1 - i) % ring.length]);
+        }
+        return result;
+    }
+
+    /**
+     * afterId 이후 메시지를 오래된 순으로 최대 limit개
+     * - 버퍼가 그 구간을 모두 담고 있지 않으면 null (DB 조회 필요)
+     */
+    synchronized List<ChatMessagePayload> since(long afterId, int limit) {
+        if (!warm) return null;
+        boolean covered = complete || (size > 0 && ring[head].getMessageId() <= afterId);
+        if (!covered) return null;
+
+        List<ChatMessagePayload> result = new ArrayList<>();
+        for (int i = 0; i < size && result.size() < limit; i++) {
+            ChatMessagePayload m = ring[(head + i) % ring.length];
+            if (m.getMessageId() > afterId) {
+                result.add(m);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 캐시에서 제거: 이후 변경은 무시하고, 반납할 메모리 추정치를 반환
+     */
+    synchronized long evict() {
+        evicted = true;
+        return bytes;
+    }
+
+    void touch(long tick) {
+        lastAccess = tick;
+    }
+
+    long lastAccess() {
+        return lastAccess;
+    }
+
+    private ChatMessagePayload newest() {
+        return ring[(head + size - 1) % ring.length];
+    }
+
+    // 기존 내용 + extra를 ID 기준으로 병합해 최신 capacity개만 다시 채움
+    private void rebuild(Collection<ChatMessagePayload> extra) {
+        TreeMap<Long, ChatMessagePayload> merged = new TreeMap<>();
+        for (int i = 0; i < size; i++) {
+            ChatMessagePayload m = ring[(head + i) % ring.length];
+            merged.put(m.getMessageId(), m);
+        }
+        for (ChatMessagePayload m : extra) {
+            merged.put(m.getMessageId(), m);
+        }
+        while (merged.size() > ring.length) {
+            merged.pollFirstEntry();
+            complete = false;
+        }
+
+        Arrays.fill(ring, null);
+        head = 0;
+        size = 0;
+        bytes = 0;
+        for (ChatMessagePayload m : merged.values()) {
+            ring[size++] = m;
+            bytes += estimate(m);
+        }
+    }
+
+    private static long estimate(ChatMessagePayload message) {
+        String content = message.getContent();
+        return ENTRY_OVERHEAD_BYTES + (content != null ? 2L * content.length() : 0);
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.mingle.domain.chat.common.cache;
+
+import com.example.mingle.domain.chat.common.cluster.ChatClusterBus;
+import com.example.mingle.domain.chat.common.cluster.ChatMessageListener;
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.domain.chat.common.persistence.ChatMessageWriteBehindBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 자주 열리는 채팅방의 최신 메시지 캐시 (그룹/DM 공용)
+ * - 채팅방별 RecentMessageBuffer(최신 N개 링 버퍼)를 보관
+ * - 첫 조회 시 DB에서 최신 N개를 읽어 워밍, 이후 새 메시지는 ChatMessageListener로 채움 (모든 노드)
+ * - 워밍 시 DB에 아직 없는 메시지도 병합: 이 노드의 write-behind 미저장분 + 캐시 전인 방에 최근 도착한 메시지
+ *   (다른 노드가 접수해 아직 저장 전인 메시지는 cold-window-ms 동안만 보관)
+ * - 첫 페이지는 DB 없이 응답, 그보다 오래된 페이지는 호출 측에서 Repository 조회
+ * - 전체 추정 메모리가 예산을 넘으면 가장 오래 조회되지 않은 방부터 제거 (LRU)
+ * - 메시지 수정/삭제 시 evict()는 커밋 후 클러스터 버스로 발행 → 모든 노드에서 제거
+ */
+@Slf4j
+@Component
+public class RecentMessageCache implements ChatMessageListener {
+
+    private static final int MAX_COLD_ARRIVALS = 10000;
+
+    private final ChatClusterBus clusterBus;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final int capacityPerRoom;
+    private final long maxBytes;
+    private final long coldWindowMillis;
+
+    private final Map<RoomKey, RecentMessageBuffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong accessClock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // 캐시 전인 방에 도착한 최근 메시지 (워밍 중 DB에 아직 없는 메시지 보충용, 도착 순)
+    private final ConcurrentLinkedDeque<ColdArrival> coldArrivals = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger coldArrivalCount = new AtomicInteger();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictedCounter;
+
+    public RecentMessageCache(ChatClusterBus clusterBus,
+                              ChatMessageWriteBehindBuffer writeBehindBuffer,
+                              MeterRegistry meterRegistry,
+                              @Value("${chat.cache.recent.capacity-per-room:50}") int capacityPerRoom,
+                              @Value("${chat.cache.recent.max-bytes:67108864}") long maxBytes,
+                              @Value("${chat.cache.recent.cold-window-ms:10000}") long coldWindowMillis) {
+        this.clusterBus = clusterBus;
+        this.writeBehindBuffer = writeBehindBuffer;
+        this.capacityPerRoom = capacityPerRoom;
+        this.maxBytes = maxBytes;
+        this.coldWindowMillis = coldWindowMillis;
+
+        Gauge.builder("chat.cache.recent.rooms", buffers, Map::size)
+                .description("최신 메시지를 캐시 중인 채팅방 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.cache.recent.bytes", totalBytes, AtomicLong::get)
+                .description("최신 메시지 캐시 추정 메모리 (byte)")
+                .register(meterRegistry);
+        this.hitCounter = meterRegistry.counter("chat.cache.recent.hit");
+        this.missCounter = meterRegistry.counter("chat.cache.recent.miss");
+        this.evictedCounter = meterRegistry.counter("chat.cache.recent.evicted");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(ChatClusterBus.CACHE_CHANNEL_PREFIX, this::onClusterEvict);
+    }
+
+    public int getCapacityPerRoom() {
+        return capacityPerRoom;
+    }
+
+    /**
+     * 채팅방 최신 메시지 limit개 (최신순)
+     * - 캐시에 있으면 DB 조회 없음, 없으면 loader(최신 capacityPerRoom개, 최신순)로 워밍 후 반환
+     * - limit이 캐시 용량보다 크면 빈 값 → 호출 측에서 직접 조회
+     */
+    public Optional<List<ChatMessagePayload>> getLatest(ChatRoomType roomType, Long roomId, int limit,
+                                                        Supplier<List<ChatMessagePayload>> loader) {
+        if (limit > capacityPerRoom) return Optional.empty();
+
+        RoomKey key = new RoomKey(roomType, roomId);
+        RecentMessageBuffer buffer = buffers.computeIfAbsent(key, k -> new RecentMessageBuffer(capacityPerRoom));
+        buffer.touch(accessClock.incrementAndGet());
+
+        List<ChatMessagePayload> page = buffer.latest(limit);
+        if (page != null) {
+            hitCounter.increment();
+            return Optional.of(page);
+        }
+
+        // 버퍼를 먼저 등록한 뒤 DB를 읽음 → 그 사이 들어온 메시지도 버퍼에 남아 병합됨
+        // 버퍼 등록 전에 도착했지만 아직 DB에 없는 메시지는 미저장분 / 최근 도착분에서 보충
+        missCounter.increment();
+        List<ChatMessagePayload> loaded = loader.get();
+        List<ChatMessagePayload> merged = new ArrayList<>(loaded);
+        merged.addAll(writeBehindBuffer.getUnflushed(roomType, roomId, 0L));
+        merged.addAll(coldArrivalsOf(key));
+        totalBytes.addAndGet(buffer.warm(merged, loaded.size() < capacityPerRoom));
+        evictIfOverBudget();
+
+        page = buffer.latest(limit);
+        return Optional.of(page != null ? page : loaded.subList(0, Math.min(limit, loaded.size())));
+    }
+
+    /**
+     * afterId 이후 메시지 (오래된 순, 최대 limit개) - 재접속 시 놓친 메시지 재전송용
+     * - 캐시가 그 구간을 모두 담고 있을 때만 값이 있음, 아니면 호출 측에서 DB 조회
+     */
+    public Optional<List<ChatMessagePayload>> getSince(ChatRoomType roomType, Long roomId, long afterId, int limit) {
+        RecentMessageBuffer buffer = buffers.get(new RoomKey(roomType, roomId));
+        if (buffer == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        buffer.touch(accessClock.incrementAndGet());
+
+        List<ChatMessagePayload> messages = buffer.since(afterId, limit);
+        if (messages != null) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+        }
+        return Optional.ofNullable(messages);
+    }
+
+    /**
+     * 새 메시지 반영 (이미 캐시 중인 방만, 노드별 메시지당 1회)
+     */
+    @Override
+    public void onMessage(ChatMessagePayload payload) {
+        if (payload.getMessageId() == null) return;
+
+        RecentMessageBuffer buffer = buffers.get(new RoomKey(payload.getRoomType(), payload.getRoomId()));
+        if (buffer == null) {
+            recordColdArrival(payload);
+            return;
+        }
+
+        totalBytes.addAndGet(buffer.add(payload));
+        evictIfOverBudget();
+    }
+
+    /**
+     * 채팅방 캐시 제거 (메시지 수정/삭제 시)
+     * - 트랜잭션 안이면 커밋된 뒤 발행 (커밋 전에 지우면 다른 요청이 수정 전 내용으로 다시 워밍할 수 있음)
+     * - 버스로 발행 → 자기 노드 포함 모든 노드가 수신해서 제거
+     */
+    public void evict(ChatRoomType roomType, Long roomId) {
+        String channel = ChatClusterBus.CACHE_CHANNEL_PREFIX + roomType.name() + ":" + roomId;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clusterBus.publish(channel, "evict");
+                }
+            });
+        } else {
+            clusterBus.publish(channel, "evict");
+        }
+    }
+
+    // 채널 이름(chat:cache:{roomType}:{roomId})으로 대상 방 구분
+    private void onClusterEvict(String channel, String message) {
+        try {
+            String[] parts = channel.substring(ChatClusterBus.CACHE_CHANNEL_PREFIX.length()).split(":");
+            RecentMessageBuffer removed = buffers.remove(
+                    new RoomKey(ChatRoomType.valueOf(parts[0]), Long.parseLong(parts[1])));
+            if (removed != null) {
+                totalBytes.addAndGet(-removed.evict());
+            }
+        } catch (Exception e) {
+            log.warn("캐시 제거 이벤트 처리 실패: channel={}, error={}", channel, e.getMessage());
+        }
+    }
+
+    // 캐시 전인 방의 메시지를 잠시 기록 (오래된 것부터 시간/개수 기준으로 정리)
+    private void recordColdArrival(ChatMessagePayload payload) {
+        long now = System.currentTimeMillis();
+        coldArrivals.addLast(new ColdArrival(now, payload));
+        coldArrivalCount.incrementAndGet();
+
+        ColdArrival oldest;
+        while ((oldest = coldArrivals.peekFirst()) != null
+                && (oldest.arrivedAt() < now - coldWindowMillis || coldArrivalCount.get() > MAX_COLD_ARRIVALS)) {
+            if (coldArrivals.remove(oldest)) {
+                coldArrivalCount.decrementAndGet();
+            }
+        }
+    }
+
+    private List<ChatMessagePayload> coldArrivalsOf(RoomKey key) {
+        long threshold = System.currentTimeMillis() - coldWindowMillis;
+        List<ChatMessagePayload> messages = new ArrayList<>();
+        for (ColdArrival arrival : coldArrivals) {
+            ChatMessagePayload payload = arrival.payload();
+            if (arrival.arrivedAt() >= threshold
+                    && payload.getRoomType() == key.roomType()
+                    && Objects.equals(payload.getRoomId(), key.roomId())) {
+                messages.add(payload);
+            }
+        }
+        return messages;
+    }
+
+    // 예산 초과 시 마지막 조회가 오래된 방부터 제거 (한 번에 한 스레드만)
+    private void evictIfOverBudget() {
+        if (totalBytes.get() <= maxBytes || !evictionLock.tryLock()) return;
+
+        try {
+            List<Map.Entry<RoomKey, RecentMessageBuffer>> entries = new ArrayList<>(buffers.entrySet());
+            entries.sort(Comparator.comparingLong(e -> e.getValue().lastAccess()));
+
+            int evicted = 0;
+            for (Map.Entry<RoomKey, RecentMessageBuffer> entry : entries) {
+                if (totalBytes.get() <= maxBytes) break;
+                if (buffers.remove(entry.getKey(), entry.getValue())) {
+                    totalBytes.addAndGet(-entry.getValue().evict());
+                    evicted++;
+                }
+            }
+            evictedCounter.increment(evicted);
+            log.debug("최신 메시지 캐시 정리: evicted={}, bytes={}", evicted, totalBytes.get());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private record RoomKey(ChatRoomType roomType, Long roomId) {}
+
+    private record ColdArrival(long arrivedAt, ChatMessagePayload payload) {}
+}
@@ -0,0 +1,25 @@
+package com.example.mingle.domain.chat.common.cluster;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 노드 간 채팅 이벤트 전파 채널
+ * - 채널 이름은 채팅방 단위 (예: chat:room:GROUP:12, chat:read:GROUP:12)
+ * - 메시지는 이미 직렬화된 JSON 문자열 그대로 전달 → 수신 노드도 재직렬화 없이 전송
+ * - 구현체: Redis pub/sub (운영), 프로세스 내부 전달 (테스트/단일 노드)
+ */
+public interface ChatClusterBus {
+
+    String CHANNEL_PREFIX = "chat:room:";       // 채팅 메시지
+    String READ_CHANNEL_PREFIX = "chat:read:";  // 읽음 커서 동기화
+    String PRESENCE_CHANNEL_PREFIX = "presence:"; // 유저 활동 상태 변경
+    String ARCHIVE_CHANNEL_PREFIX = "archive:";   // 자료방 태그 인덱스 변경
+    String EPHEMERAL_CHANNEL_PREFIX = "chat:ephemeral:"; // 저장하지 않는 실시간 이벤트 (입력 중, 실시간 읽음)
+    String CACHE_CHANNEL_PREFIX = "chat:cache:";  // 최신 메시지 캐시 제거 (메시지 수정/삭제)
+
+    // 채널에 메시지 발행
+    void publish(String channel, String message);
+
+    // channelPrefix로 시작하는 모든 채널 구독 (listener: channel, message)
+    void subscribe(String channelPrefix, BiConsumer<String, String> listener);
+}
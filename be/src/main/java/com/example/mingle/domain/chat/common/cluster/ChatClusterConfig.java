@@ -0,0 +1,39 @@
+package com.example.mingle.domain.chat.common.cluster;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(name = "chat.cluster.bus", havingValue = "redis")
+public class ChatClusterConfig {
+
+    // 수신 메시지 처리 스레드 1개 → Redis가 전달한 순서 그대로 리스너 호출
+    // (기본 SimpleAsyncTaskExecutor는 메시지마다 새 스레드라 같은 채팅방 메시지 순서가 뒤바뀜)
+    // 리스너는 메모리 반영 + 세션 송신 큐 적재만 하므로 스레드 1개로 충분
+    private final ExecutorService dispatchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-bus-dispatch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 채팅 fan-out 전용 Redis 구독 컨테이너 (시작/종료는 스프링이 관리)
+    @Bean
+    public RedisMessageListenerContainer chatRedisListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(dispatchExecutor);
+        return container;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
+    }
+}
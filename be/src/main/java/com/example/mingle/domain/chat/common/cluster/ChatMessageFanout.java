@@ -0,0 +1,105 @@
+package com.example.mingle.domain.chat.common.cluster;
+
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.global.websocket.WebSocketMessageSender;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 fan-out (로컬 + 클러스터)
+ * - broadcast(): 한 번 직렬화한 JSON으로 이 노드의 세션에 바로 전달하고, 채팅방 채널에도 발행
+ * - 다른 노드에서 발행된 메시지는 버스로 수신해 이 노드의 세션에만 전달
+ * - 메시지 ID 기반 중복 제거로 자기 메시지 echo / 중복 발행은 한 번만 전달됨
+ * - 전달 직전 ChatMessageListener들에게 메시지를 알림 (노드별 메시지당 1회)
+ */
+@Slf4j
+@Component
+public class ChatMessageFanout {
+
+    private final ChatClusterBus clusterBus;
+    private final WebSocketMessageSender messageSender;
+    private final ObjectMapper objectMapper;
+    private final List<ChatMessageListener> messageListeners;
+    private final RecentMessageIdFilter deliveredFilter;
+
+    public ChatMessageFanout(ChatClusterBus clusterBus,
+                             WebSocketMessageSender messageSender,
+                             ObjectMapper objectMapper,
+                             List<ChatMessageListener> messageListeners,
+                             @Value("${chat.cluster.dedup-capacity:65536}") int dedupCapacity) {
+        this.clusterBus = clusterBus;
+        this.messageSender = messageSender;
+        this.objectMapper = objectMapper;
+        this.messageListeners = messageListeners;
+        this.deliveredFilter = new RecentMessageIdFilter(dedupCapacity);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(ChatClusterBus.CHANNEL_PREFIX, this::onClusterMessage);
+    }
+
+    /**
+     * 저장 접수된 메시지를 로컬 세션 + 다른 노드로 전파
+     */
+    public void broadcast(ChatMessagePayload payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("메시지 직렬화 실패: roomId={}", payload.getRoomId(), e);
+            return;
+        }
+
+        deliverLocally(payload, json);
+        clusterBus.publish(channelOf(payload), json);
+    }
+
+    // 버스 수신 → 로컬 세션 전달 (받은 JSON 문자열을 그대로 프레임으로 사용)
+    private void onClusterMessage(String channel, String json) {
+        try {
+            ChatMessagePayload payload = objectMapper.readValue(json, ChatMessagePayload.class);
+            deliverLocally(payload, json);
+        } catch (Exception e) {
+            log.warn("클러스터 메시지 처리 실패: channel={}, error={}", channel, e.getMessage());
+        }
+    }
+
+    private void deliverLocally(ChatMessagePayload payload, String json) {
+        if (payload.getMessageId() != null && !deliveredFilter.markSeen(payload.getMessageId())) {
+            return; // 이미 이 노드에서 전달한 메시지
+        }
+
+        for (ChatMessageListener listener : messageListeners) {
+            try {
+                listener.onMessage(payload);
+            } catch (Exception e) {
+                log.warn("메시지 후처리 실패: listener={}, messageId={}",
+                        listener.getClass().getSimpleName(), payload.getMessageId(), e);
+            }
+        }
+
+        TextMessage frame = new TextMessage(json);
+        if (payload.getRoomType() == ChatRoomType.DIRECT) {
+            // DM: 양쪽 유저 세션에만
+            messageSender.sendToUser(payload.getSenderId(), frame);
+            messageSender.sendToUser(payload.getReceiverId(), frame);
+        } else {
+            // 그룹: 채팅방 구독 세션에만
+            messageSender.sendToRoom(payload.getRoomId(), frame);
+        }
+    }
+
+    // 채팅방 단위 채널 (예: chat:room:GROUP:12, chat:room:DIRECT:5)
+    private static String channelOf(ChatMessagePayload payload) {
+        return ChatClusterBus.CHANNEL_PREFIX + payload.getRoomType().name() + ":" + payload.getRoomId();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.mingle.domain.chat.common.cluster;
+
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+
+/**
+ * 채팅 메시지 수신 후처리 확장 지점
+ * - 메시지가 어느 노드에서 접수됐든, 각 노드에서 메시지당 정확히 한 번 호출됨 (중복 제거 이후)
+ * - 안 읽은 수 집계 등 노드 로컬 상태를 메시지 흐름에 맞춰 갱신할 때 구현
+ */
+public interface ChatMessageListener {
+
+    void onMessage(ChatMessagePayload payload);
+}
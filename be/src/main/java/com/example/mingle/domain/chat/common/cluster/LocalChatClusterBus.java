@@ -0,0 +1,36 @@
+package com.example.mingle.domain.chat.common.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * 프로세스 내부 버스 (Redis 대체용)
+ * - chat.cluster.bus=local (기본값, test 프로필)
+ * - 발행한 메시지를 같은 JVM의 구독자에게 바로 전달 → Redis pub/sub과 동일하게 자기 메시지도 되돌아옴
+ */
+@Component
+@ConditionalOnProperty(name = "chat.cluster.bus", havingValue = "local", matchIfMissing = true)
+public class LocalChatClusterBus implements ChatClusterBus {
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String channel, String message) {
+        for (Subscription subscription : subscriptions) {
+            if (channel.startsWith(subscription.channelPrefix())) {
+                subscription.listener().accept(channel, message);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(String channelPrefix, BiConsumer<String, String> listener) {
+        subscriptions.add(new Subscription(channelPrefix, listener));
+    }
+
+    private record Subscription(String channelPrefix, BiConsumer<String, String> listener) {}
+}
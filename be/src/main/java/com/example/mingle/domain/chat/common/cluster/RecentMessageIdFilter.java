@@ -0,0 +1,39 @@
+package com.example.mingle.domain.chat.common.cluster;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 처리한 메시지 ID를 기억하는 노드 로컬 중복 제거 필터
+ * - 고정 크기 링 버퍼 + Set: 가장 오래된 ID부터 밀려남 (메모리 상한 고정)
+ * - 같은 메시지가 로컬 전달 후 Redis에서 다시 돌아오거나 중복 발행돼도 한 번만 전달
+ */
+public class RecentMessageIdFilter {
+
+    private final int capacity;
+    private final AtomicLongArray ring;
+    private final AtomicLong cursor = new AtomicLong();
+    private final Set<Long> seen = ConcurrentHashMap.newKeySet();
+
+    public RecentMessageIdFilter(int capacity) {
+        this.capacity = capacity;
+        this.ring = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * 처음 보는 ID면 기록 후 true, 이미 본 ID면 false
+     */
+    public boolean markSeen(long messageId) {
+        if (!seen.add(messageId)) {
+            return false;
+        }
+        int slot = (int) (cursor.getAndIncrement() % capacity);
+        long evicted = ring.getAndSet(slot, messageId);
+        if (evicted != 0L) {
+            seen.remove(evicted);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.mingle.domain.chat.common.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis pub/sub 기반 버스
+ * - chat.cluster.bus=redis (prod 프로필)
+ * - 채팅방마다 채널을 나눠 발행하고, 각 노드는 chat:room:* 등 prefix 패턴으로 전체 구독
+ *   → 수신 후 로컬 세션에만 전달
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.cluster.bus", havingValue = "redis")
+public class RedisChatClusterBus implements ChatClusterBus {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisChatClusterBus(StringRedisTemplate redisTemplate, RedisMessageListenerContainer chatRedisListenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = chatRedisListenerContainer;
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            // 발행 실패해도 로컬 전달과 DB 저장은 이미 진행됨 → 다른 노드 접속자만 누락
+            log.warn("Redis 채팅 메시지 발행 실패: channel={}, error={}", channel, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(String channelPrefix, BiConsumer<String, String> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(
+                        new String(message.getChannel(), StandardCharsets.UTF_8),
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new PatternTopic(channelPrefix + "*"));
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.mingle.domain.chat.common.controller;
+
+import com.example.mingle.domain.chat.common.dto.ChatMessageSearchResponse;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.domain.chat.common.service.ChatMessageSearchService;
+import com.example.mingle.global.security.auth.SecurityUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/chat")
+@RequiredArgsConstructor
+public class ApiV1ChatSearchController {
+
+    private final ChatMessageSearchService chatMessageSearchService;
+
+    /**
+     * GET
+     * 메시지 본문 검색 (내가 속한 그룹 채팅방 + DM)
+     */
+    @GetMapping("/messages/search")
+    public ChatMessageSearchResponse searchMessages(
+            @RequestParam String keyword,
+
+            // GROUP | DIRECT (생략 시 전체)
+            @RequestParam(required = false) ChatRoomType roomType,
+
+            // 특정 방 안에서만 검색할 때 (roomType 필수)
+            @RequestParam(required = false) Long roomId,
+
+            // 0부터 시작하는 페이지 번호 / 페이지 크기 (기본 20, 최대 100)
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+
+            @AuthenticationPrincipal SecurityUser loginUser
+    ) {
+        return chatMessageSearchService.search(loginUser.getId(), keyword, roomType, roomId, page, size);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.mingle.domain.chat.common.dispatch;
+
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅방 단위 순서 보장 실행기
+ * - 채팅방 (종류, ID)를 해시해서 고정된 수의 단일 스레드 레인 중 하나에 배정
+ * - 같은 채팅방의 작업은 항상 같은 레인에서 순서대로, 다른 채팅방은 여러 레인에서 병렬로 실행
+ * - WebSocket 수신 스레드는 파싱 후 작업을 넘기기만 하므로 느린 DB 작업이 연결의 수신을 막지 않음
+ * - 레인 큐가 가득 차면 거부 (호출 측에서 클라이언트에 알림)
+ * - 지표: chat.dispatch.queue.depth / max-depth, chat.dispatch.lanes.busy / utilization, chat.dispatch.task, chat.dispatch.rejected
+ */
+@Slf4j
+@Component
+public class ChatLaneExecutor {
+
+    private final ThreadPoolExecutor[] lanes;
+    private final AtomicInteger busyLanes = new AtomicInteger();
+
+    private final Timer taskTimer;
+    private final Counter rejectedCounter;
+
+    public ChatLaneExecutor(MeterRegistry meterRegistry,
+                            @Value("${chat.dispatch.lanes:0}") int laneCount,
+                            @Value("${chat.dispatch.queue-capacity:1024}") int queueCapacity) {
+        // 0 이하면 CPU 코어 수 x 2 (레인 작업 대부분이 DB/네트워크 대기를 포함)
+        int size = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors() * 2;
+        this.lanes = new ThreadPoolExecutor[size];
+        for (int i = 0; i < size; i++) {
+            String name = "chat-lane-" + i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> new Thread(runnable, name));
+        }
+
+        Gauge.builder("chat.dispatch.queue.depth", this, ChatLaneExecutor::getTotalQueueDepth)
+                .description("모든 레인에 대기 중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.dispatch.queue.max-depth", this, ChatLaneExecutor::getMaxQueueDepth)
+                .description("가장 많이 밀린 레인의 대기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.dispatch.lanes.busy", busyLanes, AtomicInteger::get)
+                .description("작업을 실행 중인 레인 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.dispatch.lanes.utilization", this, ChatLaneExecutor::getUtilization)
+                .description("실행 중인 레인 비율 (0~1)")
+                .register(meterRegistry);
+        this.taskTimer = meterRegistry.timer("chat.dispatch.task");
+        this.rejectedCounter = meterRegistry.counter("chat.dispatch.rejected");
+    }
+
+    /**
+     * 채팅방 레인에 작업 제출
+     * @return 큐에 들어갔으면 true, 레인 큐가 가득 찼거나 종료 중이면 false
+     */
+    public boolean execute(ChatRoomType roomType, Long roomId, Runnable task) {
+        try {
+            laneOf(roomType, roomId).execute(() -> run(task));
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("채팅 레인 포화로 작업 거부: roomType={}, roomId={}", roomType, roomId);
+            return false;
+        }
+    }
+
+    private void run(Runnable task) {
+        busyLanes.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("채팅 레인 작업 실패", e);
+        } finally {
+            taskTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            busyLanes.decrementAndGet();
+        }
+    }
+
+    private ThreadPoolExecutor laneOf(ChatRoomType roomType, Long roomId) {
+        long id = roomId != null ? roomId : 0L;
+        int type = roomType != null ? roomType.ordinal() : 0;
+        int hash = Long.hashCode(id * 31 + type);
+        hash ^= (hash >>> 16);  // 연속된 방 ID가 고르게 퍼지도록
+        return lanes[Math.floorMod(hash, lanes.length)];
+    }
+
+    public long getTotalQueueDepth() {
+        long total = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            total += lane.getQueue().size();
+        }
+        return total;
+    }
+
+    public int getMaxQueueDepth() {
+        int max = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            max = Math.max(max, lane.getQueue().size());
+        }
+        return max;
+    }
+
+    public double getUtilization() {
+        return (double) busyLanes.get() / lanes.length;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        // 남은 작업은 잠시 기다렸다가 종료
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("채팅 레인 종료 대기 시간 초과: 남은 작업={}", lane.getQueue().size());
+                lane.shutdownNow();
+            }
+        }
+    }
+}
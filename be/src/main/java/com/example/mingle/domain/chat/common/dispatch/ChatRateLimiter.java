@@ -0,0 +1,263 @@
+package com.example.mingle.domain.chat.common.dispatch;
+
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 수신 속도 제한 (레인 제출 전, 수신 스레드에서 판단)
+ * - 유저 단위 토큰 버킷을 먼저 확인 → 여러 방에 나눠 보내도 유저 전체 속도는 user.per-second로 제한
+ * - 유저 + 채팅방 단위 토큰 버킷: 평소 per-second개, 순간 최대 burst개까지 허용
+ *   구독 중인 채팅방에만 생성 → 클라이언트가 임의 roomId를 보내도 버킷 수가 늘지 않음
+ * - 전체 수신 상한(global): 장애 상황에서 DB 저장 + fan-out 폭주를 막기 위한 노드 단위 버킷
+ *   유저 잘못이 아니므로 차감한 유저/방 토큰은 돌려주고, 알림은 유저당 첫 거부에만
+ * - 제어 프레임(구독/입력 중/읽음/활동 상태 구독)은 유저 단위 제어 버킷 (메시지 한도와 별도)
+ * - 버킷은 GCRA(다음 허용 시각 1개)로 구현 → AtomicLong CAS만 사용, 잠금 없음
+ * - 연속 거부 1회째에만 클라이언트에 RATE_LIMITED 프레임, max-strikes회 연속 거부되면 연결 종료 (유저 단위로 셈)
+ * - 지표: chat.ratelimit.rejected(scope=user|room|global|control), chat.ratelimit.disconnects,
+ *   chat.ratelimit.buckets(scope=user|room)
+ */
+@Slf4j
+@Component
+public class ChatRateLimiter {
+
+    public enum Scope { USER, ROOM, GLOBAL, CONTROL }
+
+    /**
+     * 판정 결과
+     * @param retryAfterMs  다시 보낼 수 있을 때까지 남은 시간 (거부 시)
+     * @param notifyClient  클라이언트에 거부 프레임을 보낼지 (연속 거부마다 보내지 않음)
+     * @param disconnect    연속 거부 한도 초과 → 연결 종료
+     */
+    public record Verdict(boolean allowed, Scope scope, long retryAfterMs, boolean notifyClient, boolean disconnect) {
+
+        private static final Verdict ALLOWED = new Verdict(true, null, 0, false, false);
+    }
+
+    private final boolean enabled;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final long userIntervalNanos;
+    private final long userToleranceNanos;
+    private final long controlIntervalNanos;
+    private final long controlToleranceNanos;
+    private final int maxStrikes;
+    private final long globalIntervalNanos;
+    private final long globalToleranceNanos;
+
+    // 유저 → 버킷 (연결된 유저 수만큼)
+    private final Map<Long, Bucket> userBuckets = new ConcurrentHashMap<>();
+    // (유저, 채팅방) → 버킷 (구독 중인 채팅방만)
+    private final Map<BucketKey, Gcra> buckets = new ConcurrentHashMap<>();
+    private final Gcra global = new Gcra();
+
+    private final Counter userRejected;
+    private final Counter roomRejected;
+    private final Counter globalRejected;
+    private final Counter controlRejected;
+    private final Counter disconnects;
+
+    public ChatRateLimiter(MeterRegistry meterRegistry,
+                           @Value("${chat.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${chat.rate-limit.per-second:5}") double perSecond,
+                           @Value("${chat.rate-limit.burst:20}") int burst,
+                           @Value("${chat.rate-limit.user.per-second:10}") double userPerSecond,
+                           @Value("${chat.rate-limit.user.burst:30}") int userBurst,
+                           @Value("${chat.rate-limit.control.per-second:20}") double controlPerSecond,
+                           @Value("${chat.rate-limit.control.burst:60}") int controlBurst,
+                           @Value("${chat.rate-limit.max-strikes:50}") int maxStrikes,
+                           @Value("${chat.rate-limit.global.per-second:2000}") double globalPerSecond,
+                           @Value("${chat.rate-limit.global.burst:4000}") int globalBurst) {
+        this.enabled = enabled;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+        this.toleranceNanos = intervalNanos * Math.max(burst - 1, 0);
+        this.userIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / userPerSecond);
+        this.userToleranceNanos = userIntervalNanos * Math.max(userBurst - 1, 0);
+        this.controlIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / controlPerSecond);
+        this.controlToleranceNanos = controlIntervalNanos * Math.max(controlBurst - 1, 0);
+        this.maxStrikes = maxStrikes;
+        this.globalIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / globalPerSecond);
+        this.globalToleranceNanos = globalIntervalNanos * Math.max(globalBurst - 1, 0);
+
+        this.userRejected = meterRegistry.counter("chat.ratelimit.rejected", "scope", "user");
+        this.roomRejected = meterRegistry.counter("chat.ratelimit.rejected", "scope", "room");
+        this.globalRejected = meterRegistry.counter("chat.ratelimit.rejected", "scope", "global");
+        this.controlRejected = meterRegistry.counter("chat.ratelimit.rejected", "scope", "control");
+        this.disconnects = meterRegistry.counter("chat.ratelimit.disconnects");
+        Gauge.builder("chat.ratelimit.buckets", userBuckets, Map::size)
+                .tag("scope", "user")
+                .description("속도 제한 버킷을 가진 유저 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.ratelimit.buckets", buckets, Map::size)
+                .tag("scope", "room")
+                .description("속도 제한 버킷을 가진 (유저, 채팅방) 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채팅 메시지 1개 수신 허용 여부 판단 (허용 시 토큰 차감)
+     * @param subscribed 세션이 이 채팅방을 구독 중인지 (아니면 채팅방 버킷을 만들지 않음, 유저 버킷만 적용)
+     */
+    public Verdict tryAcquire(Long userId, ChatRoomType roomType, Long roomId, boolean subscribed) {
+        if (!enabled) {
+            return Verdict.ALLOWED;
+        }
+
+        long now = System.nanoTime();
+        Bucket user = userBuckets.computeIfAbsent(userId, key -> new Bucket());
+
+        // 1) 유저 버킷 → 방을 바꿔가며 보내는 폭주도 여기서 걸러짐
+        long wait = user.gcra.acquire(now, userIntervalNanos, userToleranceNanos);
+        if (wait > 0) {
+            userRejected.increment();
+            return reject(user.strikes, Scope.USER, wait, userId, roomType, roomId);
+        }
+
+        // 2) 유저 + 채팅방 버킷 (구독 중인 방만) → 한 방 도배 방지
+        Gcra room = null;
+        if (subscribed) {
+            room = buckets.computeIfAbsent(new BucketKey(userId, roomType, roomId), key -> new Gcra());
+            long roomWait = room.acquire(now, intervalNanos, toleranceNanos);
+            if (roomWait > 0) {
+                user.gcra.refund(userIntervalNanos);
+                roomRejected.increment();
+                return reject(user.strikes, Scope.ROOM, roomWait, userId, roomType, roomId);
+            }
+        }
+
+        // 3) 노드 전체 상한: 유저 잘못이 아니므로 토큰을 돌려주고 연속 거부 횟수도 그대로
+        // - 과부하 중 거부마다 프레임을 보내면 부하만 늘어나므로 유저당 첫 거부에만 알림
+        long globalWait = global.acquire(now, globalIntervalNanos, globalToleranceNanos);
+        if (globalWait > 0) {
+            user.gcra.refund(userIntervalNanos);
+            if (room != null) room.refund(intervalNanos);
+            globalRejected.increment();
+            boolean notify = user.overloadNotified.compareAndSet(false, true);
+            return new Verdict(false, Scope.GLOBAL, toMillis(globalWait), notify, false);
+        }
+
+        if (user.strikes.get() != 0) {
+            user.strikes.set(0);
+        }
+        if (user.overloadNotified.get()) {
+            user.overloadNotified.set(false);
+        }
+        return Verdict.ALLOWED;
+    }
+
+    /**
+     * 제어 프레임 1개 수신 허용 여부 (유저 단위 제어 버킷)
+     * - 메시지 버킷과 분리 → 읽음 처리가 몰려도 메시지 한도를 깎지 않음
+     * - 연속 거부 횟수도 따로 셈 (제어 프레임 허용으로 메시지 거부 횟수가 초기화되지 않도록)
+     */
+    public Verdict tryAcquireControl(Long userId, ChatRoomType roomType, Long roomId) {
+        if (!enabled) {
+            return Verdict.ALLOWED;
+        }
+
+        Bucket user = userBuckets.computeIfAbsent(userId, key -> new Bucket());
+        long wait = user.control.acquire(System.nanoTime(), controlIntervalNanos, controlToleranceNanos);
+        if (wait > 0) {
+            controlRejected.increment();
+            return reject(user.controlStrikes, Scope.CONTROL, wait, userId, roomType, roomId);
+        }
+        if (user.controlStrikes.get() != 0) {
+            user.controlStrikes.set(0);
+        }
+        return Verdict.ALLOWED;
+    }
+
+    /**
+     * 가득 찬(오래 안 쓴) 버킷 정리
+     * - 제거 직전에 쓰인 버킷이라도 이미 가득 찬 상태였으므로 새 버킷과 차이 없음
+     */
+    @Scheduled(fixedDelayString = "${chat.rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int before = userBuckets.size() + buckets.size();
+        userBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+        buckets.values().removeIf(gcra -> gcra.isFull(now));
+        int evicted = before - userBuckets.size() - buckets.size();
+        if (evicted > 0) {
+            log.debug("속도 제한 버킷 정리: evicted={}, users={}, rooms={}", evicted, userBuckets.size(), buckets.size());
+        }
+    }
+
+    // 거부: 유저 단위 연속 거부 횟수 증가, 한도 도달 시 연결 종료
+    private Verdict reject(AtomicInteger counter, Scope scope, long wait, Long userId, ChatRoomType roomType, Long roomId) {
+        int strikes = counter.incrementAndGet();
+        boolean disconnect = maxStrikes > 0 && strikes >= maxStrikes;
+        if (disconnect) {
+            disconnects.increment();
+            counter.set(0);
+            log.warn("속도 제한 연속 초과로 연결 종료: userId={}, roomType={}, roomId={}", userId, roomType, roomId);
+        }
+        return new Verdict(false, scope, toMillis(wait), strikes == 1, disconnect);
+    }
+
+    private static long toMillis(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    private record BucketKey(Long userId, ChatRoomType roomType, Long roomId) {
+    }
+
+    private static final class Bucket {
+        private final Gcra gcra = new Gcra();
+        private final AtomicInteger strikes = new AtomicInteger(); // 연속 거부 횟수
+        private final Gcra control = new Gcra();
+        private final AtomicInteger controlStrikes = new AtomicInteger();
+        private final AtomicBoolean overloadNotified = new AtomicBoolean(); // 전체 상한 거부를 이미 알렸는지
+
+        boolean isIdle(long now) {
+            return gcra.isFull(now) && control.isFull(now) && strikes.get() == 0 && controlStrikes.get() == 0;
+        }
+    }
+
+    /**
+     * GCRA 토큰 버킷: 다음 메시지의 이론상 도착 시각(tat) 하나만 저장
+     * - tat - now <= tolerance 이면 허용하고 tat를 interval만큼 뒤로 (CAS 실패 시 재시도)
+     */
+    private static final class Gcra {
+        // nanoTime은 음수일 수 있어 0 대신 MIN_VALUE를 "기록 없음"으로 사용
+        private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+
+        // 허용이면 0, 거부면 허용될 때까지 남은 나노초
+        long acquire(long now, long interval, long tolerance) {
+            while (true) {
+                long current = tat.get();
+                long base = current == Long.MIN_VALUE ? now : Math.max(current, now);
+                long wait = base - now - tolerance;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (tat.compareAndSet(current, base + interval)) {
+                    return 0;
+                }
+            }
+        }
+
+        // 허용했던 토큰 1개 반납 (다음 단계에서 거부된 경우)
+        void refund(long interval) {
+            tat.updateAndGet(current -> current == Long.MIN_VALUE ? current : current - interval);
+        }
+
+        // 버스트만큼 다시 쌓였는지
+        boolean isFull(long now) {
+            long current = tat.get();
+            return current == Long.MIN_VALUE || current - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.mingle.domain.chat.common.dto;
+
+import com.example.mingle.domain.chat.common.enums.ChatFrameType;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * WebSocket 제어 프레임 DTO
+ * - 채팅 메시지가 아닌 구독/해제 등 제어용 요청
+ * - 예: {"type":"SUBSCRIBE","roomId":3}
+ * - 예: {"type":"SUBSCRIBE","roomId":3,"lastMessageId":1200} → 1200 이후 놓친 메시지를 먼저 받고 실시간 전환
+ * - 예: {"type":"READ_ACK","roomId":3,"roomType":"GROUP","messageId":1234}
+ * - 예: {"type":"PRESENCE_SUBSCRIBE","userIds":[1,2,3]} → 현재 상태를 받고 이후 변경분만 push 받음
+ * - 예: {"type":"TYPING","roomId":3,"roomType":"GROUP","typing":true} → 저장 없이 방 참여자에게 EPHEMERAL 프레임으로 전달
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatControlFrame {
+
+    private ChatFrameType type;   // 프레임 종류
+
+    private Long roomId;          // 대상 채팅방 ID
+
+    private ChatRoomType roomType; // 채팅방 종류 (없으면 GROUP)
+
+    private Long messageId;       // READ_ACK: 마지막으로 읽은 메시지 ID
+
+    private Long lastMessageId;   // SUBSCRIBE: 클라이언트가 마지막으로 받은 메시지 ID (재접속 시)
+
+    private List<Long> userIds;   // PRESENCE_SUBSCRIBE / PRESENCE_UNSUBSCRIBE: 대상 유저 ID 목록
+
+    private Boolean typing;       // TYPING: 입력 중이면 true, 멈추면 false
+}
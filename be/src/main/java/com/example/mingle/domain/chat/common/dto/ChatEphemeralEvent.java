@@ -0,0 +1,14 @@
+package com.example.mingle.domain.chat.common.dto;
+
+import com.example.mingle.domain.chat.common.enums.EphemeralKind;
+
+/**
+ * 저장하지 않는 실시간 이벤트 1건
+ * - expiresAt(epoch ms)이 지나면 전달하지 않고, 클라이언트도 이 시각 이후에는 표시를 지움 (TYPING)
+ */
+public record ChatEphemeralEvent(
+        EphemeralKind kind,
+        Long userId,
+        long value,
+        long expiresAt
+) {}
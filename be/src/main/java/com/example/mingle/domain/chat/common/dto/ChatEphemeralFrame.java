@@ -0,0 +1,27 @@
+package com.example.mingle.domain.chat.common.dto;
+
+import com.example.mingle.domain.chat.common.enums.ChatFrameType;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 서버 → 클라이언트 실시간 이벤트 프레임 (채팅방 단위로 모아서 전송, 노드 간 전파에도 같은 JSON 사용)
+ * - 예: {"type":"EPHEMERAL","roomType":"GROUP","roomId":3,"events":[{"kind":"TYPING","userId":7,"value":1,"expiresAt":1760000000000}]}
+ * - DM은 참여자 두 명(recipients)의 세션에만 전달
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChatEphemeralFrame(
+        ChatFrameType type,
+        ChatRoomType roomType,
+        Long roomId,
+        List<Long> recipients,
+        List<ChatEphemeralEvent> events
+) {
+
+    public static ChatEphemeralFrame of(ChatRoomType roomType, Long roomId, List<Long> recipients,
+                                        List<ChatEphemeralEvent> events) {
+        return new ChatEphemeralFrame(ChatFrameType.EPHEMERAL, roomType, roomId, recipients, events);
+    }
+}
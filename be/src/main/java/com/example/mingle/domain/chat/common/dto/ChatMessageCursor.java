@@ -0,0 +1,38 @@
+package com.example.mingle.domain.chat.common.dto;
+
+import com.example.mingle.global.exception.ApiException;
+import com.example.mingle.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 채팅 메시지 페이징 커서 (createdAt, id)
+ * - 같은 시각에 저장된 메시지도 id로 구분되므로 누락/중복 없이 다음 페이지 조회
+ * - 클라이언트에는 내부 구조를 숨긴 불투명 토큰(Base64URL)으로 전달
+ */
+public record ChatMessageCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰 → 커서 (형식이 잘못되면 400)
+     */
+    public static ChatMessageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            return new ChatMessageCursor(
+                    LocalDateTime.parse(raw.substring(0, split)),
+                    Long.parseLong(raw.substring(split + 1)));
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCode.INVALID_CHAT_CURSOR);
+        }
+    }
+}
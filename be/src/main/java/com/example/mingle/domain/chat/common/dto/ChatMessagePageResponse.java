@@ -0,0 +1,26 @@
+package com.example.mingle.domain.chat.common.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 채팅 메시지 페이지 응답 (그룹/DM 공용)
+ * - messages: 최신순 메시지 목록
+ * - nextCursor: 다음(더 오래된) 페이지 요청 시 cursor 파라미터로 그대로 전달 (없으면 null)
+ */
+public record ChatMessagePageResponse<T>(
+        List<T> messages,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * size + 1개까지 조회한 결과로 페이지 생성 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <T> ChatMessagePageResponse<T> of(List<T> rows, int size, Function<T, ChatMessageCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new ChatMessagePageResponse<>(rows, null, false);
+        }
+        List<T> page = rows.subList(0, size);
+        return new ChatMessagePageResponse<>(page, cursorOf.apply(page.get(size - 1)).encode(), true);
+    }
+}
@@ -15,11 +15,17 @@ import java.time.LocalDateTime;
  * - 그룹/DM 공용
  * - 저장 및 전송 시 사용
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @NoArgsConstructor
 public class ChatMessagePayload {
 
+    /**
+     * 서버가 메시지 접수 시 부여하는 메시지 ID (클라이언트 전송 시에는 비워둠)
+     * - DB 저장 전에 브로드캐스트되므로 이 값이 곧 저장될 row의 PK
+     */
+    private Long messageId;
+
     @NotNull(message = "roomId는 필수입니다.")
     private Long roomId;       // 메시지를 보낼 채팅방 ID
 
@@ -43,7 +49,8 @@ public class ChatMessagePayload {
     @NotNull(message = "메시지 생성 시각은 필수입니다.")
     private LocalDateTime createdAt; // 메시지 생성 시각 (프론트 or 서버 기준)
 
-    public ChatMessagePayload(Long roomId, Long senderId, Long receiverId, String content, MessageFormat format, ChatRoomType roomType, LocalDateTime createdAt) {
+    public ChatMessagePayload(Long messageId, Long roomId, Long senderId, Long receiverId, String content, MessageFormat format, ChatRoomType roomType, LocalDateTime createdAt) {
+        this.messageId = messageId;
         this.roomId = roomId;
         this.senderId = senderId;
         this.receiverId = receiverId;
@@ -0,0 +1,13 @@
+package com.example.mingle.domain.chat.common.dto;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 검색 결과 (관련도 → 최신순)
+ * - messages: roomType/roomId로 어느 방의 메시지인지 구분 (그룹/DM 공용)
+ */
+public record ChatMessageSearchResponse(
+        List<ChatMessagePayload> messages,
+        int page,
+        boolean hasNext
+) {}
@@ -0,0 +1,18 @@
+package com.example.mingle.domain.chat.common.dto;
+
+import com.example.mingle.domain.chat.common.dispatch.ChatRateLimiter;
+import com.example.mingle.domain.chat.common.enums.ChatFrameType;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+
+/**
+ * 서버 → 클라이언트 속도 제한 거부 프레임
+ * - 예: {"type":"RATE_LIMITED","roomId":3,"roomType":"GROUP","scope":"USER","retryAfterMs":180}
+ * - scope=USER: 이 유저가 너무 빨리 보냄 / ROOM: 이 채팅방에 너무 빨리 보냄 / GLOBAL: 서버 전체 수신 상한 (잠시 후 재시도)
+ */
+public record ChatRateLimitFrame(ChatFrameType type, Long roomId, ChatRoomType roomType,
+                                 ChatRateLimiter.Scope scope, long retryAfterMs) {
+
+    public static ChatRateLimitFrame of(Long roomId, ChatRoomType roomType, ChatRateLimiter.Verdict verdict) {
+        return new ChatRateLimitFrame(ChatFrameType.RATE_LIMITED, roomId, roomType, verdict.scope(), verdict.retryAfterMs());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.mingle.domain.chat.common.dto;
+
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+
+/**
+ * 읽음 커서 변경 이벤트 (노드 간 동기화용)
+ */
+public record ChatReadEvent(
+        ChatRoomType roomType,
+        Long roomId,
+        Long userId,
+        Long lastReadMessageId,
+        long readCount
+) {}
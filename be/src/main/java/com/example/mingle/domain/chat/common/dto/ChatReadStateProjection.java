@@ -0,0 +1,18 @@
+package com.example.mingle.domain.chat.common.dto;
+
+/**
+ * 기존 isRead 플래그 기준 유저별 읽음 상태 집계 (읽음 커서가 없을 때 백필용)
+ * - unreadCount / firstUnreadId: 기존 안 읽은 수 기준 (DM: 받은 메시지 중 미확인, 그룹: 남이 보낸 미확인 메시지)
+ */
+public interface ChatReadStateProjection {
+
+    Long getRoomId();
+
+    Long getMessageCount();
+
+    Long getUnreadCount();
+
+    Long getFirstUnreadId();
+
+    Long getLastMessageId();
+}
@@ -0,0 +1,13 @@
+package com.example.mingle.domain.chat.common.dto;
+
+/**
+ * 메시지 테이블에서 방별 누적 메시지 수를 집계한 결과 (chat_room_counter 행이 없을 때 초기화용)
+ */
+public interface ChatRoomCountProjection {
+
+    Long getRoomId();
+
+    Long getMessageCount();
+
+    Long getLastMessageId();
+}
@@ -0,0 +1,47 @@
+package com.example.mingle.domain.chat.common.entity;
+
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 유저별 채팅방 읽음 커서
+ * - 그룹 메시지의 공용 isRead 플래그 대신 (방, 유저) 단위로 마지막으로 읽은 위치를 기록
+ * - readCount: 읽음 처리 시점의 채팅방 누적 메시지 수 → 안 읽은 수 = 방 누적 수 - readCount
+ * - 메모리 상의 커서를 write-behind로 주기적으로 upsert (ChatReadCursorService)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@SuperBuilder
+@Table(
+        name = "chat_read_cursor",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_read_cursor_room_user",
+                columnNames = {"room_type", "room_id", "user_id"}
+        ),
+        indexes = @Index(name = "idx_read_cursor_user", columnList = "user_id, room_type, room_id")
+)
+public class ChatReadCursor extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "room_type", nullable = false, length = 20)
+    private ChatRoomType roomType;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 마지막으로 읽은 메시지 ID
+    @Column(name = "last_read_message_id", nullable = false)
+    private Long lastReadMessageId;
+
+    // 읽음 처리 시점의 채팅방 누적 메시지 수
+    @Column(name = "read_count", nullable = false)
+    private Long readCount;
+}
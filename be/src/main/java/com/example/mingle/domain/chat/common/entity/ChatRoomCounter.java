@@ -0,0 +1,40 @@
+package com.example.mingle.domain.chat.common.entity;
+
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 채팅방 누적 메시지 수 스냅샷
+ * - 기준값은 ChatRoomCounterStore (접수 시 +1), 이 테이블은 write-behind로 저장하는 백업
+ * - 저장소에 방 값이 없을 때(Redis 초기화 등) 이 값과 메시지 테이블 집계 중 큰 값으로 seed
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@SuperBuilder
+@Table(
+        name = "chat_room_counter",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_room_counter_room",
+                columnNames = {"room_type", "room_id"}
+        )
+)
+public class ChatRoomCounter extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "room_type", nullable = false, length = 20)
+    private ChatRoomType roomType;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "message_count", nullable = false)
+    private Long messageCount;
+
+    @Column(name = "last_message_id", nullable = false)
+    private Long lastMessageId;
+}
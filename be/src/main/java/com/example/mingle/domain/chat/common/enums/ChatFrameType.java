@@ -0,0 +1,18 @@
+package com.example.mingle.domain.chat.common.enums;
+
+/**
+ * WebSocket 제어 프레임 타입
+ * - 채팅 메시지(ChatMessagePayload)와 구분하기 위해 JSON에 "type" 필드로 전달됨
+ */
+public enum ChatFrameType {
+    SUBSCRIBE,   // 채팅방 구독 (해당 방 브로드캐스트 수신 시작)
+    UNSUBSCRIBE, // 채팅방 구독 해제
+    READ_ACK,    // 읽음 처리 (messageId까지 읽음, 방 참여자에게 실시간 읽음 표시도 전달)
+    TYPING,      // 입력 중 여부 (typing, 저장하지 않음)
+    RELOAD,      // 서버 → 클라이언트: 놓친 메시지가 너무 많아 재전송 대신 REST로 다시 불러와야 함
+    PRESENCE_SUBSCRIBE,   // 유저 활동 상태 구독 (userIds)
+    PRESENCE_UNSUBSCRIBE, // 유저 활동 상태 구독 해제 (userIds 없으면 전체)
+    PRESENCE,    // 서버 → 클라이언트: 구독한 유저의 활동 상태 변경분
+    RATE_LIMITED, // 서버 → 클라이언트: 전송 속도 제한으로 메시지 거부 (retryAfterMs 후 재전송)
+    EPHEMERAL    // 서버 → 클라이언트: 입력 중 / 실시간 읽음 이벤트 묶음
+}
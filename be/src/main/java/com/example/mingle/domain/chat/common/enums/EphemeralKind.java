@@ -0,0 +1,9 @@
+package com.example.mingle.domain.chat.common.enums;
+
+/**
+ * 저장하지 않는 실시간 이벤트 종류 (EPHEMERAL 프레임)
+ */
+public enum EphemeralKind {
+    TYPING, // 입력 중 여부 (value: 1 = 입력 중, 0 = 멈춤)
+    READ    // 실시간 읽음 표시 (value: 마지막으로 읽은 메시지 ID)
+}
@@ -0,0 +1,154 @@
+package com.example.mingle.domain.chat.common.persistence;
+
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 대기 메시지를 multi-row INSERT 한 번으로 저장하는 JDBC 작성기
+ * - IDENTITY 키 때문에 Hibernate는 insert 배치를 못 하므로 JdbcTemplate로 직접 작성
+ * - ID를 명시적으로 넣음. 키 중복은 오류로 처리 (덮어쓰거나 무시하면 다른 메시지가 조용히 사라짐)
+ *   단, 재시도/스필 재처리로 이미 저장된 같은 메시지(ID + 보낸 사람 + 채팅방 일치)는 저장된 것으로 간주
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageBatchWriter {
+
+    private static final String GROUP_INSERT_PREFIX =
+            "INSERT INTO group_chat_message " +
+            "(id, chat_room_id, sender_id, format, content, is_read, created_at, updated_at) VALUES ";
+    private static final String GROUP_ROW = "(?, ?, ?, ?, ?, false, ?, ?)";
+
+    private static final String DM_INSERT_PREFIX =
+            "INSERT INTO dm_chat_message " +
+            "(id, dm_room_id, sender_id, receiver_id, format, content, is_read, created_at, updated_at) VALUES ";
+    private static final String DM_ROW = "(?, ?, ?, ?, ?, ?, false, ?, ?)";
+
+    private static final String GROUP_EXISTING =
+            "SELECT id, sender_id, chat_room_id FROM group_chat_message WHERE id IN ";
+    private static final String DM_EXISTING =
+            "SELECT id, sender_id, dm_room_id FROM dm_chat_message WHERE id IN ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 그룹/DM 메시지를 테이블별로 나눠 한 트랜잭션에서 저장
+     * - 키 중복 시 이미 저장된 같은 메시지만 빼고 다시 저장, 다른 메시지와 ID가 겹치면 DuplicateKeyException
+     */
+    public void write(List<PendingChatMessage> batch) {
+        if (batch.isEmpty()) return;
+
+        try {
+            insert(batch);
+        } catch (DuplicateKeyException e) {
+            List<PendingChatMessage> remaining = excludeAlreadyStored(batch);
+            if (remaining.size() == batch.size()) {
+                throw e;
+            }
+            insert(remaining);
+        }
+    }
+
+    private void insert(List<PendingChatMessage> batch) {
+        if (batch.isEmpty()) return;
+
+        Map<ChatRoomType, List<PendingChatMessage>> byType = batch.stream()
+                .collect(Collectors.groupingBy(PendingChatMessage::roomType));
+
+        // hikari auto-commit=false 환경이므로 트랜잭션 안에서 실행해야 커밋됨
+        transactionTemplate.executeWithoutResult(status -> {
+            List<PendingChatMessage> group = byType.get(ChatRoomType.GROUP);
+            if (group != null) {
+                insertGroup(group);
+            }
+            List<PendingChatMessage> dm = byType.get(ChatRoomType.DIRECT);
+            if (dm != null) {
+                insertDm(dm);
+            }
+        });
+    }
+
+    private void insertGroup(List<PendingChatMessage> messages) {
+        List<Object> args = new ArrayList<>(messages.size() * 7);
+        for (PendingChatMessage m : messages) {
+            Timestamp createdAt = Timestamp.valueOf(m.createdAt());
+            args.add(m.id());
+            args.add(m.roomId());
+            args.add(m.senderId());
+            args.add(m.format().name());
+            args.add(m.content());
+            args.add(createdAt);
+            args.add(createdAt);
+        }
+        jdbcTemplate.update(GROUP_INSERT_PREFIX + rows(GROUP_ROW, messages.size()), args.toArray());
+    }
+
+    private void insertDm(List<PendingChatMessage> messages) {
+        List<Object> args = new ArrayList<>(messages.size() * 8);
+        for (PendingChatMessage m : messages) {
+            Timestamp createdAt = Timestamp.valueOf(m.createdAt());
+            args.add(m.id());
+            args.add(m.roomId());
+            args.add(m.senderId());
+            args.add(m.receiverId());
+            args.add(m.format().name());
+            args.add(m.content());
+            args.add(createdAt);
+            args.add(createdAt);
+        }
+        jdbcTemplate.update(DM_INSERT_PREFIX + rows(DM_ROW, messages.size()), args.toArray());
+    }
+
+    /**
+     * 이미 DB에 있는 ID 중 같은 메시지(재전송분)는 제외한 목록 반환
+     * - 같은 ID인데 보낸 사람/채팅방이 다르면 노드 ID 충돌 → 저장하지 않고 오류
+     */
+    private List<PendingChatMessage> excludeAlreadyStored(List<PendingChatMessage> batch) {
+        Map<Long, long[]> existing = new HashMap<>();
+        for (ChatRoomType type : ChatRoomType.values()) {
+            List<Object> ids = batch.stream()
+                    .filter(m -> m.roomType() == type)
+                    .map(m -> (Object) m.id())
+                    .toList();
+            if (ids.isEmpty()) continue;
+
+            String sql = (type == ChatRoomType.GROUP ? GROUP_EXISTING : DM_EXISTING)
+                    + "(" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+            jdbcTemplate.query(sql, rs -> {
+                existing.put(rs.getLong(1), new long[]{rs.getLong(2), rs.getLong(3)});
+            }, ids.toArray());
+        }
+
+        List<PendingChatMessage> remaining = new ArrayList<>(batch.size());
+        for (PendingChatMessage m : batch) {
+            long[] row = existing.get(m.id());
+            if (row == null) {
+                remaining.add(m);
+            } else if (!Objects.equals(row[0], m.senderId()) || !Objects.equals(row[1], m.roomId())) {
+                log.error("채팅 메시지 ID 충돌 - chat.node-id 중복 설정 확인 필요: id={}", m.id());
+                throw new DuplicateKeyException("채팅 메시지 ID 충돌: id=" + m.id());
+            }
+        }
+        return remaining;
+    }
+
+    // "(?, ...), (?, ...), ..." 형태의 VALUES 절 생성
+    private static String rows(String row, int count) {
+        return String.join(", ", Collections.nCopies(count, row));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.mingle.domain.chat.common.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 ID(시퀀스 번호) 발급기
+ * - DB IDENTITY 키를 기다리지 않고 수신 즉시 ID를 부여해야 write-behind 저장이 가능
+ * - 구성: [41bit 밀리초 타임스탬프][5bit 노드 ID][7bit 노드 내 시퀀스] = 53bit
+ *   → 노드 간 충돌 없음 + 시간 순 정렬 (기존 AUTO_INCREMENT ID보다 항상 큼)
+ * - 웹 클라이언트가 JSON.parse로 숫자 그대로 받으므로 JS 안전 정수(2^53 - 1) 이하로 유지
+ *   (노드 최대 32대, 노드당 밀리초 128개 = 초당 12.8만 건)
+ * - 노드 ID는 chat.node-id로 노드마다 다르게 지정해야 함 (미설정/범위 밖이면 기동 실패)
+ *   → 같은 ID를 쓰는 노드가 둘이면 메시지 ID가 겹쳐 저장 시 키 충돌이 남
+ */
+@Slf4j
+@Component
+public class ChatMessageIdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1735689600000L;
+
+    private static final int TIMESTAMP_BITS = 41;
+    private static final int NODE_BITS = 5;
+    private static final int SEQUENCE_BITS = 7;
+    private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public ChatMessageIdGenerator(@Value("${chat.node-id}") long configuredNodeId) {
+        if (configuredNodeId < 0 || configuredNodeId > MAX_NODE_ID) {
+            throw new IllegalStateException(
+                    "chat.node-id는 0~" + MAX_NODE_ID + " 범위의 노드별 고유 값이어야 합니다: " + configuredNodeId);
+        }
+        this.nodeId = configuredNodeId;
+        log.info("채팅 메시지 ID 발급기 초기화: nodeId={}", nodeId);
+    }
+
+    /**
+     * 다음 메시지 ID 발급
+     * - 같은 밀리초 안에서 128개를 넘으면 다음 밀리초까지 대기
+     * - 시계가 뒤로 가면 마지막 타임스탬프를 계속 사용해 단조 증가 유지
+     */
+    public synchronized long nextId() {
+        long now = Math.max(System.currentTimeMillis(), lastTimestamp);
+
+        if (now == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                while (now <= lastTimestamp) {
+                    Thread.onSpinWait();
+                    now = System.currentTimeMillis();
+                }
+            }
+        } else {
+            sequence = 0L;
+        }
+
+        lastTimestamp = now;
+        long elapsed = now - EPOCH_MILLIS;
+        if (elapsed > MAX_TIMESTAMP) {
+            // 2094년 이후 → 53bit를 넘어 클라이언트에서 반올림되므로 발급 중단
+            throw new IllegalStateException("채팅 메시지 ID 타임스탬프 범위 초과");
+        }
+        return (elapsed << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+}
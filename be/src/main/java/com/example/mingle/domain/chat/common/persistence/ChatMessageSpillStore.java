@@ -0,0 +1,113 @@
+package com.example.mingle.domain.chat.common.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DB 저장에 실패한 메시지를 보관하는 로컬 스필 파일
+ * - JSON Lines 형식으로 append + fsync → 프로세스가 죽어도 유실되지 않음
+ * - 재처리 시 파일을 .replay로 옮겨서 읽기 때문에, 재처리 중 새 스필과 섞이지 않음
+ * - 다시 시도해도 저장할 수 없는 메시지(길이 초과, ID 충돌 등)는 dead-letter 파일로 격리 (수동 확인용, 재처리 안 함)
+ */
+@Slf4j
+@Component
+public class ChatMessageSpillStore {
+
+    private final ObjectMapper objectMapper;
+    private final Path spillFile;
+    private final Path replayFile;
+    private final Path deadLetterFile;
+
+    public ChatMessageSpillStore(ObjectMapper objectMapper,
+                                 @Value("${chat.persistence.spill-dir:${java.io.tmpdir}/mingle-chat-spill}") String spillDir) throws IOException {
+        this.objectMapper = objectMapper;
+        Path dir = Path.of(spillDir);
+        Files.createDirectories(dir);
+        this.spillFile = dir.resolve("chat-messages.jsonl");
+        this.replayFile = dir.resolve("chat-messages.jsonl.replay");
+        this.deadLetterFile = dir.resolve("chat-messages.dead.jsonl");
+    }
+
+    /**
+     * 메시지 묶음을 스필 파일 끝에 기록
+     */
+    public synchronized void append(List<PendingChatMessage> messages) throws IOException {
+        write(spillFile, messages);
+    }
+
+    /**
+     * 저장할 수 없는 메시지를 dead-letter 파일 끝에 기록
+     */
+    public synchronized void appendDeadLetter(List<PendingChatMessage> messages) throws IOException {
+        write(deadLetterFile, messages);
+    }
+
+    private void write(Path file, List<PendingChatMessage> messages) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (PendingChatMessage message : messages) {
+            sb.append(objectMapper.writeValueAsString(message)).append('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * 재처리할 스필 메시지를 꺼냄
+     * - 이전 재처리가 중단돼 .replay 파일이 남아 있으면 그것부터 처리
+     */
+    public synchronized List<PendingChatMessage> beginReplay() throws IOException {
+        if (!Files.exists(replayFile)) {
+            if (!Files.exists(spillFile)) {
+                return List.of();
+            }
+            Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        List<PendingChatMessage> messages = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                try {
+                    messages.add(objectMapper.readValue(line, PendingChatMessage.class));
+                } catch (IOException e) {
+                    // 기록 도중 종료되어 잘린 마지막 줄 등은 건너뜀
+                    log.warn("스필 파일의 손상된 줄 무시: {}", line);
+                }
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * 재처리 완료(ack) → .replay 파일 삭제
+     */
+    public synchronized void completeReplay() throws IOException {
+        Files.deleteIfExists(replayFile);
+    }
+
+    public boolean hasPending() {
+        return Files.exists(spillFile) || Files.exists(replayFile);
+    }
+}
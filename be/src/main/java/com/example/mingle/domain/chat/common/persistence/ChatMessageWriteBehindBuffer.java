@@ -0,0 +1,287 @@
+package com.example.mingle.domain.chat.common.persistence;
+
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 write-behind 저장 파이프라인
+ * - accept(): 메시지 ID(시퀀스)와 서버 시각을 부여하고 큐에 넣은 뒤 즉시 반환 → 호출자는 바로 브로드캐스트
+ * - 전용 flusher 스레드가 batchSize개가 모이거나 flushInterval이 지나면 multi-row INSERT로 저장
+ * - 저장 실패 시 maxRetries만큼 재시도 후 로컬 스필 파일에 기록, 주기적으로 재처리
+ *   (이미 저장된 같은 메시지는 작성기가 걸러내므로 재처리가 중복 저장을 만들지 않음 → 스필 파일 삭제가 곧 ack)
+ * - 데이터 문제(길이 초과, ID 충돌 등)로 배치가 실패하면 한 건씩 저장하고, 실패한 메시지만 dead-letter 파일로 격리
+ *   → 메시지 하나 때문에 배치 전체가 스필 파일에서 영원히 재시도되는 일을 막음
+ * - 접수 후 아직 DB에 없는 메시지는 getUnflushed()로 조회 가능 (재접속 재전송 / 최신 메시지 캐시 워밍 시 병합)
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindBuffer {
+
+    private final ChatMessageIdGenerator idGenerator;
+    private final ChatMessageBatchWriter batchWriter;
+    private final ChatMessageSpillStore spillStore;
+
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxRetries;
+
+    private final BlockingQueue<PendingChatMessage> queue;
+    // 접수했지만 아직 저장되지 않은 메시지 (큐 + flusher가 꺼내서 저장 중인 배치), ID 순
+    private final ConcurrentSkipListMap<Long, PendingChatMessage> unflushed = new ConcurrentSkipListMap<>();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final Counter flushedCounter;
+    private final Counter spilledCounter;
+    private final Counter lostCounter;
+    private final Counter deadLetteredCounter;
+
+    public ChatMessageWriteBehindBuffer(ChatMessageIdGenerator idGenerator,
+                                        ChatMessageBatchWriter batchWriter,
+                                        ChatMessageSpillStore spillStore,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${chat.persistence.batch-size:200}") int batchSize,
+                                        @Value("${chat.persistence.flush-interval-ms:50}") long flushIntervalMillis,
+                                        @Value("${chat.persistence.max-retries:3}") int maxRetries,
+                                        @Value("${chat.persistence.queue-capacity:50000}") int queueCapacity) {
+        this.idGenerator = idGenerator;
+        this.batchWriter = batchWriter;
+        this.spillStore = spillStore;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxRetries = maxRetries;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.flusher = new Thread(this::runFlushLoop, "chat-write-behind");
+
+        Gauge.builder("chat.persistence.pending", queue, BlockingQueue::size)
+                .description("DB 저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        this.flushedCounter = meterRegistry.counter("chat.persistence.flushed");
+        this.spilledCounter = meterRegistry.counter("chat.persistence.spilled");
+        this.lostCounter = meterRegistry.counter("chat.persistence.lost");
+        this.deadLetteredCounter = meterRegistry.counter("chat.persistence.dead-lettered");
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.start();
+    }
+
+    /**
+     * 메시지 접수: ID + 서버 시각 부여 → 저장 큐에 적재
+     * @return 브로드캐스트에 사용할 (messageId가 채워진) payload
+     */
+    public ChatMessagePayload accept(ChatMessagePayload payload, ChatRoomType roomType) {
+        ChatMessagePayload accepted = payload.toBuilder()
+                .messageId(idGenerator.nextId())
+                .roomType(roomType)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        PendingChatMessage pending = PendingChatMessage.of(accepted, roomType);
+        unflushed.put(pending.id(), pending);
+        if (!queue.offer(pending)) {
+            // 큐가 가득 참 = DB가 밀리는 중 → 메모리 대신 스필 파일로
+            spill(List.of(pending));
+        }
+        return accepted;
+    }
+
+    private void runFlushLoop() {
+        List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+
+        // 인터럽트로 빠져나온 경우 남은 메시지 처리
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    // 첫 메시지를 기다린 뒤, batchSize가 차거나 flushInterval이 지날 때까지 모음
+    private void collectBatch(List<PendingChatMessage> batch) throws InterruptedException {
+        PendingChatMessage first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) return;
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) break;
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) break;
+
+            PendingChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) break;
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingChatMessage> batch) {
+        for (int attempt = 1; attempt <= maxRetries; attempt++) {
+            try {
+                batchWriter.write(batch);
+                flushedCounter.increment(batch.size());
+                markFlushed(batch);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 재시도해도 결과가 같음 → 한 건씩 저장 (도중에 DB 오류가 나면 배치 전체를 스필, 재처리 시 저장된 건은 걸러짐)
+                log.warn("채팅 메시지 배치 저장 실패 (데이터 오류), 한 건씩 저장: size={}, error={}",
+                        batch.size(), e.getMessage());
+                try {
+                    writeEach(batch);
+                } catch (Exception ex) {
+                    spill(batch);
+                }
+                return;
+            } catch (Exception e) {
+                log.warn("채팅 메시지 배치 저장 실패 ({}/{}): size={}, error={}",
+                        attempt, maxRetries, batch.size(), e.getMessage());
+                if (!backoff(attempt)) break;
+            }
+        }
+        spill(batch);
+    }
+
+    // 재시도 간격: 100ms, 200ms, 300ms ... (종료 중이면 바로 스필)
+    private boolean backoff(int attempt) {
+        if (!running) return false;
+        try {
+            Thread.sleep(100L * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 한 건씩 저장, 데이터 오류로 실패한 메시지는 dead-letter 파일로 격리
+     * - DB 장애 등 그 외 오류와 dead-letter 기록 실패는 그대로 던짐 (호출자가 스필/재시도)
+     */
+    private void writeEach(List<PendingChatMessage> messages) throws IOException {
+        List<PendingChatMessage> rejected = new ArrayList<>();
+        int written = 0;
+        for (PendingChatMessage message : messages) {
+            try {
+                batchWriter.write(List.of(message));
+                written++;
+                unflushed.remove(message.id());
+            } catch (DataIntegrityViolationException e) {
+                log.error("저장할 수 없는 채팅 메시지를 dead-letter로 이동: id={}, roomType={}, roomId={}, error={}",
+                        message.id(), message.roomType(), message.roomId(), e.getMessage());
+                rejected.add(message);
+            }
+        }
+        flushedCounter.increment(written);
+
+        if (!rejected.isEmpty()) {
+            spillStore.appendDeadLetter(rejected);
+            deadLetteredCounter.increment(rejected.size());
+            markFlushed(rejected);
+        }
+    }
+
+    // 저장 완료(또는 격리)된 메시지를 미저장 목록에서 제거
+    private void markFlushed(List<PendingChatMessage> messages) {
+        for (PendingChatMessage message : messages) {
+            unflushed.remove(message.id());
+        }
+    }
+
+    private void spill(List<PendingChatMessage> messages) {
+        try {
+            spillStore.append(List.copyOf(messages));
+            spilledCounter.increment(messages.size());
+            // 스필된 메시지는 파일이 보관 (DB 장애 중이라 어차피 조회 불가) → 메모리에서 제거해 무한 증가 방지
+            markFlushed(messages);
+            log.warn("채팅 메시지 {}건을 스필 파일에 기록", messages.size());
+        } catch (IOException e) {
+            lostCounter.increment(messages.size());
+            markFlushed(messages);
+            log.error("스필 파일 기록 실패 - 메시지 유실: size={}", messages.size(), e);
+        }
+    }
+
+    /**
+     * 스필 파일 재처리
+     * - 전부 저장(또는 dead-letter 격리)해야 파일 삭제(ack), DB 오류로 중단되면 다음 주기에 파일 전체를 다시 시도
+     */
+    @Scheduled(initialDelay = 5000, fixedDelayString = "${chat.persistence.replay-interval-ms:10000}")
+    public void replaySpilled() {
+        if (!spillStore.hasPending()) return;
+
+        try {
+            List<PendingChatMessage> messages = spillStore.beginReplay();
+            for (int from = 0; from < messages.size(); from += batchSize) {
+                List<PendingChatMessage> chunk = messages.subList(from, Math.min(from + batchSize, messages.size()));
+                try {
+                    batchWriter.write(chunk);
+                    flushedCounter.increment(chunk.size());
+                } catch (DataIntegrityViolationException e) {
+                    writeEach(chunk);
+                }
+            }
+            spillStore.completeReplay();
+            log.info("스필 파일 재처리 완료: {}건", messages.size());
+        } catch (Exception e) {
+            log.warn("스필 파일 재처리 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 채팅방의 아직 저장되지 않은 메시지 중 afterId 이후 것 (오래된 순)
+     * - 이 노드가 접수한 메시지만 해당, DB 조회 결과와 병합해서 사용 (저장 직후엔 양쪽에 있을 수 있으므로 ID로 중복 제거)
+     */
+    public List<ChatMessagePayload> getUnflushed(ChatRoomType roomType, Long roomId, long afterId) {
+        List<ChatMessagePayload> messages = new ArrayList<>();
+        for (PendingChatMessage pending : unflushed.tailMap(afterId, false).values()) {
+            if (pending.roomType() == roomType && Objects.equals(pending.roomId(), roomId)) {
+                messages.add(pending.toPayload());
+            }
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.mingle.domain.chat.common.persistence;
+
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.domain.chat.common.enums.MessageFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * write-behind 큐에 대기 중인 메시지 1건
+ * - 그룹/DM 공용 (roomType으로 저장 테이블 구분)
+ * - 스필 파일에 JSON 한 줄로 기록됨
+ */
+public record PendingChatMessage(
+        Long id,                 // ChatMessageIdGenerator가 발급한 메시지 ID
+        ChatRoomType roomType,   // GROUP → group_chat_message, DIRECT → dm_chat_message
+        Long roomId,
+        Long senderId,
+        Long receiverId,         // DM일 때만 사용
+        MessageFormat format,
+        String content,
+        LocalDateTime createdAt
+) {
+    public static PendingChatMessage of(ChatMessagePayload payload, ChatRoomType roomType) {
+        return new PendingChatMessage(
+                payload.getMessageId(),
+                roomType,
+                payload.getRoomId(),
+                payload.getSenderId(),
+                payload.getReceiverId(),
+                payload.getFormat(),
+                payload.getContent(),
+                payload.getCreatedAt()
+        );
+    }
+
+    public ChatMessagePayload toPayload() {
+        return ChatMessagePayload.builder()
+                .messageId(id)
+                .roomId(roomId)
+                .senderId(senderId)
+                .receiverId(receiverId)
+                .content(content)
+                .format(format)
+                .roomType(roomType)
+                .createdAt(createdAt)
+                .build();
+    }
+}
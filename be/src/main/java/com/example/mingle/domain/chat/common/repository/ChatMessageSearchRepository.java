@@ -0,0 +1,76 @@
+package com.example.mingle.domain.chat.common.repository;
+
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.domain.chat.common.enums.MessageFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 채팅 메시지 본문 검색 (그룹 + DM, FULLTEXT ngram 인덱스)
+ * - MATCH ... AGAINST로 인덱스에서 후보를 찾고 방 ID로 접근 범위 제한
+ * - 정렬: 관련도 → 최신순
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageSearchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ChatMessagePayload> search(String booleanQuery,
+                                           Collection<Long> groupRoomIds,
+                                           Collection<Long> dmRoomIds,
+                                           int limit, int offset) {
+        List<String> parts = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+
+        if (!groupRoomIds.isEmpty()) {
+            parts.add(select("group_chat_message", "chat_room_id", ChatRoomType.GROUP, groupRoomIds.size()));
+            addArgs(args, booleanQuery, groupRoomIds);
+        }
+        if (!dmRoomIds.isEmpty()) {
+            parts.add(select("dm_chat_message", "dm_room_id", ChatRoomType.DIRECT, dmRoomIds.size()));
+            addArgs(args, booleanQuery, dmRoomIds);
+        }
+        if (parts.isEmpty()) return List.of();
+
+        String sql = String.join(" UNION ALL ", parts) +
+                " ORDER BY score DESC, created_at DESC, id DESC LIMIT ? OFFSET ?";
+        args.add(limit);
+        args.add(offset);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> ChatMessagePayload.builder()
+                        .messageId(rs.getLong("id"))
+                        .roomId(rs.getLong("room_id"))
+                        .senderId(rs.getLong("sender_id"))
+                        .content(rs.getString("content"))
+                        .format(MessageFormat.valueOf(rs.getString("format")))
+                        .roomType(ChatRoomType.valueOf(rs.getString("room_type")))
+                        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                        .build(),
+                args.toArray());
+    }
+
+    // 본문이 의미 있는 TEXT 메시지만 (자료/시스템 메시지 제외)
+    private static String select(String table, String roomColumn, ChatRoomType roomType, int roomCount) {
+        String placeholders = String.join(", ", Collections.nCopies(roomCount, "?"));
+        return "(SELECT '" + roomType.name() + "' AS room_type, m." + roomColumn + " AS room_id, m.id, m.sender_id, " +
+                "m.content, m.format, m.created_at, MATCH(m.content) AGAINST (? IN BOOLEAN MODE) AS score " +
+                "FROM " + table + " m " +
+                "WHERE MATCH(m.content) AGAINST (? IN BOOLEAN MODE) " +
+                "AND m." + roomColumn + " IN (" + placeholders + ") " +
+                "AND m.format = '" + MessageFormat.TEXT.name() + "')";
+    }
+
+    private static void addArgs(List<Object> args, String booleanQuery, Collection<Long> roomIds) {
+        args.add(booleanQuery);
+        args.add(booleanQuery);
+        args.addAll(roomIds);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.mingle.domain.chat.common.repository;
+
+import com.example.mingle.domain.chat.common.entity.ChatReadCursor;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChatReadCursorRepository extends JpaRepository<ChatReadCursor, Long> {
+
+    // 한 유저의 여러 채팅방 커서 일괄 조회 (채팅방 목록 요약용)
+    List<ChatReadCursor> findByUserIdAndRoomTypeAndRoomIdIn(Long userId, ChatRoomType roomType, Collection<Long> roomIds);
+}
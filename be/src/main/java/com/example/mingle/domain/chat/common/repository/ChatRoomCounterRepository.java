@@ -0,0 +1,16 @@
+package com.example.mingle.domain.chat.common.repository;
+
+import com.example.mingle.domain.chat.common.entity.ChatRoomCounter;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChatRoomCounterRepository extends JpaRepository<ChatRoomCounter, Long> {
+
+    // 여러 채팅방 누적 메시지 수 일괄 조회
+    List<ChatRoomCounter> findByRoomTypeAndRoomIdIn(ChatRoomType roomType, Collection<Long> roomIds);
+}
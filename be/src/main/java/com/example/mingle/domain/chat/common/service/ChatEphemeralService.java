@@ -0,0 +1,212 @@
+package com.example.mingle.domain.chat.common.service;
+
+import com.example.mingle.domain.chat.common.cluster.ChatClusterBus;
+import com.example.mingle.domain.chat.common.dto.ChatEphemeralEvent;
+import com.example.mingle.domain.chat.common.dto.ChatEphemeralFrame;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.domain.chat.common.enums.EphemeralKind;
+import com.example.mingle.domain.chat.dm.cache.DmRoomCache;
+import com.example.mingle.global.websocket.WebSocketMessageSender;
+import com.example.mingle.global.websocket.WebSocketSessionManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장하지 않는 실시간 이벤트 채널 (입력 중 표시, 실시간 읽음 표시)
+ * - 수신 스레드에서 바로 처리: 검증기 / 채팅방 레인 / 저장소를 거치지 않고 메모리 작업만
+ * - (채팅방, 유저, 종류)별 마지막 값만 보관 (TYPING은 마지막 값, READ는 큰 값) → flush-interval-ms마다
+ *   채팅방 단위로 모아 프레임 1개로 발행 → 빠르게 여러 번 보내도 주기당 1건
+ * - 이벤트마다 만료 시각(TTL)이 있어 늦게 도착한 이벤트는 전달하지 않음
+ * - 전달 범위: 그룹은 그 방을 구독한 세션, DM은 참여자 두 명 (보낸 사람도 그 방 구독자/참여자여야 함)
+ *   DM 참여자는 DM 방 캐시에 이미 있는 값만 사용 (DM 구독 시 캐시에 올라감, 여기서는 DB 조회 없음)
+ * - 다른 노드 포함 모든 노드가 버스에서 받은 뒤 자기 세션에 전달
+ * - 지표: chat.ephemeral.events / coalesced / expired / rejected / frames, chat.ephemeral.pending
+ */
+@Slf4j
+@Service
+public class ChatEphemeralService {
+
+    private final WebSocketSessionManager sessionManager;
+    private final WebSocketMessageSender messageSender;
+    private final ChatClusterBus clusterBus;
+    private final ObjectMapper objectMapper;
+    private final DmRoomCache dmRoomCache;
+    private final long typingTtlMs;
+    private final long readTtlMs;
+
+    // 아직 발행하지 않은 이벤트 (키별 마지막 값)
+    private final Map<EventKey, ChatEphemeralEvent> pending = new ConcurrentHashMap<>();
+
+    private final Counter acceptedCounter;
+    private final Counter coalescedCounter;
+    private final Counter expiredCounter;
+    private final Counter rejectedCounter;
+    private final Counter frameCounter;
+
+    public ChatEphemeralService(WebSocketSessionManager sessionManager,
+                                WebSocketMessageSender messageSender,
+                                ChatClusterBus clusterBus,
+                                ObjectMapper objectMapper,
+                                DmRoomCache dmRoomCache,
+                                MeterRegistry meterRegistry,
+                                @Value("${chat.ephemeral.typing-ttl-ms:6000}") long typingTtlMs,
+                                @Value("${chat.ephemeral.read-ttl-ms:5000}") long readTtlMs) {
+        this.sessionManager = sessionManager;
+        this.messageSender = messageSender;
+        this.clusterBus = clusterBus;
+        this.objectMapper = objectMapper;
+        this.dmRoomCache = dmRoomCache;
+        this.typingTtlMs = typingTtlMs;
+        this.readTtlMs = readTtlMs;
+
+        this.acceptedCounter = meterRegistry.counter("chat.ephemeral.events");
+        this.coalescedCounter = meterRegistry.counter("chat.ephemeral.coalesced");
+        this.expiredCounter = meterRegistry.counter("chat.ephemeral.expired");
+        this.rejectedCounter = meterRegistry.counter("chat.ephemeral.rejected");
+        this.frameCounter = meterRegistry.counter("chat.ephemeral.frames");
+        Gauge.builder("chat.ephemeral.pending", pending, Map::size)
+                .description("발행 대기 중인 실시간 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(ChatClusterBus.EPHEMERAL_CHANNEL_PREFIX, this::onClusterEvent);
+    }
+
+    /**
+     * 입력 중 여부 (클라이언트는 TTL 안에 다시 보내서 유지, 멈추면 typing=false)
+     */
+    public void typing(WebSocketSession session, Long userId, ChatRoomType roomType, Long roomId, boolean typing) {
+        offer(session, userId, roomType, roomId, EphemeralKind.TYPING, typing ? 1 : 0, typingTtlMs);
+    }
+
+    /**
+     * 실시간 읽음 표시 (저장되는 읽음 커서와 별개로 방 참여자에게 바로 알림)
+     * - messageId는 ChatReadCursorService.markRead로 검증/보정된 값
+     */
+    public void read(WebSocketSession session, Long userId, ChatRoomType roomType, Long roomId, long messageId) {
+        if (messageId <= 0) return;
+        offer(session, userId, roomType, roomId, EphemeralKind.READ, messageId, readTtlMs);
+    }
+
+    /**
+     * 모인 이벤트를 채팅방 단위 프레임으로 발행
+     */
+    @Scheduled(fixedDelayString = "${chat.ephemeral.flush-interval-ms:150}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        Map<RoomKey, List<ChatEphemeralEvent>> byRoom = new HashMap<>();
+        for (EventKey key : pending.keySet()) {
+            // 꺼낸 뒤 들어온 값은 다음 주기에 발행
+            ChatEphemeralEvent event = pending.remove(key);
+            if (event == null) continue;
+            if (event.expiresAt() < now) {
+                expiredCounter.increment();
+                continue;
+            }
+            byRoom.computeIfAbsent(key.room(), k -> new ArrayList<>()).add(event);
+        }
+
+        byRoom.forEach(this::publish);
+    }
+
+    private void offer(WebSocketSession session, Long userId, ChatRoomType roomType, Long roomId,
+                       EphemeralKind kind, long value, long ttlMs) {
+        ChatRoomType type = roomType != null ? roomType : ChatRoomType.GROUP;
+        if (roomId == null || !canPublish(session, userId, type, roomId)) {
+            rejectedCounter.increment();
+            log.debug("실시간 이벤트 거부: userId={}, roomType={}, roomId={}, kind={}", userId, type, roomId, kind);
+            return;
+        }
+
+        ChatEphemeralEvent event = new ChatEphemeralEvent(kind, userId, value, System.currentTimeMillis() + ttlMs);
+        pending.merge(new EventKey(new RoomKey(type, roomId), userId, kind), event, (previous, next) -> {
+            coalescedCounter.increment();
+            // READ는 순서가 뒤바뀌어 도착해도 뒤로 가지 않도록 큰 값 유지
+            return kind == EphemeralKind.READ && previous.value() > next.value() ? previous : next;
+        });
+        acceptedCounter.increment();
+    }
+
+    // 그룹: 보낸 세션이 그 방을 구독 중 / DM: 확인된 참여자
+    private boolean canPublish(WebSocketSession session, Long userId, ChatRoomType roomType, Long roomId) {
+        if (roomType == ChatRoomType.DIRECT) {
+            return dmRoomCache.peekParticipants(roomId)
+                    .map(participants -> participants.isParticipant(userId))
+                    .orElse(false);
+        }
+        return sessionManager.getSubscribedRooms(session.getId()).contains(roomId);
+    }
+
+    private void publish(RoomKey room, List<ChatEphemeralEvent> events) {
+        List<Long> recipients = null;
+        if (room.roomType() == ChatRoomType.DIRECT) {
+            DmRoomCache.Participants participants = dmRoomCache.peekParticipants(room.roomId()).orElse(null);
+            if (participants == null) return;
+            recipients = List.of(participants.userAId(), participants.userBId());
+        }
+
+        try {
+            String json = objectMapper.writeValueAsString(ChatEphemeralFrame.of(room.roomType(), room.roomId(), recipients, events));
+            clusterBus.publish(ChatClusterBus.EPHEMERAL_CHANNEL_PREFIX + room.roomType().name() + ":" + room.roomId(), json);
+        } catch (Exception e) {
+            log.warn("실시간 이벤트 발행 실패: roomType={}, roomId={}", room.roomType(), room.roomId(), e);
+        }
+    }
+
+    // 버스 수신 → 이 노드의 세션에 전달 (만료된 이벤트는 제외)
+    private void onClusterEvent(String channel, String json) {
+        try {
+            ChatEphemeralFrame frame = objectMapper.readValue(json, ChatEphemeralFrame.class);
+
+            long now = System.currentTimeMillis();
+            List<ChatEphemeralEvent> live = frame.events().stream()
+                    .filter(event -> event.expiresAt() >= now)
+                    .toList();
+            if (live.isEmpty()) {
+                expiredCounter.increment(frame.events().size());
+                return;
+            }
+            if (live.size() < frame.events().size()) {
+                expiredCounter.increment(frame.events().size() - live.size());
+                json = objectMapper.writeValueAsString(
+                        ChatEphemeralFrame.of(frame.roomType(), frame.roomId(), frame.recipients(), live));
+            }
+
+            TextMessage message = new TextMessage(json);
+            if (frame.roomType() == ChatRoomType.DIRECT) {
+                if (frame.recipients() == null) return;
+                frame.recipients().forEach(userId -> messageSender.sendToUser(userId, message));
+            } else {
+                messageSender.sendToRoom(frame.roomId(), message);
+            }
+            frameCounter.increment();
+        } catch (Exception e) {
+            log.warn("실시간 이벤트 처리 실패: channel={}, error={}", channel, e.getMessage());
+        }
+    }
+
+    private record RoomKey(ChatRoomType roomType, Long roomId) {
+    }
+
+    private record EventKey(RoomKey room, Long userId, EphemeralKind kind) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.mingle.domain.chat.common.service;
+
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.dto.ChatMessageSearchResponse;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.domain.chat.common.repository.ChatMessageSearchRepository;
+import com.example.mingle.domain.chat.common.util.ChatPaging;
+import com.example.mingle.domain.chat.dm.entity.DmChatRoom;
+import com.example.mingle.domain.chat.dm.repository.DmChatRoomRepository;
+import com.example.mingle.domain.chat.group.service.GroupChatRoomService;
+import com.example.mingle.global.exception.ApiException;
+import com.example.mingle.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 본문 검색 (내가 속한 그룹 채팅방 + DM)
+ * - 검색어를 공백 기준 단어로 나누고 모든 단어를 포함한 메시지만 (단어별 구문 일치, 2글자 이상)
+ * - ngram(2글자) 인덱스라 조사가 붙은 본문도 부분 일치로 검색됨 (예: "회의록" → "회의록을 올렸습니다")
+ * - 관련도 → 최신순, 페이지 번호 방식 (최대 max-results건까지)
+ */
+@Service
+public class ChatMessageSearchService {
+
+    private static final int MAX_TERMS = 5;
+
+    private final GroupChatRoomService groupChatRoomService;
+    private final DmChatRoomRepository dmChatRoomRepository;
+    private final ChatMessageSearchRepository searchRepository;
+    private final int maxResults;
+
+    public ChatMessageSearchService(GroupChatRoomService groupChatRoomService,
+                                    DmChatRoomRepository dmChatRoomRepository,
+                                    ChatMessageSearchRepository searchRepository,
+                                    @Value("${chat.search.max-results:1000}") int maxResults) {
+        this.groupChatRoomService = groupChatRoomService;
+        this.dmChatRoomRepository = dmChatRoomRepository;
+        this.searchRepository = searchRepository;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * roomType만 주면 해당 종류의 방 전체, roomType + roomId를 주면 그 방 안에서만 검색
+     */
+    public ChatMessageSearchResponse search(Long userId, String keyword, ChatRoomType roomType, Long roomId,
+                                            Integer page, Integer size) {
+        String query = toBooleanQuery(keyword);
+        int pageSize = ChatPaging.resolveSize(size);
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        int offset = pageNumber * pageSize;
+        if (offset >= maxResults) {
+            return new ChatMessageSearchResponse(List.of(), pageNumber, false);
+        }
+
+        List<Long> groupRoomIds = roomType == ChatRoomType.DIRECT
+                ? List.of()
+                : groupChatRoomService.findMyRoomIds(userId);
+        List<Long> dmRoomIds = roomType == ChatRoomType.GROUP
+                ? List.of()
+                : dmChatRoomRepository.findByUserAIdOrUserBId(userId, userId).stream().map(DmChatRoom::getId).toList();
+
+        // 특정 방 안에서만 검색 (속한 방이 아니면 거부)
+        if (roomId != null) {
+            if (roomType == null) throw new ApiException(ErrorCode.BAD_REQUEST);
+            List<Long> myRoomIds = roomType == ChatRoomType.GROUP ? groupRoomIds : dmRoomIds;
+            if (!myRoomIds.contains(roomId)) throw new ApiException(ErrorCode.ACCESS_DENIED);
+
+            groupRoomIds = roomType == ChatRoomType.GROUP ? List.of(roomId) : List.of();
+            dmRoomIds = roomType == ChatRoomType.DIRECT ? List.of(roomId) : List.of();
+        }
+
+        // limit + 1개 조회 → 초과분이 있으면 다음 페이지 존재
+        int limit = Math.min(pageSize, maxResults - offset);
+        List<ChatMessagePayload> rows = searchRepository.search(query, groupRoomIds, dmRoomIds, limit + 1, offset);
+        boolean hasNext = rows.size() > limit && offset + limit < maxResults;
+
+        return new ChatMessageSearchResponse(rows.size() > limit ? rows.subList(0, limit) : rows, pageNumber, hasNext);
+    }
+
+    // "회의록 일정" → +"회의록" +"일정" (BOOLEAN MODE 연산자 문자는 제거)
+    private static String toBooleanQuery(String keyword) {
+        List<String> terms = keyword == null ? List.of() : Arrays.stream(keyword.trim().split("\\s+"))
+                .map(term -> term.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(term -> term.codePointCount(0, term.length()) >= 2)
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+        if (terms.isEmpty()) {
+            throw new ApiException(ErrorCode.INVALID_SEARCH_KEYWORD);
+        }
+        return terms.stream().map(term -> "+\"" + term + "\"").collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,459 @@
+package com.example.mingle.domain.chat.common.service;
+
+import com.example.mingle.domain.chat.common.cluster.ChatClusterBus;
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.dto.ChatReadEvent;
+import com.example.mingle.domain.chat.common.dto.ChatReadStateProjection;
+import com.example.mingle.domain.chat.common.dto.ChatRoomCountProjection;
+import com.example.mingle.domain.chat.common.entity.ChatReadCursor;
+import com.example.mingle.domain.chat.common.entity.ChatRoomCounter;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.domain.chat.common.persistence.ChatMessageWriteBehindBuffer;
+import com.example.mingle.domain.chat.common.repository.ChatReadCursorRepository;
+import com.example.mingle.domain.chat.common.repository.ChatRoomCounterRepository;
+import com.example.mingle.domain.chat.common.store.ChatRoomCounterStore;
+import com.example.mingle.domain.chat.common.store.ChatRoomCounterStore.RoomCount;
+import com.example.mingle.domain.chat.dm.repository.DmChatMessageRepository;
+import com.example.mingle.domain.chat.group.repository.GroupChatMessageRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 읽음 커서 + 안 읽은 메시지 수
+ * - 방마다 누적 메시지 수(messageCount)를 유저별 커서에는 읽음 시점의 누적 수(readCount)를 기록
+ * - 안 읽은 수 = messageCount - readCount → 메시지마다 수신자별 카운터를 갱신하지 않아도 됨 (그룹 멤버 수와 무관)
+ * - 누적 수는 ChatRoomCounterStore가 기준값 (메시지를 접수한 노드에서 메시지당 1회 증가, 다중 노드는 Redis)
+ *   값이 없는 방은 chat_room_counter / 메시지 테이블 집계 + 아직 저장 전 메시지로 seed
+ * - 커서는 메모리 값을 주기적으로 upsert (write-behind), 커서가 없으면 기존 isRead 상태로 백필
+ * - 읽음 처리는 클러스터 버스로 다른 노드에도 전파 (큰 값만 반영하므로 순서 무관)
+ * - 메모리 값은 캐시일 뿐 → 저장된 스냅샷은 바로, idle-seconds 동안 안 쓴 커서는 주기적으로 제거 (필요하면 DB에서 재적재)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatReadCursorService {
+
+    private static final String COUNTER_UPSERT =
+            "INSERT INTO chat_room_counter (room_type, room_id, message_count, last_message_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE message_count = GREATEST(message_count, VALUES(message_count)), " +
+            "last_message_id = GREATEST(last_message_id, VALUES(last_message_id)), updated_at = NOW()";
+
+    private static final String CURSOR_UPSERT =
+            "INSERT INTO chat_read_cursor (room_type, room_id, user_id, last_read_message_id, read_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, NOW(), NOW()) " +
+            "ON DUPLICATE KEY UPDATE last_read_message_id = GREATEST(last_read_message_id, VALUES(last_read_message_id)), " +
+            "read_count = GREATEST(read_count, VALUES(read_count)), updated_at = NOW()";
+
+    private final ChatReadCursorRepository cursorRepository;
+    private final ChatRoomCounterRepository counterRepository;
+    private final GroupChatMessageRepository groupMessageRepository;
+    private final DmChatMessageRepository dmMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatClusterBus clusterBus;
+    private final ObjectMapper objectMapper;
+    private final ChatRoomCounterStore counterStore;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+
+    @Value("${chat.read-cursor.idle-seconds:600}")
+    private long idleSeconds;
+
+    // 아직 저장 안 된 방 누적 수 (chat_room_counter 스냅샷 저장용, 기준값은 counterStore)
+    private final Map<RoomKey, RoomCount> counterSnapshots = new ConcurrentHashMap<>();
+    private final Map<CursorKey, ReadCursor> cursors = new ConcurrentHashMap<>();
+
+    // 마지막 flush 이후 변경된 키
+    private final Set<RoomKey> dirtyRooms = ConcurrentHashMap.newKeySet();
+    private final Set<CursorKey> dirtyCursors = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(ChatClusterBus.READ_CHANNEL_PREFIX, this::onClusterReadEvent);
+    }
+
+    /**
+     * 메시지 접수 시 호출 (접수한 노드에서 메시지당 1회, 브로드캐스트 전)
+     * - 방 누적 수 +1, 보낸 사람은 자기 메시지까지 읽은 것으로 처리 (다른 노드에도 전파)
+     */
+    public void recordAccepted(ChatMessagePayload payload) {
+        if (payload.getRoomId() == null || payload.getMessageId() == null) return;
+
+        RoomKey roomKey = new RoomKey(payload.getRoomType(), payload.getRoomId());
+        long count;
+        try {
+            count = increment(roomKey, payload.getMessageId());
+        } catch (Exception e) {
+            // 카운터 저장소 장애여도 메시지 전송은 계속 (안 읽은 수만 부정확해짐)
+            log.warn("채팅방 누적 수 증가 실패: roomId={}, error={}", payload.getRoomId(), e.getMessage());
+            return;
+        }
+
+        if (payload.getSenderId() != null
+                && advance(new CursorKey(roomKey, payload.getSenderId()), payload.getMessageId(), count)) {
+            publish(new ChatReadEvent(roomKey.roomType(), roomKey.roomId(), payload.getSenderId(),
+                    payload.getMessageId(), count));
+        }
+    }
+
+    /**
+     * 읽음 처리: messageId까지 읽었다고 기록하고 다른 노드에 전파
+     * - 참여 여부는 호출 측에서 확인 (ChatResumeService.canAccess)
+     * - 클라이언트가 보낸 값은 방의 마지막 메시지 ID를 넘지 않도록 잘라냄 (없는 메시지까지 읽음 처리 방지)
+     * - 최신 메시지가 아니면 그 이후 메시지 수(아직 저장 전 메시지 포함)를 한 번 세서 readCount 계산
+     * @return 실제로 읽음 처리한 메시지 ID (방에 메시지가 없으면 0)
+     */
+    public long markRead(ChatRoomType roomType, Long roomId, Long userId, long messageId) {
+        RoomKey roomKey = new RoomKey(roomType, roomId);
+        RoomCount counter = readCounts(roomType, List.of(roomId)).get(roomId);
+
+        long readUpTo = Math.min(messageId, counter.lastMessageId());
+        if (readUpTo <= 0) return 0;
+
+        long readCount = readUpTo >= counter.lastMessageId()
+                ? counter.count()
+                : Math.max(0, counter.count() - countAfter(roomKey, readUpTo));
+
+        if (advance(new CursorKey(roomKey, userId), readUpTo, readCount)) {
+            publish(new ChatReadEvent(roomType, roomId, userId, readUpTo, readCount));
+        }
+        return readUpTo;
+    }
+
+    /**
+     * 한 채팅방의 안 읽은 메시지 수
+     */
+    public int getUnreadCount(ChatRoomType roomType, Long roomId, Long userId) {
+        return getUnreadCounts(roomType, List.of(roomId), userId).getOrDefault(roomId, 0);
+    }
+
+    /**
+     * 여러 채팅방의 안 읽은 메시지 수 (채팅방 목록 요약용)
+     * - 누적 수는 저장소에서 일괄 조회 (Redis 왕복 1회), 메모리에 없는 커서만 DB 일괄 조회
+     */
+    public Map<Long, Integer> getUnreadCounts(ChatRoomType roomType, Collection<Long> roomIds, Long userId) {
+        if (roomIds.isEmpty()) return Map.of();
+
+        Map<Long, RoomCount> counts = readCounts(roomType, roomIds);
+        loadCursors(roomType, roomIds, userId);
+
+        Map<Long, Integer> result = new HashMap<>();
+        for (Long roomId : roomIds) {
+            RoomKey roomKey = new RoomKey(roomType, roomId);
+            ReadCursor cursor = cursor(new CursorKey(roomKey, userId));
+            long unread = counts.get(roomId).count() - cursor.readCount();
+            result.put(roomId, (int) Math.max(0, unread));
+        }
+        return result;
+    }
+
+    /**
+     * 변경된 방 카운터 스냅샷/커서를 DB에 반영 (write-behind)
+     * - GREATEST로 upsert → 여러 노드가 같은 행을 써도 값이 뒤로 가지 않음
+     * - chat_room_counter는 저장소 값이 사라졌을 때(Redis 초기화 등) seed에 쓰는 백업
+     */
+    @Scheduled(fixedDelayString = "${chat.read-cursor.flush-interval-ms:2000}")
+    public void flush() {
+        List<RoomKey> rooms = drain(dirtyRooms);
+        List<CursorKey> cursorKeys = drain(dirtyCursors);
+        if (rooms.isEmpty() && cursorKeys.isEmpty()) return;
+
+        Map<RoomKey, RoomCount> flushedCounters = new HashMap<>();
+        List<Object[]> counterArgs = new ArrayList<>(rooms.size());
+        for (RoomKey key : rooms) {
+            RoomCount counter = counterSnapshots.get(key);
+            if (counter == null) continue;
+            flushedCounters.put(key, counter);
+            counterArgs.add(new Object[]{key.roomType().name(), key.roomId(), counter.count(), counter.lastMessageId()});
+        }
+        List<Object[]> cursorArgs = new ArrayList<>(cursorKeys.size());
+        for (CursorKey key : cursorKeys) {
+            ReadCursor cursor = cursors.get(key);
+            if (cursor == null) continue;
+            cursorArgs.add(new Object[]{key.room().roomType().name(), key.room().roomId(), key.userId(),
+                    cursor.lastReadMessageId(), cursor.readCount()});
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!counterArgs.isEmpty()) jdbcTemplate.batchUpdate(COUNTER_UPSERT, counterArgs);
+                if (!cursorArgs.isEmpty()) jdbcTemplate.batchUpdate(CURSOR_UPSERT, cursorArgs);
+            });
+            // 저장한 스냅샷은 메모리에서 제거 (그 사이 바뀐 값은 남겨서 다음 주기에 저장)
+            flushedCounters.forEach(counterSnapshots::remove);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도
+            dirtyRooms.addAll(rooms);
+            dirtyCursors.addAll(cursorKeys);
+            log.warn("읽음 커서 저장 실패: rooms={}, cursors={}, error={}", rooms.size(), cursorKeys.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * idle-seconds 동안 읽음/조회가 없던 커서 제거 (저장 대기 중인 커서는 유지)
+     * - 같은 키의 advance와 맵 안에서 직렬화되므로 이동 직후 커서가 제거되지 않음
+     */
+    @Scheduled(fixedDelayString = "${chat.read-cursor.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleSeconds * 1000;
+        int before = cursors.size();
+        for (CursorKey key : cursors.keySet()) {
+            cursors.computeIfPresent(key, (k, cursor) ->
+                    cursor.lastAccess < threshold && !dirtyCursors.contains(k) ? null : cursor);
+        }
+        int evicted = before - cursors.size();
+        if (evicted > 0) {
+            log.debug("유휴 읽음 커서 정리: evicted={}, remaining={}", evicted, cursors.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // 다른 노드의 읽음 처리 반영 (버스 스레드라 DB 조회 없이 메모리만 갱신, 저장은 발행한 노드가 담당)
+    private void onClusterReadEvent(String channel, String json) {
+        try {
+            ChatReadEvent event = objectMapper.readValue(json, ChatReadEvent.class);
+            CursorKey key = new CursorKey(new RoomKey(event.roomType(), event.roomId()), event.userId());
+            cursors.compute(key, (k, cursor) -> {
+                if (cursor == null) return new ReadCursor(event.lastReadMessageId(), event.readCount());
+                cursor.advance(event.lastReadMessageId(), event.readCount());
+                return cursor;
+            });
+        } catch (Exception e) {
+            log.warn("읽음 이벤트 처리 실패: channel={}, error={}", channel, e.getMessage());
+        }
+    }
+
+    private void publish(ChatReadEvent event) {
+        try {
+            String channel = ChatClusterBus.READ_CHANNEL_PREFIX + event.roomType().name() + ":" + event.roomId();
+            clusterBus.publish(channel, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.warn("읽음 이벤트 발행 실패: roomId={}, userId={}", event.roomId(), event.userId(), e);
+        }
+    }
+
+    /**
+     * 커서를 앞으로만 이동 (이동했으면 true)
+     * - 유휴 정리와 겹치지 않도록 맵 안에서 이동, 로드 직후 정리된 경우엔 이번 값으로 다시 생성 (저장은 GREATEST)
+     */
+    private boolean advance(CursorKey key, long messageId, long readCount) {
+        cursor(key);
+        boolean[] moved = new boolean[1];
+        cursors.compute(key, (k, cursor) -> {
+            if (cursor == null) {
+                moved[0] = true;
+                return new ReadCursor(messageId, readCount);
+            }
+            moved[0] = cursor.advance(messageId, readCount);
+            return cursor;
+        });
+        if (moved[0]) dirtyCursors.add(key);
+        return moved[0];
+    }
+
+    // 메모리 커서 (없으면 DB에서 로드, 정리 직후면 빈 커서)
+    private ReadCursor cursor(CursorKey key) {
+        ReadCursor cursor = cursors.get(key);
+        if (cursor == null) {
+            loadCursors(key.room().roomType(), List.of(key.room().roomId()), key.userId());
+            cursor = cursors.getOrDefault(key, new ReadCursor(0, 0));
+        }
+        cursor.lastAccess = System.currentTimeMillis();
+        return cursor;
+    }
+
+    // 누적 수 +1 (저장소에 방 값이 없으면 seed 후 다시 시도)
+    private long increment(RoomKey key, long messageId) {
+        long count = counterStore.increment(key.roomType(), key.roomId(), messageId);
+        if (count < 0) {
+            // 이번 메시지는 이미 미저장 목록에 들어가 있으므로 이전 메시지까지만 seed
+            seed(key.roomType(), List.of(key.roomId()), messageId);
+            count = counterStore.increment(key.roomType(), key.roomId(), messageId);
+        }
+        snapshot(key, new RoomCount(count, messageId));
+        return count;
+    }
+
+    // 저장소에서 누적 수 일괄 조회 (값이 없는 방은 seed 후 다시 조회)
+    private Map<Long, RoomCount> readCounts(ChatRoomType roomType, Collection<Long> roomIds) {
+        Map<Long, RoomCount> counts = new HashMap<>(counterStore.read(roomType, roomIds));
+        List<Long> missing = roomIds.stream().filter(id -> !counts.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            seed(roomType, missing, Long.MAX_VALUE);
+            counts.putAll(counterStore.read(roomType, missing));
+        }
+        for (Long roomId : roomIds) {
+            counts.putIfAbsent(roomId, new RoomCount(0, 0));
+        }
+        return counts;
+    }
+
+    /**
+     * 저장소에 값이 없는 방 초기화: chat_room_counter 스냅샷과 메시지 테이블 집계 중 큰 값
+     * - 메시지 테이블에는 아직 저장 전(write-behind) 메시지가 없으므로 이 노드의 미저장분을 더함
+     * - beforeMessageId 이상인 메시지는 제외 (접수 직후 증가 경로에서 자기 메시지 중복 집계 방지)
+     */
+    private void seed(ChatRoomType roomType, Collection<Long> roomIds, long beforeMessageId) {
+        Map<Long, RoomCount> seeds = new HashMap<>();
+        for (ChatRoomCounter row : counterRepository.findByRoomTypeAndRoomIdIn(roomType, roomIds)) {
+            seeds.put(row.getRoomId(), new RoomCount(row.getMessageCount(), row.getLastMessageId()));
+        }
+
+        List<ChatRoomCountProjection> counts = roomType == ChatRoomType.DIRECT
+                ? dmMessageRepository.countMessagesByRoomIds(roomIds)
+                : groupMessageRepository.countMessagesByRoomIds(roomIds);
+        Map<Long, ChatRoomCountProjection> countByRoom = new HashMap<>();
+        counts.forEach(row -> countByRoom.put(row.getRoomId(), row));
+
+        for (Long roomId : roomIds) {
+            ChatRoomCountProjection row = countByRoom.get(roomId);
+            long count = row != null ? row.getMessageCount() : 0;
+            long last = row != null && row.getLastMessageId() != null ? row.getLastMessageId() : 0;
+
+            RoomKey key = new RoomKey(roomType, roomId);
+            List<ChatMessagePayload> unflushed = writeBehindBuffer.getUnflushed(roomType, roomId, 0L);
+            if (!unflushed.isEmpty()) {
+                count += unflushedNotStored(key, unflushed);
+                last = Math.max(last, unflushed.get(unflushed.size() - 1).getMessageId());
+            }
+            if (beforeMessageId != Long.MAX_VALUE) {
+                count = Math.max(0, count - countAfter(key, beforeMessageId - 1));
+                last = Math.min(last, beforeMessageId - 1);
+            }
+
+            RoomCount snapshot = seeds.get(roomId);
+            seeds.put(roomId, snapshot == null ? new RoomCount(count, last)
+                    : new RoomCount(Math.max(count, snapshot.count()), Math.max(last, snapshot.lastMessageId())));
+        }
+        counterStore.seedIfAbsent(roomType, seeds);
+    }
+
+    // chat_room_counter 저장용으로 마지막 값 기억 (큰 값 유지)
+    private void snapshot(RoomKey key, RoomCount count) {
+        counterSnapshots.merge(key, count, (a, b) -> new RoomCount(
+                Math.max(a.count(), b.count()), Math.max(a.lastMessageId(), b.lastMessageId())));
+        dirtyRooms.add(key);
+    }
+
+    // 메모리에 없는 커서 로드: 저장된 커서가 없으면 기존 isRead 상태로 백필 (저장 대상으로 표시)
+    private void loadCursors(ChatRoomType roomType, Collection<Long> roomIds, Long userId) {
+        List<Long> missing = roomIds.stream()
+                .filter(id -> !cursors.containsKey(new CursorKey(new RoomKey(roomType, id), userId)))
+                .toList();
+        if (missing.isEmpty()) return;
+
+        Map<Long, ReadCursor> loaded = new HashMap<>();
+        for (ChatReadCursor row : cursorRepository.findByUserIdAndRoomTypeAndRoomIdIn(userId, roomType, missing)) {
+            loaded.put(row.getRoomId(), new ReadCursor(row.getLastReadMessageId(), row.getReadCount()));
+        }
+
+        List<Long> uncursored = missing.stream().filter(id -> !loaded.containsKey(id)).toList();
+        if (!uncursored.isEmpty()) {
+            loaded.putAll(backfillCursors(roomType, uncursored, userId));
+        }
+
+        for (Long roomId : missing) {
+            cursors.putIfAbsent(new CursorKey(new RoomKey(roomType, roomId), userId),
+                    loaded.getOrDefault(roomId, new ReadCursor(0, 0)));
+        }
+    }
+
+    /**
+     * 커서가 없는 방: 기존 isRead 기준 안 읽은 수를 유지하도록 커서 생성
+     * - readCount = 저장된 메시지 수 - 기존 안 읽은 수, 위치 = 첫 안 읽은 메시지 직전 (없으면 마지막 메시지)
+     * - 이후 저장되는 메시지는 isRead=false로 들어가므로 커서 없는 유저에겐 그대로 안 읽음으로 계산됨
+     */
+    private Map<Long, ReadCursor> backfillCursors(ChatRoomType roomType, Collection<Long> roomIds, Long userId) {
+        List<ChatReadStateProjection> states = roomType == ChatRoomType.DIRECT
+                ? dmMessageRepository.findReadStates(roomIds, userId)
+                : groupMessageRepository.findReadStates(roomIds, userId);
+
+        Map<Long, ReadCursor> backfilled = new HashMap<>();
+        for (ChatReadStateProjection state : states) {
+            long readCount = state.getMessageCount() - (state.getUnreadCount() != null ? state.getUnreadCount() : 0);
+            if (readCount <= 0) continue;
+
+            long lastRead = state.getFirstUnreadId() != null ? state.getFirstUnreadId() - 1 : state.getLastMessageId();
+            backfilled.put(state.getRoomId(), new ReadCursor(lastRead, readCount));
+            dirtyCursors.add(new CursorKey(new RoomKey(roomType, state.getRoomId()), userId));
+        }
+        return backfilled;
+    }
+
+    // messageId 이후 메시지 수 = DB 집계 + 아직 저장 전 메시지 (DB에 이미 들어간 것은 제외)
+    private long countAfter(RoomKey key, long messageId) {
+        long stored = key.roomType() == ChatRoomType.DIRECT
+                ? dmMessageRepository.countByDmRoomIdAndIdGreaterThan(key.roomId(), messageId)
+                : groupMessageRepository.countByChatRoomIdAndIdGreaterThan(key.roomId(), messageId);
+
+        List<ChatMessagePayload> unflushed = writeBehindBuffer.getUnflushed(key.roomType(), key.roomId(), messageId);
+        return unflushed.isEmpty() ? stored : stored + unflushedNotStored(key, unflushed);
+    }
+
+    // 미저장 목록 중 실제로 아직 DB에 없는 메시지 수 (저장 직후엔 양쪽에 있을 수 있음)
+    private long unflushedNotStored(RoomKey key, List<ChatMessagePayload> unflushed) {
+        List<Long> ids = unflushed.stream().map(ChatMessagePayload::getMessageId).toList();
+        long alreadyStored = key.roomType() == ChatRoomType.DIRECT
+                ? dmMessageRepository.countByDmRoomIdAndIdIn(key.roomId(), ids)
+                : groupMessageRepository.countByChatRoomIdAndIdIn(key.roomId(), ids);
+        return ids.size() - alreadyStored;
+    }
+
+    private static <T> List<T> drain(Set<T> dirty) {
+        List<T> drained = new ArrayList<>(dirty);
+        drained.forEach(dirty::remove);
+        return drained;
+    }
+
+    private record RoomKey(ChatRoomType roomType, Long roomId) {}
+
+    private record CursorKey(RoomKey room, Long userId) {}
+
+    // 유저별 읽음 위치 (앞으로만 이동)
+    private static final class ReadCursor {
+        private long lastReadMessageId;
+        private long readCount;
+        private volatile long lastAccess = System.currentTimeMillis();
+
+        ReadCursor(long lastReadMessageId, long readCount) {
+            this.lastReadMessageId = lastReadMessageId;
+            this.readCount = readCount;
+        }
+
+        synchronized boolean advance(long messageId, long newReadCount) {
+            lastAccess = System.currentTimeMillis();
+            if (messageId <= lastReadMessageId) return false;
+            lastReadMessageId = messageId;
+            readCount = Math.max(readCount, newReadCount);
+            return true;
+        }
+
+        synchronized long lastReadMessageId() {
+            return lastReadMessageId;
+        }
+
+        synchronized long readCount() {
+            return readCount;
+        }
+    }
+}
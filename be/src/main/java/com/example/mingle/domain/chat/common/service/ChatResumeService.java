@@ -0,0 +1,181 @@
+package com.example.mingle.domain.chat.common.service;
+
+import com.example.mingle.domain.chat.common.cache.RecentMessageCache;
+import com.example.mingle.domain.chat.common.dto.ChatControlFrame;
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.enums.ChatFrameType;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.domain.chat.common.persistence.ChatMessageWriteBehindBuffer;
+import com.example.mingle.domain.chat.dm.cache.DmRoomCache;
+import com.example.mingle.domain.chat.dm.entity.DmChatMessage;
+import com.example.mingle.domain.chat.dm.repository.DmChatMessageRepository;
+import com.example.mingle.domain.chat.group.entity.GroupChatMessage;
+import com.example.mingle.domain.chat.group.repository.GroupChatMessageRepository;
+import com.example.mingle.domain.chat.group.service.GroupChatRoomService;
+import com.example.mingle.global.websocket.ChatWireCodec;
+import com.example.mingle.global.websocket.WebSocketMessageSender;
+import com.example.mingle.global.websocket.WebSocketSessionManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 채팅방 구독 + 재접속 시 놓친 메시지 재전송
+ * - 클라이언트가 마지막으로 받은 메시지 ID(lastMessageId)를 주면 그 이후 메시지만 보내고 실시간 전달로 전환
+ * - 재전송 중 들어온 실시간 메시지는 세션 송신 큐에 보류 → 재전송 후 이어서 전달 (순서 유지, 중복 제거)
+ * - 최신 메시지 캐시에 구간이 모두 있으면 DB 조회 없음, 아니면 DB에서 ID 범위 조회 + 아직 저장 전(write-behind) 메시지 병합
+ * - 놓친 메시지가 max-replay개를 넘으면 RELOAD 프레임만 보내고 클라이언트가 REST로 다시 불러옴
+ */
+@Slf4j
+@Service
+public class ChatResumeService {
+
+    private final RecentMessageCache recentMessageCache;
+    private final GroupChatMessageRepository groupMessageRepository;
+    private final DmChatMessageRepository dmMessageRepository;
+    private final DmRoomCache dmRoomCache;
+    private final GroupChatRoomService groupChatRoomService;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final WebSocketSessionManager sessionManager;
+    private final WebSocketMessageSender messageSender;
+    private final ObjectMapper objectMapper;
+    private final ChatWireCodec wireCodec;
+    private final int maxReplay;
+
+    public ChatResumeService(RecentMessageCache recentMessageCache,
+                             GroupChatMessageRepository groupMessageRepository,
+                             DmChatMessageRepository dmMessageRepository,
+                             DmRoomCache dmRoomCache,
+                             GroupChatRoomService groupChatRoomService,
+                             ChatMessageWriteBehindBuffer writeBehindBuffer,
+                             WebSocketSessionManager sessionManager,
+                             WebSocketMessageSender messageSender,
+                             ObjectMapper objectMapper,
+                             ChatWireCodec wireCodec,
+                             @Value("${chat.resume.max-replay:200}") int maxReplay) {
+        this.recentMessageCache = recentMessageCache;
+        this.groupMessageRepository = groupMessageRepository;
+        this.dmMessageRepository = dmMessageRepository;
+        this.dmRoomCache = dmRoomCache;
+        this.groupChatRoomService = groupChatRoomService;
+        this.writeBehindBuffer = writeBehindBuffer;
+        this.sessionManager = sessionManager;
+        this.messageSender = messageSender;
+        this.objectMapper = objectMapper;
+        this.wireCodec = wireCodec;
+        this.maxReplay = maxReplay;
+    }
+
+    /**
+     * 채팅방 구독 (그룹: 방 인덱스 등록, DM: 유저 단위 전달이므로 구독 여부만 기록)
+     * - DM은 참여자인지 확인 (DM 방 캐시, 없으면 DB에서 읽어 캐시 → 이후 실시간 이벤트도 같은 캐시로 확인)
+     * - 그룹은 유저가 속한 채팅방(부서 + 프로젝트)인지 확인
+     * - lastMessageId가 있으면 그 이후 메시지를 먼저 재전송
+     */
+    public void subscribe(WebSocketSession session, Long userId, ChatRoomType roomType, Long roomId, Long lastMessageId) {
+        if (!canAccess(userId, roomType, roomId)) {
+            log.warn("채팅방 구독 거부: roomType={}, roomId={}, userId={}", roomType, roomId, userId);
+            return;
+        }
+
+        if (lastMessageId == null) {
+            join(session, roomType, roomId);
+            return;
+        }
+
+        // 구독보다 먼저 보류 시작 → 구독 이후 들어온 메시지는 재전송 뒤로 밀림
+        messageSender.hold(session);
+        Set<Long> replayed = new HashSet<>();
+        try {
+            join(session, roomType, roomId);
+            replay(session, roomType, roomId, lastMessageId, replayed);
+        } catch (Exception e) {
+            log.warn("놓친 메시지 재전송 실패: roomId={}, sessionId={}", roomId, session.getId(), e);
+        } finally {
+            messageSender.resume(session, message -> !isReplayed(message, replayed));
+        }
+    }
+
+    // 그룹: 방 인덱스 등록 (브로드캐스트 대상), DM: 구독 여부만 기록
+    private void join(WebSocketSession session, ChatRoomType roomType, Long roomId) {
+        if (roomType == ChatRoomType.DIRECT) {
+            sessionManager.joinDmRoom(roomId, session);
+        } else {
+            sessionManager.joinRoom(roomId, session);
+        }
+    }
+
+    /**
+     * 채팅방 참여자인지 (DM: 참여자 캐시, 그룹: 부서/프로젝트 소속) → 구독 / 읽음 처리 전에 확인
+     */
+    public boolean canAccess(Long userId, ChatRoomType roomType, Long roomId) {
+        if (roomType == ChatRoomType.DIRECT) {
+            return dmRoomCache.getParticipants(roomId)
+                    .map(participants -> participants.isParticipant(userId))
+                    .orElse(false);
+        }
+        return groupChatRoomService.isMember(userId, roomId);
+    }
+
+    private void replay(WebSocketSession session, ChatRoomType roomType, Long roomId,
+                        long lastMessageId, Set<Long> replayed) throws Exception {
+        // max-replay + 1개까지 읽어서 초과 여부 판단
+        List<ChatMessagePayload> gap = recentMessageCache
+                .getSince(roomType, roomId, lastMessageId, maxReplay + 1)
+                .orElseGet(() -> loadSince(roomType, roomId, lastMessageId));
+
+        if (gap.size() > maxReplay) {
+            ChatControlFrame reload = new ChatControlFrame(ChatFrameType.RELOAD, roomId, roomType, null, lastMessageId, null, null);
+            messageSender.sendNow(session, new TextMessage(objectMapper.writeValueAsString(reload)));
+            log.info("놓친 메시지 과다 → RELOAD: roomId={}, lastMessageId={}", roomId, lastMessageId);
+            return;
+        }
+
+        for (ChatMessagePayload message : gap) {
+            messageSender.sendNow(session, new TextMessage(objectMapper.writeValueAsString(message)));
+            replayed.add(message.getMessageId());
+        }
+        log.debug("놓친 메시지 재전송: roomId={}, count={}", roomId, gap.size());
+    }
+
+    // DB + 아직 저장 전 메시지 병합 (미저장 목록을 먼저 읽음 → 그 사이 저장된 메시지는 DB 쪽에서 읽힘)
+    private List<ChatMessagePayload> loadSince(ChatRoomType roomType, Long roomId, long lastMessageId) {
+        List<ChatMessagePayload> unflushed = writeBehindBuffer.getUnflushed(roomType, roomId, lastMessageId);
+
+        PageRequest limit = PageRequest.of(0, maxReplay + 1);
+        List<ChatMessagePayload> stored = roomType == ChatRoomType.DIRECT
+                ? dmMessageRepository.findByDmRoomIdAndIdGreaterThanOrderByIdAsc(roomId, lastMessageId, limit)
+                        .stream().map(DmChatMessage::toPayload).toList()
+                : groupMessageRepository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(roomId, lastMessageId, limit)
+                        .stream().map(GroupChatMessage::toPayload).toList();
+        if (unflushed.isEmpty()) {
+            return stored;
+        }
+
+        TreeMap<Long, ChatMessagePayload> merged = new TreeMap<>();
+        stored.forEach(message -> merged.put(message.getMessageId(), message));
+        unflushed.forEach(message -> merged.putIfAbsent(message.getMessageId(), message));
+        return merged.values().stream().limit(maxReplay + 1L).toList();
+    }
+
+    // 보류된 실시간 메시지가 이미 재전송한 메시지인지 (messageId 비교, JSON/CBOR 프레임 모두)
+    private boolean isReplayed(WebSocketMessage<?> message, Set<Long> replayed) {
+        if (replayed.isEmpty()) {
+            return false;
+        }
+        JsonNode node = wireCodec.readTree(message);
+        JsonNode messageId = node != null ? node.get("messageId") : null;
+        return messageId != null && replayed.contains(messageId.asLong());
+    }
+}
@@ -2,31 +2,48 @@ package com.example.mingle.domain.chat.common.socket;
 
 import com.example.mingle.domain.chat.archive.entity.ArchiveItem;
 import com.example.mingle.domain.chat.archive.repository.ArchiveItemRepository;
+import com.example.mingle.domain.chat.common.dispatch.ChatLaneExecutor;
+import com.example.mingle.domain.chat.common.dispatch.ChatRateLimiter;
+import com.example.mingle.domain.chat.common.dto.ChatControlFrame;
 import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.dto.ChatRateLimitFrame;
 import com.example.mingle.domain.chat.common.dto.WebSocketAuthDto;
+import com.example.mingle.domain.chat.common.enums.ChatFrameType;
 import com.example.mingle.domain.chat.common.enums.ChatRoomType;
 import com.example.mingle.domain.chat.common.enums.MessageFormat;
+import com.example.mingle.domain.chat.common.service.ChatEphemeralService;
+import com.example.mingle.domain.chat.common.service.ChatReadCursorService;
+import com.example.mingle.domain.chat.common.service.ChatResumeService;
 import com.example.mingle.domain.chat.common.util.ChatUtil;
 import com.example.mingle.domain.chat.dm.service.DmChatMessageService;
 import com.example.mingle.domain.chat.group.service.GroupChatMessageService;
+import com.example.mingle.domain.user.presence.service.PresencePushService;
 import com.example.mingle.domain.user.presence.service.PresenceService;
 import com.example.mingle.domain.user.user.entity.PresenceStatus;
 import com.example.mingle.domain.user.user.entity.User;
 import com.example.mingle.domain.user.user.repository.UserRepository;
 import com.example.mingle.global.exception.ApiException;
 import com.example.mingle.global.exception.ErrorCode;
+import com.example.mingle.global.websocket.ChatWireCodec;
+import com.example.mingle.global.websocket.WebSocketMessageSender;
 import com.example.mingle.global.websocket.WebSocketSessionManager;
+import com.example.mingle.global.websocket.WireFrameType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,6 +53,9 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor // DI 자동 주입 (objectMapper, groupChatMessageService)
 public class ChatWebSocketHandler extends TextWebSocketHandler {
 
+    // 세션 속성: Presence 연결 수에 포함된 세션 표시
+    private static final String PRESENCE_CONNECTED = "presenceConnected";
+
     // 클라이언트로부터 받은 JSON 문자열을 Java 객체로 변환할 때 사용
     private final ObjectMapper objectMapper;
 
@@ -52,6 +72,7 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 
     // 활동 상태용
     private final PresenceService presenceService;
+    private final PresencePushService presencePushService;
     private final UserRepository userRepository;
 
     // 중복 연결 방지를 위한 임시 저장소
@@ -59,6 +80,27 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 
     private final WebSocketSessionManager sessionManager;
 
+    // 세션별 송신 큐를 통한 비동기 전송
+    private final WebSocketMessageSender messageSender;
+
+    // 읽음 커서 (READ_ACK)
+    private final ChatReadCursorService readCursorService;
+
+    // 구독 + 재접속 시 놓친 메시지 재전송
+    private final ChatResumeService chatResumeService;
+
+    // 채팅방 단위 순서 보장 실행기 (수신 스레드에서는 파싱까지만)
+    private final ChatLaneExecutor laneExecutor;
+
+    // proto=cbor 세션의 바이너리 프레임 해석
+    private final ChatWireCodec wireCodec;
+
+    // 유저/채팅방별 + 전체 수신 속도 제한 (저장/fan-out 전에 거름)
+    private final ChatRateLimiter rateLimiter;
+
+    // 입력 중 / 실시간 읽음 (저장하지 않는 이벤트)
+    private final ChatEphemeralService ephemeralService;
+
     /**
      * 클라이언트가 WebSocket에 처음 연결됐을 때 실행
      */
@@ -81,19 +123,27 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         // 세션 매니저에 등록 (DM 메시지 전송 대상 탐색용)
         sessionManager.register(session.getId(), auth, session);
 
+        // /ws/chat/{roomId} 경로의 채팅방 구독 (DM 소켓은 roomType=DIRECT로 접속 → 방 인덱스 제외)
+        // - 재접속 시 ?lastMessageId=...를 주면 그 이후 놓친 메시지를 먼저 받음
+        if (session.getUri() != null) {
+            UriComponents components = UriComponentsBuilder.fromUri(session.getUri()).build();
+            Long pathRoomId = extractPathRoomId(components);
+            if (pathRoomId != null) {
+                ChatRoomType roomType = ChatRoomType.DIRECT.name().equalsIgnoreCase(components.getQueryParams().getFirst("roomType"))
+                        ? ChatRoomType.DIRECT : ChatRoomType.GROUP;
+                Long lastMessageId = parseLong(components.getQueryParams().getFirst("lastMessageId"));
+                chatResumeService.subscribe(session, userId, roomType, pathRoomId, lastMessageId);
+            }
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
 
-        PresenceStatus savedStatus = user.getPresence();
-
-        if (savedStatus == PresenceStatus.DO_NOT_DISTURB || savedStatus == PresenceStatus.AWAY) {
-            presenceService.setManualStatus(userId, savedStatus);
-            log.info("🔒 수동 Presence 복원: userId={}, status={}", userId, savedStatus);
-        } else {
-            presenceService.setStatus(userId, PresenceStatus.ONLINE);
-            presenceService.startAwayTimer(userId);
-            log.info("🟢 Presence 시작: userId={}, status=ONLINE", userId);
-        }
+        // 저장된 수동 상태(방해금지/자리비움)가 있으면 복원, 아니면 ONLINE
+        presenceService.connect(userId, user.getPresence());
+        // 연결 수를 센 세션만 종료 시 차감
+        session.getAttributes().put(PRESENCE_CONNECTED, Boolean.TRUE);
+        log.info("🟢 Presence 시작: userId={}, savedStatus={}", userId, user.getPresence());
 
         // TODO: 인증 처리 예정 (WebSocketAuthDto, SessionManager 연동)
 
@@ -135,45 +185,166 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 
         if ("tab_hidden".equals(presencePayload)) {
             presenceService.setStatus(userId, PresenceStatus.AWAY);
-            presenceService.cancelAwayTimer(userId);
             return;
         }
 
         try {
-            // 1단계: JSON 문자열을 ChatMessagePayload 객체로 변환
-            ChatMessagePayload payload = objectMapper.readValue(message.getPayload(), ChatMessagePayload.class);
-
-            // 2단계: 유효성 검사
-            Set<ConstraintViolation<ChatMessagePayload>> violations = validator.validate(payload);
-            if (!violations.isEmpty()) {
-                log.warn("유효하지 않은 메시지: {}", violations);
-                session.sendMessage(new TextMessage("메시지 형식 오류"));
-                return;
+            // 1단계: JSON 문자열 파싱
+            handleFrame(session, userId, wireCodec.decode(message.getPayload()));
+        } catch (Exception e) {
+            log.error("메시지 처리 중 예외 발생", e);
+            closeOnError(session);
+        }
+    }
+
+
+
+    /**
+     * proto=cbor 세션의 바이너리 프레임 (1바이트 헤더 + CBOR 본문)
+     * - 헤더로 ping / tab_hidden을 구분하고, MESSAGE 본문은 JSON과 같은 경로로 처리
+     */
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        WebSocketAuthDto auth = (WebSocketAuthDto) session.getAttributes().get("auth");
+        if (auth == null) {
+            log.warn("WebSocket 인증 정보 없음");
+            return;
+        }
+        Long userId = auth.getUserId();
+
+        WireFrameType type = WireFrameType.of(message);
+        if (type == null) {
+            log.warn("알 수 없는 바이너리 프레임: sessionId={}", session.getId());
+            return;
+        }
+
+        try {
+            switch (type) {
+                case PING -> presenceService.handlePing(userId);
+                case TAB_HIDDEN -> presenceService.setStatus(userId, PresenceStatus.AWAY);
+                case MESSAGE -> handleFrame(session, userId, wireCodec.decode(message));
+                case BATCH, NOTICE -> log.warn("서버 전용 프레임 수신: type={}", type);
             }
+        } catch (Exception e) {
+            log.error("메시지 처리 중 예외 발생", e);
+            closeOnError(session);
+        }
+    }
+
+
 
-            // 3단계: 메시지 저장 + 같은 채팅방 유저에게 전송 (Service에 위임)
-            // 메시지 타입에 따라 서비스 위임
-            // format=ARCHIVE 메시지 수신 시 분기 처리
-            if (payload.getFormat() == MessageFormat.ARCHIVE) {
-                handleArchiveMessage(payload, session);
+    // 파싱된 프레임 처리: "type" 필드가 있으면 제어 프레임(구독/해제/읽음), 없으면 채팅 메시지
+    private void handleFrame(WebSocketSession session, Long userId, JsonNode node) throws Exception {
+        if (node.hasNonNull("type")) {
+            ChatControlFrame frame = objectMapper.treeToValue(node, ChatControlFrame.class);
+            // 제어 프레임도 유저 단위 제어 버킷 적용 (구독/입력 중/읽음 도배 차단)
+            ChatRateLimiter.Verdict verdict = rateLimiter.tryAcquireControl(userId, frame.getRoomType(), frame.getRoomId());
+            if (!verdict.allowed()) {
+                rejectRateLimited(session, frame.getRoomId(), frame.getRoomType(), verdict);
                 return;
             }
-
-            // 일반 메시지 분기
-            if (payload.getRoomType() == ChatRoomType.DIRECT) {
-                dmChatMessageService.saveAndSend(payload);
-            } else {
-                groupChatMessageService.saveAndBroadcast(payload);
+            // 활동 상태 구독은 채팅방과 무관 + 메모리 작업뿐이라 수신 스레드에서 바로 처리
+            if (frame.getType() == ChatFrameType.PRESENCE_SUBSCRIBE) {
+                presencePushService.subscribe(session, frame.getUserIds());
+                return;
+            }
+            if (frame.getType() == ChatFrameType.PRESENCE_UNSUBSCRIBE) {
+                presencePushService.unsubscribe(session, frame.getUserIds());
+                return;
             }
+            ChatRoomType roomType = frame.getRoomType() != null ? frame.getRoomType() : ChatRoomType.GROUP;
+            // 입력 중은 메모리 작업뿐 → 레인을 거치지 않음 (실시간 읽음은 검증 후 레인에서)
+            if (frame.getType() == ChatFrameType.TYPING) {
+                ephemeralService.typing(session, userId, roomType, frame.getRoomId(), Boolean.TRUE.equals(frame.getTyping()));
+                return;
+            }
+            dispatch(session, roomType, frame.getRoomId(), () -> handleControlFrame(frame, session, userId));
+            return;
+        }
 
-        } catch (Exception e) {
-            log.error("메시지 처리 중 예외 발생", e);
-            // 예외 발생 시 WebSocket 강제 종료
+        // 일반 채팅 메시지: ChatMessagePayload 객체로 변환
+        ChatMessagePayload payload = objectMapper.treeToValue(node, ChatMessagePayload.class);
+
+        // 속도 제한 초과 메시지는 레인에 넣지 않음 (DB 저장 + fan-out 비용 차단)
+        // - 채팅방 버킷은 구독 중인 방에만 생성 (구독 전 방은 유저 버킷만 적용)
+        boolean subscribed = sessionManager.isSubscribed(session.getId(), payload.getRoomType(), payload.getRoomId());
+        ChatRateLimiter.Verdict verdict = rateLimiter.tryAcquire(userId, payload.getRoomType(), payload.getRoomId(), subscribed);
+        if (!verdict.allowed()) {
+            rejectRateLimited(session, payload.getRoomId(), payload.getRoomType(), verdict);
+            return;
+        }
+
+        // 2단계 이후(검증/저장/전송)는 채팅방 레인에서 실행 → 같은 방은 순서대로, 다른 방은 병렬로
+        dispatch(session, payload.getRoomType(), payload.getRoomId(), () -> handleChatMessage(payload, session));
+    }
+
+
+
+    // 속도 제한 거부: 연속 거부 첫 회에만 알림, 한도 초과 시 연결 종료
+    private void rejectRateLimited(WebSocketSession session, Long roomId, ChatRoomType roomType,
+                                   ChatRateLimiter.Verdict verdict) throws Exception {
+        if (verdict.disconnect()) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("rate limit exceeded"));
+            return;
+        }
+        if (verdict.notifyClient()) {
+            ChatRateLimitFrame frame = ChatRateLimitFrame.of(roomId, roomType, verdict);
+            messageSender.send(session, new TextMessage(objectMapper.writeValueAsString(frame)));
+        }
+    }
+
+
+
+    // 채팅방 레인에 작업 제출 (레인 포화 시 클라이언트에 알림)
+    private void dispatch(WebSocketSession session, ChatRoomType roomType, Long roomId, Runnable task) {
+        boolean accepted = laneExecutor.execute(roomType, roomId, () -> {
             try {
-                session.close(CloseStatus.SERVER_ERROR);
-            } catch (Exception closeEx) {
-                log.error("세션 종료 중 예외 발생", closeEx);
+                task.run();
+            } catch (Exception e) {
+                log.error("메시지 처리 중 예외 발생", e);
+                closeOnError(session);
             }
+        });
+        if (!accepted) {
+            messageSender.send(session, new TextMessage("서버가 혼잡하여 메시지를 처리하지 못했습니다."));
+        }
+    }
+
+
+
+    private void handleChatMessage(ChatMessagePayload payload, WebSocketSession session) {
+        // 2단계: 유효성 검사
+        Set<ConstraintViolation<ChatMessagePayload>> violations = validator.validate(payload);
+        if (!violations.isEmpty()) {
+            log.warn("유효하지 않은 메시지: {}", violations);
+            messageSender.send(session, new TextMessage("메시지 형식 오류"));
+            return;
+        }
+
+        // 3단계: 메시지 저장 + 같은 채팅방 유저에게 전송 (Service에 위임)
+        // 메시지 타입에 따라 서비스 위임
+        // format=ARCHIVE 메시지 수신 시 분기 처리
+        if (payload.getFormat() == MessageFormat.ARCHIVE) {
+            handleArchiveMessage(payload, session);
+            return;
+        }
+
+        // 일반 메시지 분기
+        if (payload.getRoomType() == ChatRoomType.DIRECT) {
+            dmChatMessageService.saveAndSend(payload);
+        } else {
+            groupChatMessageService.saveAndBroadcast(payload);
+        }
+    }
+
+
+
+    // 예외 발생 시 WebSocket 강제 종료
+    private void closeOnError(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SERVER_ERROR);
+        } catch (Exception closeEx) {
+            log.error("세션 종료 중 예외 발생", closeEx);
         }
     }
 
@@ -193,13 +364,19 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
             // 세션 제거
             activeSessions.remove(userId);
 
-            presenceService.setStatus(auth.getUserId(), PresenceStatus.OFFLINE);
-            presenceService.cancelAwayTimer(auth.getUserId());
-            log.info("OFFLINE 처리: userId={}", auth.getUserId());
+            // 같은 유저의 다른 연결이 남아 있으면 상태 유지 (마지막 연결일 때만 OFFLINE)
+            if (session.getAttributes().remove(PRESENCE_CONNECTED) != null) {
+                presenceService.disconnect(auth.getUserId());
+                log.info("Presence 연결 종료: userId={}", auth.getUserId());
+            }
         }
 
+        // 세션 매니저 정리 (인증 정보 + 채팅방 구독 인덱스) + 활동 상태 구독 + 송신 큐 정리
+        sessionManager.unregister(session.getId());
+        presencePushService.unsubscribeAll(session.getId());
+        messageSender.release(session.getId());
+
         log.info("WebSocket 연결 종료: sessionId = {}", session.getId());
-        // TODO: 세션 정리 예정 (SessionManager)
     }
 
 
@@ -214,6 +391,72 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 
 
 
+    // 구독/해제/읽음 제어 프레임 처리
+    private void handleControlFrame(ChatControlFrame frame, WebSocketSession session, Long userId) {
+        if (frame.getRoomId() == null) {
+            log.warn("제어 프레임에 roomId 없음: type={}", frame.getType());
+            return;
+        }
+
+        switch (frame.getType()) {
+            case SUBSCRIBE -> chatResumeService.subscribe(session, userId,
+                    frame.getRoomType() != null ? frame.getRoomType() : ChatRoomType.GROUP,
+                    frame.getRoomId(), frame.getLastMessageId());
+            case UNSUBSCRIBE -> {
+                if (frame.getRoomType() == ChatRoomType.DIRECT) {
+                    sessionManager.leaveDmRoom(frame.getRoomId(), session);
+                } else {
+                    sessionManager.leaveRoom(frame.getRoomId(), session);
+                }
+            }
+            case READ_ACK -> {
+                if (frame.getRoomId() == null || frame.getMessageId() == null) {
+                    log.warn("READ_ACK에 roomId/messageId 없음: roomId={}", frame.getRoomId());
+                    return;
+                }
+                ChatRoomType roomType = frame.getRoomType() != null ? frame.getRoomType() : ChatRoomType.GROUP;
+                // 참여하지 않은 방은 커서/카운터를 만들지 않음
+                if (!chatResumeService.canAccess(userId, roomType, frame.getRoomId())) {
+                    log.warn("읽음 처리 거부: roomType={}, roomId={}, userId={}", roomType, frame.getRoomId(), userId);
+                    return;
+                }
+                // 읽음 주체는 프레임 값이 아닌 인증 정보 기준
+                long readUpTo = readCursorService.markRead(roomType, frame.getRoomId(), userId, frame.getMessageId());
+                // 실시간 읽음 표시도 잘라낸 값으로만 전파
+                ephemeralService.read(session, userId, roomType, frame.getRoomId(), readUpTo);
+            }
+            case RELOAD, PRESENCE, RATE_LIMITED, EPHEMERAL -> log.warn("서버 전용 프레임 수신: type={}", frame.getType());
+            case PRESENCE_SUBSCRIBE, PRESENCE_UNSUBSCRIBE, TYPING -> { } // 수신 스레드에서 처리됨
+        }
+    }
+
+
+
+    // 연결 URI(/ws/chat/{roomId})에서 채팅방 ID 추출
+    private Long extractPathRoomId(UriComponents components) {
+        List<String> segments = components.getPathSegments();
+        if (segments.isEmpty()) return null;
+
+        Long roomId = parseLong(segments.get(segments.size() - 1));
+        if (roomId == null) {
+            log.warn("WebSocket 경로에서 roomId 파싱 실패: path={}", components.getPath());
+        }
+        return roomId;
+    }
+
+
+
+    private static Long parseLong(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+
+
     // format=ARCHIVE 메시지 수신 처리 메서드
     private void handleArchiveMessage(ChatMessagePayload payload, WebSocketSession session) {
         try {
@@ -0,0 +1,26 @@
+package com.example.mingle.domain.chat.common.store;
+
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 채팅방 누적 메시지 수 저장소 (안 읽은 수 계산의 기준값)
+ * - 메시지를 접수한 노드에서 메시지당 한 번만 증가 → 모든 노드가 같은 값을 읽음
+ * - 방 값이 없으면 increment가 -1 반환 → 호출 측에서 DB 집계로 seed 후 다시 증가
+ * - 구현체: 프로세스 내부 (단일 노드/테스트), Redis (chat.cluster.bus=redis, 다중 노드)
+ */
+public interface ChatRoomCounterStore {
+
+    // 누적 수 +1, 마지막 메시지 ID 갱신 → 증가 후 누적 수 (방 값이 없으면 -1)
+    long increment(ChatRoomType roomType, Long roomId, long messageId);
+
+    // 여러 채팅방 값 일괄 조회 (값이 없는 방은 결과에서 빠짐)
+    Map<Long, RoomCount> read(ChatRoomType roomType, Collection<Long> roomIds);
+
+    // 값이 없는 방만 초기값 기록 (동시에 seed해도 먼저 기록된 값 유지)
+    void seedIfAbsent(ChatRoomType roomType, Map<Long, RoomCount> seeds);
+
+    record RoomCount(long count, long lastMessageId) {}
+}
@@ -0,0 +1,47 @@
+package com.example.mingle.domain.chat.common.store;
+
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내부 저장소 (Redis 대체용)
+ * - chat.cluster.bus=local (기본값, test 프로필) → 노드가 하나뿐이라 메모리 값이 곧 기준값
+ */
+@Component
+@ConditionalOnProperty(name = "chat.cluster.bus", havingValue = "local", matchIfMissing = true)
+public class LocalChatRoomCounterStore implements ChatRoomCounterStore {
+
+    private final Map<RoomKey, RoomCount> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public long increment(ChatRoomType roomType, Long roomId, long messageId) {
+        RoomCount updated = counts.computeIfPresent(new RoomKey(roomType, roomId),
+                (key, current) -> new RoomCount(current.count() + 1, Math.max(current.lastMessageId(), messageId)));
+        return updated != null ? updated.count() : -1;
+    }
+
+    @Override
+    public Map<Long, RoomCount> read(ChatRoomType roomType, Collection<Long> roomIds) {
+        Map<Long, RoomCount> result = new HashMap<>();
+        for (Long roomId : roomIds) {
+            RoomCount count = counts.get(new RoomKey(roomType, roomId));
+            if (count != null) {
+                result.put(roomId, count);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void seedIfAbsent(ChatRoomType roomType, Map<Long, RoomCount> seeds) {
+        seeds.forEach((roomId, count) -> counts.putIfAbsent(new RoomKey(roomType, roomId), count));
+    }
+
+    private record RoomKey(ChatRoomType roomType, Long roomId) {}
+}
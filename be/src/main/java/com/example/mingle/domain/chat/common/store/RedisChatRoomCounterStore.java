@@ -0,0 +1,87 @@
+package com.example.mingle.domain.chat.common.store;
+
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 저장소
+ * - chat.cluster.bus=redis (prod 프로필) → 어느 노드에서 읽어도 같은 누적 수
+ * - 방마다 chat:counter:{roomType}:{roomId} 해시 (count, last), 만료 없음
+ * - 증가/seed는 Lua 스크립트로 원자 처리, 조회는 파이프라인 1회
+ */
+@Component
+@ConditionalOnProperty(name = "chat.cluster.bus", havingValue = "redis")
+public class RedisChatRoomCounterStore implements ChatRoomCounterStore {
+
+    private static final String KEY_PREFIX = "chat:counter:";
+
+    // 키가 없으면 -1 (seed 전에 증가시키면 과거 메시지 수가 빠짐)
+    private static final RedisScript<Long> INCREMENT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local count = redis.call('HINCRBY', KEYS[1], 'count', 1)
+            local last = tonumber(redis.call('HGET', KEYS[1], 'last') or '0')
+            if tonumber(ARGV[1]) > last then redis.call('HSET', KEYS[1], 'last', ARGV[1]) end
+            return count
+            """, Long.class);
+
+    private static final RedisScript<Long> SEED = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('HSET', KEYS[1], 'count', ARGV[1], 'last', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisChatRoomCounterStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long increment(ChatRoomType roomType, Long roomId, long messageId) {
+        Long count = redisTemplate.execute(INCREMENT, List.of(key(roomType, roomId)), String.valueOf(messageId));
+        return count != null ? count : -1;
+    }
+
+    @Override
+    public Map<Long, RoomCount> read(ChatRoomType roomType, Collection<Long> roomIds) {
+        List<Long> ids = new ArrayList<>(roomIds);
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long roomId : ids) {
+                connection.hashCommands().hMGet(key(roomType, roomId).getBytes(StandardCharsets.UTF_8),
+                        "count".getBytes(StandardCharsets.UTF_8), "last".getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Map<Long, RoomCount> result = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            List<?> fields = (List<?>) values.get(i);
+            if (fields == null || fields.get(0) == null) continue;
+            long last = fields.get(1) != null ? Long.parseLong(fields.get(1).toString()) : 0;
+            result.put(ids.get(i), new RoomCount(Long.parseLong(fields.get(0).toString()), last));
+        }
+        return result;
+    }
+
+    @Override
+    public void seedIfAbsent(ChatRoomType roomType, Map<Long, RoomCount> seeds) {
+        seeds.forEach((roomId, count) -> redisTemplate.execute(SEED, List.of(key(roomType, roomId)),
+                String.valueOf(count.count()), String.valueOf(count.lastMessageId())));
+    }
+
+    private static String key(ChatRoomType roomType, Long roomId) {
+        return KEY_PREFIX + roomType.name() + ":" + roomId;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.mingle.domain.chat.common.util;
+
+/**
+ * 채팅 메시지 페이지 크기 규칙
+ */
+public class ChatPaging {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private ChatPaging() {
+    }
+
+    // 요청 크기 보정: 없으면 기본값, 1 ~ MAX_PAGE_SIZE 범위로 제한
+    public static int resolveSize(Integer requested) {
+        if (requested == null) return DEFAULT_PAGE_SIZE;
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+}
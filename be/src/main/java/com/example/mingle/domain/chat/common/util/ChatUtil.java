@@ -2,6 +2,7 @@ package com.example.mingle.domain.chat.common.util;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 
 public class ChatUtil {
 
@@ -22,6 +23,22 @@ public class ChatUtil {
 
 
 
+    /**
+     * 파일 이름에서 확장자를 소문자로 추출합니다. (점 제외, 없으면 빈 문자열)
+     * 예: "회의록.PDF" → "pdf"
+     */
+    public static String extractExtension(String filename) {
+        if (filename == null) return "";
+
+        int index = filename.lastIndexOf('.');
+        if (index == -1 || index == filename.length() - 1) return "";
+
+        String ext = filename.substring(index + 1).toLowerCase(Locale.ROOT);
+        return ext.length() > 20 ? "" : ext;
+    }
+
+
+
     public static Long extractArchiveIdFromContent(String content) {
         if (content == null || !content.startsWith("archive:")) {
             throw new IllegalArgumentException("Invalid archive message content: " + content);
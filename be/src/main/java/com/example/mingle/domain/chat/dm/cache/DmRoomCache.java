@@ -0,0 +1,143 @@
+package com.example.mingle.domain.chat.dm.cache;
+
+import com.example.mingle.domain.chat.dm.entity.DmChatRoom;
+import com.example.mingle.domain.chat.dm.repository.DmChatRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DM 방 ↔ 참여자 쌍 양방향 캐시
+ * - 참여자 쌍은 작은 ID를 상위 32비트, 큰 ID를 하위 32비트에 넣은 long 하나로 표현 → 문자열 키 생성 없음
+ * - DM 방의 참여자는 바뀌지 않으므로 한 번 넣은 값은 항상 유효 (동시에 넣어도 같은 값)
+ * - 참여자 확인(isParticipant / 상대방 조회)도 같은 캐시에서 응답
+ * - 32비트를 넘는 유저 ID는 캐시하지 않고 매번 DB 조회
+ * - max-entries 초과 시 임의의 방 하나를 제거 후 추가
+ * - 지표: chat.dm.room-cache.hits / misses / size
+ */
+@Component
+public class DmRoomCache {
+
+    private static final long NOT_PACKABLE = -1L;
+
+    private final DmChatRoomRepository dmChatRoomRepository;
+    private final int maxEntries;
+
+    // 참여자 쌍 → 방 ID
+    private final Map<Long, Long> roomIdByPair = new ConcurrentHashMap<>();
+
+    // 방 ID → 참여자 쌍
+    private final Map<Long, Long> pairByRoomId = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public DmRoomCache(DmChatRoomRepository dmChatRoomRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${chat.dm.room-cache.max-entries:100000}") int maxEntries) {
+        this.dmChatRoomRepository = dmChatRoomRepository;
+        this.maxEntries = maxEntries;
+
+        this.hitCounter = meterRegistry.counter("chat.dm.room-cache.hits");
+        this.missCounter = meterRegistry.counter("chat.dm.room-cache.misses");
+        Gauge.builder("chat.dm.room-cache.size", pairByRoomId, Map::size)
+                .description("캐시된 DM 방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * DM 방 참여자
+     */
+    public record Participants(Long userAId, Long userBId) {
+
+        public boolean isParticipant(Long userId) {
+            return userAId.equals(userId) || userBId.equals(userId);
+        }
+
+        // 상대방 ID (참여자가 아니면 null)
+        public Long opponentOf(Long userId) {
+            if (userAId.equals(userId)) return userBId;
+            if (userBId.equals(userId)) return userAId;
+            return null;
+        }
+    }
+
+    /**
+     * 두 유저의 DM 방 ID (캐시에 없으면 null)
+     */
+    public Long findRoomId(Long userId1, Long userId2) {
+        long pair = pairKey(userId1, userId2);
+        Long roomId = pair != NOT_PACKABLE ? roomIdByPair.get(pair) : null;
+        (roomId != null ? hitCounter : missCounter).increment();
+        return roomId;
+    }
+
+    /**
+     * 방 참여자 조회 (캐시에 없으면 DB에서 읽어 캐시, 방이 없으면 empty)
+     */
+    public Optional<Participants> getParticipants(Long roomId) {
+        Optional<Participants> cached = peekParticipants(roomId);
+        if (cached.isPresent()) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        return dmChatRoomRepository.findById(roomId).map(room -> {
+            put(room);
+            return new Participants(room.getUserAId(), room.getUserBId());
+        });
+    }
+
+    /**
+     * 캐시에 있는 방만 참여자 조회 (DB 조회 없음)
+     */
+    public Optional<Participants> peekParticipants(Long roomId) {
+        Long pair = roomId != null ? pairByRoomId.get(roomId) : null;
+        if (pair == null) return Optional.empty();
+        return Optional.of(new Participants(pair >>> 32, pair & 0xFFFFFFFFL));
+    }
+
+    public void put(DmChatRoom room) {
+        put(room.getId(), room.getUserAId(), room.getUserBId());
+    }
+
+    public void put(Long roomId, Long userId1, Long userId2) {
+        long pair = pairKey(userId1, userId2);
+        if (pair == NOT_PACKABLE || roomId == null) return;
+
+        if (pairByRoomId.size() >= maxEntries && !pairByRoomId.containsKey(roomId)) {
+            evictOne();
+        }
+        pairByRoomId.putIfAbsent(roomId, pair);
+        roomIdByPair.putIfAbsent(pair, roomId);
+    }
+
+    /**
+     * 두 유저 ID → 순서와 무관한 long 키 (작은 ID가 상위 32비트)
+     * - 음수이거나 32비트를 넘는 ID면 NOT_PACKABLE
+     */
+    static long pairKey(Long userId1, Long userId2) {
+        if (userId1 == null || userId2 == null) return NOT_PACKABLE;
+        long low = Math.min(userId1, userId2);
+        long high = Math.max(userId1, userId2);
+        if (low < 0 || high >= 0xFFFFFFFFL) return NOT_PACKABLE;
+        return (low << 32) | high;
+    }
+
+    private void evictOne() {
+        Iterator<Map.Entry<Long, Long>> iterator = pairByRoomId.entrySet().iterator();
+        if (iterator.hasNext()) {
+            Map.Entry<Long, Long> entry = iterator.next();
+            iterator.remove();
+            roomIdByPair.remove(entry.getValue(), entry.getKey());
+        }
+    }
+}
@@ -1,21 +1,19 @@
 package com.example.mingle.domain.chat.dm.controller;
 
 import com.example.mingle.domain.chat.dm.dto.DmChatRoomSummaryResponse;
+import com.example.mingle.domain.chat.common.dto.ChatMessagePageResponse;
 import com.example.mingle.domain.chat.dm.dto.DmChatMessageResponse;
 import com.example.mingle.domain.chat.dm.dto.DmChatRoomCreateRequest;
 import com.example.mingle.domain.chat.dm.dto.DmChatRoomResponse;
-import com.example.mingle.domain.chat.dm.entity.DmChatRoom;
 import com.example.mingle.domain.chat.dm.repository.DmChatMessageRepository;
 import com.example.mingle.domain.chat.dm.service.DmChatMessageService;
 import com.example.mingle.domain.chat.dm.service.DmChatRoomService;
 import com.example.mingle.domain.user.user.dto.UserSimpleDto;
 import com.example.mingle.global.security.auth.SecurityUser;
 import lombok.RequiredArgsConstructor;
-import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -48,8 +46,7 @@ public class ApiV1DmChatController {
             @RequestBody DmChatRoomCreateRequest request,
             @AuthenticationPrincipal SecurityUser loginUser
     ) {
-        DmChatRoom room = dmChatRoomService.findOrCreateRoom(loginUser.getId(), request.receiverId());
-        return DmChatRoomResponse.from(room);
+        return dmChatRoomService.findOrCreateRoom(loginUser.getId(), request.receiverId());
     }
 
 
@@ -86,19 +83,18 @@ public class ApiV1DmChatController {
 
     /**
      * GET
-     * DM 채팅방 메시지 페이징 조회 (최신순 20개씩)
-     * - 최초 입장 시 cursor 없이 요청 → 최신 20개
-     * - 이후 스크롤 시 가장 오래된 메시지 시간(cursor) 기준 이전 메시지 20개씩 불러오기
+     * DM 채팅방 메시지 페이징 조회 (최신순, 기본 20개 / 최대 100개)
+     * - 최초 입장 시 cursor 없이 요청 → 최신 메시지
+     * - 이후 스크롤 시 이전 응답의 nextCursor 기준 이전 메시지 불러오기
      */
     @GetMapping("/{roomId}/messages")
-    public List<DmChatMessageResponse> getMessages(
+    public ChatMessagePageResponse<DmChatMessageResponse> getMessages(
             @PathVariable Long roomId,
-            @RequestParam(required = false)
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-            LocalDateTime cursor,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             @AuthenticationPrincipal SecurityUser loginUser
     ) {
-        return dmChatMessageService.getMessagesByRoomIdBefore(roomId, cursor, loginUser.getId());
+        return dmChatMessageService.getMessagesByRoomIdBefore(roomId, cursor, size, loginUser.getId());
     }
 
 
@@ -1,5 +1,6 @@
 package com.example.mingle.domain.chat.dm.dto;
 
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
 import com.example.mingle.domain.chat.dm.entity.DmChatMessage;
 import com.example.mingle.domain.chat.common.enums.MessageFormat;
 import lombok.Builder;
@@ -30,4 +31,16 @@ public record DmChatMessageResponse(
                 .sentAt(m.getCreatedAt())
                 .build();
     }
+
+    // 캐시된 payload → DTO 변환
+    public static DmChatMessageResponse from(ChatMessagePayload payload) {
+        return DmChatMessageResponse.builder()
+                .messageId(payload.getMessageId())
+                .senderId(payload.getSenderId())
+                .receiverId(payload.getReceiverId())
+                .content(payload.getContent())
+                .format(payload.getFormat())
+                .sentAt(payload.getCreatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,19 @@
+package com.example.mingle.domain.chat.dm.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DM 채팅방 요약 조회용 native query 결과 (1회 쿼리로 전체 방 요약, 안 읽은 수 제외)
+ */
+public interface DmChatRoomSummaryProjection {
+
+    Long getRoomId();
+
+    String getOpponentNickname();
+
+    String getPreviewMessage();
+
+    String getFormat();          // MessageFormat 이름 (메시지가 없으면 null)
+
+    LocalDateTime getSentAt();
+}
@@ -1,10 +1,14 @@
 package com.example.mingle.domain.chat.dm.entity;
 
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
 import com.example.mingle.domain.chat.common.enums.MessageFormat;
 import com.example.mingle.global.jpa.BaseEntity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +22,15 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @SuperBuilder
 @Entity
+@Table(
+        name = "dm_chat_message",
+        indexes = {
+                // 방별 최근 메시지 (MAX(id)) 조회용
+                @Index(name = "idx_dm_msg_room_id", columnList = "dm_room_id, id"),
+                // (createdAt, id) 키셋 페이징용
+                @Index(name = "idx_dm_msg_room_created", columnList = "dm_room_id, created_at, id")
+        }
+)
 public class DmChatMessage extends BaseEntity {
 
     private Long dmRoomId;      // DM 채팅방 ID
@@ -39,4 +52,18 @@ public class DmChatMessage extends BaseEntity {
         this.content = newContent;
     }
 
+    // 캐시 보관용 payload 변환 (웹소켓 전송 메시지와 같은 형태)
+    public ChatMessagePayload toPayload() {
+        return ChatMessagePayload.builder()
+                .messageId(getId())
+                .roomId(dmRoomId)
+                .senderId(senderId)
+                .receiverId(receiverId)
+                .content(content)
+                .format(format)
+                .roomType(ChatRoomType.DIRECT)
+                .createdAt(getCreatedAt())
+                .build();
+    }
+
 }
@@ -3,6 +3,8 @@ package com.example.mingle.domain.chat.dm.entity;
 import com.example.mingle.global.jpa.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
@@ -11,6 +13,14 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SuperBuilder
+@Table(
+        name = "dm_chat_room",
+        indexes = {
+                // 내가 속한 DM 방 조회 (user_a_id = ? OR user_b_id = ? → index merge)
+                @Index(name = "idx_dm_room_user_a", columnList = "user_a_id"),
+                @Index(name = "idx_dm_room_user_b", columnList = "user_b_id")
+        }
+)
 public class DmChatRoom extends BaseEntity {
 
     // DM 채팅방에 참여하는 두 유저의 ID
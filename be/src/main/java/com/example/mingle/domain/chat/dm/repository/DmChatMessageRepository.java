@@ -1,10 +1,16 @@
 package com.example.mingle.domain.chat.dm.repository;
 
+import com.example.mingle.domain.chat.common.dto.ChatReadStateProjection;
+import com.example.mingle.domain.chat.common.dto.ChatRoomCountProjection;
 import com.example.mingle.domain.chat.dm.entity.DmChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,15 +20,66 @@ public interface DmChatMessageRepository extends JpaRepository<DmChatMessage, Lo
     // 기본 조회: 생성일 오름차순 (가장 오래된 메시지부터) → 초기 전체 로딩용
     List<DmChatMessage> findByDmRoomIdOrderByCreatedAtAsc(Long dmRoomId);
 
+    // 최신 메시지 N개 조회 (최신순, 최신 메시지 캐시 워밍용)
+    List<DmChatMessage> findByDmRoomIdOrderByIdDesc(Long dmRoomId, Pageable pageable);
+
+    // 특정 메시지 이후 메시지 조회 (오래된 순, 재접속 시 놓친 메시지 재전송용)
+    List<DmChatMessage> findByDmRoomIdAndIdGreaterThanOrderByIdAsc(Long dmRoomId, Long id, Pageable pageable);
+
     // 최근 1개 조회 (DM 목록 미리보기용)
     Optional<DmChatMessage> findTopByDmRoomIdOrderByCreatedAtDesc(Long roomId); // TODO
 
-    // 읽지 않은 메시지 수 조회 (수신자 기준 미확인 메시지)
-    int countByDmRoomIdAndReceiverIdAndIsReadFalse(Long roomId, Long userId); // TODO
+    // 특정 메시지 이후에 쌓인 메시지 수 (과거 메시지까지만 읽음 처리할 때 사용)
+    long countByDmRoomIdAndIdGreaterThan(Long dmRoomId, Long id);
+
+    // 주어진 ID 중 이미 저장된 메시지 수 (write-behind 미저장분과 중복 제외용)
+    long countByDmRoomIdAndIdIn(Long dmRoomId, Collection<Long> ids);
+
+    // 방별 누적 메시지 수 + 마지막 메시지 ID 집계 (읽음 커서용 방 카운터 초기화)
+    @Query(value = """
+            SELECT dm_room_id AS roomId, COUNT(*) AS messageCount, MAX(id) AS lastMessageId
+            FROM dm_chat_message
+            WHERE dm_room_id IN (:roomIds)
+            GROUP BY dm_room_id
+            """, nativeQuery = true)
+    List<ChatRoomCountProjection> countMessagesByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 기존 isRead 기준 유저의 방별 읽음 상태 (읽음 커서 백필용, 받은 메시지만 안 읽음 대상)
+    @Query(value = """
+            SELECT dm_room_id AS roomId,
+                   COUNT(*) AS messageCount,
+                   SUM(CASE WHEN is_read = false AND receiver_id = :userId THEN 1 ELSE 0 END) AS unreadCount,
+                   MIN(CASE WHEN is_read = false AND receiver_id = :userId THEN id END) AS firstUnreadId,
+                   MAX(id) AS lastMessageId
+            FROM dm_chat_message
+            WHERE dm_room_id IN (:roomIds)
+            GROUP BY dm_room_id
+            """, nativeQuery = true)
+    List<ChatReadStateProjection> findReadStates(@Param("roomIds") Collection<Long> roomIds,
+                                                 @Param("userId") Long userId);
+
+    // 페이징 조회: (createdAt, id) 커서 이전 메시지를 최신순으로 조회
+    // - idx_dm_msg_room_created 인덱스 범위 읽기
+    // - 행 생성자 비교 (created_at, id) < (...)는 MySQL이 인덱스 범위로 못 씀 → created_at 상한을 따로 둠
+    @Query(value = """
+            SELECT * FROM dm_chat_message
+            WHERE dm_room_id = :roomId
+              AND created_at <= :createdAt
+              AND (created_at < :createdAt OR id < :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<DmChatMessage> findPageBefore(@Param("roomId") Long roomId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       @Param("limit") int limit);
 
-    // 페이징 조회: 특정 시각 이전 메시지를 최신순으로 20개 조회
-    List<DmChatMessage> findTop20ByDmRoomIdAndCreatedAtBeforeOrderByCreatedAtDesc(
-            Long dmRoomId,
-            LocalDateTime cursor
-    );
+    // 페이징 조회: 첫 페이지 (최신순)
+    @Query(value = """
+            SELECT * FROM dm_chat_message
+            WHERE dm_room_id = :roomId
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<DmChatMessage> findLatestPage(@Param("roomId") Long roomId, @Param("limit") int limit);
 }
@@ -1,8 +1,13 @@
 package com.example.mingle.domain.chat.dm.repository;
 
+import com.example.mingle.domain.chat.dm.dto.DmChatRoomSummaryProjection;
 import com.example.mingle.domain.chat.dm.entity.DmChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,7 +18,41 @@ public interface DmChatRoomRepository extends JpaRepository<DmChatRoom, Long> {
     // roomKey 기반으로 중복 방 체크
     Optional<DmChatRoom> findByRoomKey(String roomKey);
 
+    // roomKey → 방 ID만 조회 (엔티티 로딩 없음)
+    @Query("SELECT r.id FROM DmChatRoom r WHERE r.roomKey = :roomKey")
+    Optional<Long> findIdByRoomKey(@Param("roomKey") String roomKey);
+
+    // 방이 없을 때만 생성: 두 유저가 동시에 만들어도 unique(room_key)로 1개만 들어가고 나머지는 무시
+    // - 중복 키 예외 → 트랜잭션 롤백이 생기지 않음 (실패한 쪽도 이어서 방 ID 조회)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO dm_chat_room (user_a_id, user_b_id, room_key, created_at, updated_at)
+            VALUES (:userAId, :userBId, :roomKey, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE id = id
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userAId") Long userAId, @Param("userBId") Long userBId, @Param("roomKey") String roomKey);
+
     // 특정 사용자가 속한 DM 채팅방 전체 조회
     // - A 또는 B로 들어가 있는 모든 방을 반환
     List<DmChatRoom> findByUserAIdOrUserBId(Long userAId, Long userBId);
+
+    // DM 목록 요약: 상대 닉네임 + 최근 메시지를 방 개수와 무관하게 1회 쿼리로 조회
+    // - 최근 메시지: 방별 MAX(id) 서브쿼리 (idx_dm_msg_room_id 인덱스 범위 끝만 읽음)
+    // - 안 읽은 수는 ChatReadCursorService(방 누적 수 - 읽음 커서)에서 계산
+    @Query(value = """
+            SELECT r.id AS roomId,
+                   u.nickname AS opponentNickname,
+                   m.content AS previewMessage,
+                   m.format AS format,
+                   m.created_at AS sentAt
+            FROM dm_chat_room r
+            LEFT JOIN `user` u
+                   ON u.id = CASE WHEN r.user_a_id = :userId THEN r.user_b_id ELSE r.user_a_id END
+            LEFT JOIN dm_chat_message m
+                   ON m.id = (SELECT MAX(x.id) FROM dm_chat_message x WHERE x.dm_room_id = r.id)
+            WHERE r.user_a_id = :userId OR r.user_b_id = :userId
+            ORDER BY r.id
+            """, nativeQuery = true)
+    List<DmChatRoomSummaryProjection> findRoomSummaries(@Param("userId") Long userId);
 }
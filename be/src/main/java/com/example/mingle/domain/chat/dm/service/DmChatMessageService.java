@@ -1,10 +1,9 @@
 package com.example.mingle.domain.chat.dm.service;
 
+import com.example.mingle.domain.chat.common.dto.ChatMessagePageResponse;
 import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
 import com.example.mingle.domain.chat.dm.dto.DmChatMessageResponse;
 
-import java.time.LocalDateTime;
-import java.util.List;
 
 public interface DmChatMessageService {
     /**
@@ -27,7 +26,7 @@ public interface DmChatMessageService {
     int countUnreadMessages(Long dmRoomId, Long userId); // TODO: 구현 예정
 
     // 페이징 메시지 조회
-    // - cursor 기준으로 이전 메시지를 size=20개까지 조회
-    // - 최초 요청 시 cursor가 null이면 현재 시각 기준으로 조회됨
-    List<DmChatMessageResponse> getMessagesByRoomIdBefore(Long roomId, LocalDateTime cursor, Long loginUserId);
+    // - cursor(이전 응답의 nextCursor) 기준으로 이전 메시지를 size개까지 조회 (기본 20, 최대 100)
+    // - 최초 요청 시 cursor가 null이면 최신 메시지부터 조회됨
+    ChatMessagePageResponse<DmChatMessageResponse> getMessagesByRoomIdBefore(Long roomId, String cursor, Integer size, Long loginUserId);
 }
@@ -1,28 +1,29 @@
 package com.example.mingle.domain.chat.dm.service;
 
+import com.example.mingle.domain.chat.dm.cache.DmRoomCache;
 import com.example.mingle.domain.chat.dm.dto.DmChatMessageResponse;
-import com.example.mingle.domain.chat.dm.repository.DmChatRoomRepository;
 import com.example.mingle.global.exception.ApiException;
 import com.example.mingle.global.exception.ErrorCode;
-import com.example.mingle.global.websocket.WebSocketSessionManager;
+import com.example.mingle.domain.chat.common.cache.RecentMessageCache;
+import com.example.mingle.domain.chat.common.cluster.ChatMessageFanout;
+import com.example.mingle.domain.chat.common.dto.ChatMessageCursor;
+import com.example.mingle.domain.chat.common.dto.ChatMessagePageResponse;
 import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
-import com.example.mingle.domain.chat.dm.entity.DmChatRoom;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.domain.chat.common.persistence.ChatMessageWriteBehindBuffer;
+import com.example.mingle.domain.chat.common.service.ChatReadCursorService;
+import com.example.mingle.domain.chat.common.util.ChatPaging;
 import com.example.mingle.domain.chat.dm.entity.DmChatMessage;
 import com.example.mingle.domain.chat.dm.repository.DmChatMessageRepository;
 
-import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.web.socket.TextMessage;
-import org.springframework.web.socket.WebSocketSession;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 
 
 @Slf4j
@@ -31,54 +32,37 @@ import java.util.Set;
 public class DmChatMessageServiceImpl implements DmChatMessageService {
 
     private final DmChatMessageRepository dmRepository;
-    private final WebSocketSessionManager sessionManager;
-    private final Validator validator;
-    private final DmChatRoomRepository dmChatRoomRepository;
-    private final ObjectMapper objectMapper;
+    private final DmRoomCache dmRoomCache;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final ChatMessageFanout chatMessageFanout;
+    private final ChatReadCursorService readCursorService;
+    private final RecentMessageCache recentMessageCache;
 
     @Override
     public void saveAndSend(ChatMessagePayload payload) {
+        // 유효성 검사는 ChatWebSocketHandler에서 이미 수행됨
 
-        // 유효성 검사 (receiverId가 필요한 DIRECT 메시지 확인)
-        Set<ConstraintViolation<ChatMessagePayload>> violations = validator.validate(payload);
-        if (!violations.isEmpty()) {
-            log.warn("유효하지 않은 DM 메시지: {}", violations);
-            return;
-        }
+        // 1) 메시지 접수: 메시지 ID 부여 + write-behind 큐 적재 (DB에는 배치로 비동기 저장)
+        ChatMessagePayload accepted = writeBehindBuffer.accept(payload, ChatRoomType.DIRECT);
 
-        // 1) DB 저장
-        DmChatMessage message = DmChatMessage.builder()
-                .dmRoomId(payload.getRoomId())
-                .senderId(payload.getSenderId())
-                .receiverId(payload.getReceiverId())
-                .format(payload.getFormat())
-                .content(payload.getContent())
-                .build();
-        dmRepository.save(message);
-
-        // 2) 양쪽 유저에게만 WebSocket 전송
-        Long senderId   = payload.getSenderId();
-        Long receiverId = payload.getReceiverId();
-
-        for (Long userId : new Long[]{senderId, receiverId}) {
-            WebSocketSession ws = sessionManager.getSessionByUserId(userId);
-            if (ws != null && ws.isOpen()) {
-                try {
-                    // JSON 직렬화 없이 단순 텍스트 전송 시, 필요하면 ObjectMapper 사용
-                    ws.sendMessage(new TextMessage(objectMapper.writeValueAsString(payload)));
-                } catch (Exception e) {
-                    log.warn("DM 전송 실패: userId={}, error={}", userId, e.getMessage());
-                }
-            }
-        }
+        // 2) 방 누적 메시지 수 +1 (안 읽은 수 기준값, 접수한 노드에서 1회)
+        readCursorService.recordAccepted(accepted);
+
+        // 3) 양쪽 유저에게만 WebSocket 전송 (다른 노드에 접속한 유저는 클러스터 버스로 전달)
+        chatMessageFanout.broadcast(accepted);
     }
 
 
 
+    // 캐시 제거는 커밋 후 모든 노드에 발행됨
     @Override
+    @Transactional
     public void deleteMessage(Long messageId) {
         // 임시 구현 (실제 삭제 처리)
-        dmRepository.deleteById(messageId);
+        dmRepository.findById(messageId).ifPresent(message -> {
+            dmRepository.delete(message);
+            recentMessageCache.evict(ChatRoomType.DIRECT, message.getDmRoomId());
+        });
 
         // 로그 추가
         log.info("DM 메시지 삭제됨. messageId={}", messageId);
@@ -87,10 +71,12 @@ public class DmChatMessageServiceImpl implements DmChatMessageService {
 
 
     @Override
+    @Transactional
     public void editMessage(Long messageId, String newContent) {
         DmChatMessage message = dmRepository.findById(messageId)
                 .orElseThrow(() -> new IllegalArgumentException("메시지를 찾을 수 없습니다."));
         message.updateContent(newContent); // 메시지에 setter 또는 updateContent 메서드 필요
+        recentMessageCache.evict(ChatRoomType.DIRECT, message.getDmRoomId());
         log.info("DM 메시지 수정됨. id={}, newContent={}", messageId, newContent);
     }
 
@@ -107,31 +93,58 @@ public class DmChatMessageServiceImpl implements DmChatMessageService {
 
     @Override
     public int countUnreadMessages(Long dmRoomId, Long userId) {
-        return dmRepository.countByDmRoomIdAndReceiverIdAndIsReadFalse(dmRoomId, userId);
+        return readCursorService.getUnreadCount(ChatRoomType.DIRECT, dmRoomId, userId);
     }
 
 
 
-    // 페이징 조회: cursor 이전 메시지 20개를 최신순으로 조회
-    // - 최초 요청 시 cursor가 null이면 현재 시각 기준으로 조회
+    // 페이징 조회: (createdAt, id) 커서 이전 메시지를 최신순으로 조회
+    // - 최초 요청 시 cursor가 null이면 최신 메시지 캐시에서 응답 (캐시에 없을 때만 DB에서 워밍)
+    // - 다음 페이지 존재 여부 확인을 위해 size + 1개를 읽음
     @Override
-    public List<DmChatMessageResponse> getMessagesByRoomIdBefore(Long roomId, LocalDateTime cursor, Long loginUserId) {
-        if (cursor == null) {
-            cursor = LocalDateTime.now();
-        }
-
-        DmChatRoom room = dmChatRoomRepository.findById(roomId)
+    public ChatMessagePageResponse<DmChatMessageResponse> getMessagesByRoomIdBefore(Long roomId, String cursor, Integer size, Long loginUserId) {
+        DmRoomCache.Participants participants = dmRoomCache.getParticipants(roomId)
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND_CHATROOM));
 
         // 로그인 유저가 채팅 참여자가 아니면 차단
-        if (!room.isParticipant(loginUserId)) {
+        if (!participants.isParticipant(loginUserId)) {
             throw new ApiException(ErrorCode.FORBIDDEN_DM_ACCESS);
         }
 
+        int pageSize = ChatPaging.resolveSize(size);
+
+        List<DmChatMessageResponse> rows;
+        if (cursor == null) {
+            rows = recentMessageCache
+                    .getLatest(ChatRoomType.DIRECT, roomId, pageSize + 1, () -> loadLatest(roomId))
+                    .map(page -> page.stream().map(DmChatMessageResponse::from).toList())
+                    // 캐시 용량보다 큰 페이지: DB 조회
+                    .orElseGet(() -> toResponses(dmRepository.findLatestPage(roomId, pageSize + 1)));
+        } else {
+            ChatMessageCursor position = ChatMessageCursor.decode(cursor);
+            rows = toResponses(dmRepository.findPageBefore(roomId, position.createdAt(), position.id(), pageSize + 1));
+        }
+
+        return ChatMessagePageResponse.of(rows, pageSize,
+                last -> new ChatMessageCursor(last.sentAt(), last.messageId()));
+    }
+
+
+
+    private static List<DmChatMessageResponse> toResponses(List<DmChatMessage> messages) {
+        return messages.stream()
+                .map(DmChatMessageResponse::from)
+                .toList();
+    }
+
+
+
+    // 캐시 워밍용: 최신 메시지를 캐시 용량만큼 조회
+    private List<ChatMessagePayload> loadLatest(Long roomId) {
         return dmRepository
-                .findTop20ByDmRoomIdAndCreatedAtBeforeOrderByCreatedAtDesc(roomId, cursor)
+                .findByDmRoomIdOrderByIdDesc(roomId, PageRequest.of(0, recentMessageCache.getCapacityPerRoom()))
                 .stream()
-                .map(DmChatMessageResponse::from)
+                .map(DmChatMessage::toPayload)
                 .toList();
     }
 }
@@ -1,7 +1,7 @@
 package com.example.mingle.domain.chat.dm.service;
 
+import com.example.mingle.domain.chat.dm.dto.DmChatRoomResponse;
 import com.example.mingle.domain.chat.dm.dto.DmChatRoomSummaryResponse;
-import com.example.mingle.domain.chat.dm.entity.DmChatRoom;
 import com.example.mingle.domain.user.user.dto.UserSimpleDto;
 
 import java.util.List;
@@ -9,7 +9,7 @@ import java.util.List;
 public interface DmChatRoomService {
 
     // DM 채팅방 생성 or 조회
-    DmChatRoom findOrCreateRoom(Long senderId, Long receiverId);
+    DmChatRoomResponse findOrCreateRoom(Long senderId, Long receiverId);
 
     // 현재 로그인 유저를 제외한 전체 유저 목록 반환
     List<UserSimpleDto> getDmCandidates(Long myId);
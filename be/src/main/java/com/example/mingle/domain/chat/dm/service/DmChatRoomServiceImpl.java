@@ -1,12 +1,14 @@
 package com.example.mingle.domain.chat.dm.service;
 
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
+import com.example.mingle.domain.chat.common.enums.MessageFormat;
+import com.example.mingle.domain.chat.common.service.ChatReadCursorService;
+import com.example.mingle.domain.chat.dm.cache.DmRoomCache;
+import com.example.mingle.domain.chat.dm.dto.DmChatRoomResponse;
+import com.example.mingle.domain.chat.dm.dto.DmChatRoomSummaryProjection;
 import com.example.mingle.domain.chat.dm.dto.DmChatRoomSummaryResponse;
-import com.example.mingle.domain.chat.dm.entity.DmChatMessage;
-import com.example.mingle.domain.chat.dm.entity.DmChatRoom;
-import com.example.mingle.domain.chat.dm.repository.DmChatMessageRepository;
 import com.example.mingle.domain.chat.dm.repository.DmChatRoomRepository;
 import com.example.mingle.domain.user.user.dto.UserSimpleDto;
-import com.example.mingle.domain.user.user.entity.User;
 import com.example.mingle.domain.user.user.repository.UserRepository;
 import com.example.mingle.global.exception.ApiException;
 import com.example.mingle.global.exception.ErrorCode;
@@ -14,36 +16,43 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class DmChatRoomServiceImpl implements DmChatRoomService {
 
     private final DmChatRoomRepository dmChatRoomRepository;
-    private final DmChatMessageRepository dmChatMessageRepository;
     private final UserRepository userRepository;
+    private final ChatReadCursorService readCursorService;
+    private final DmRoomCache dmRoomCache;
 
     /**
      * senderId와 receiverId 기준으로 기존 DM 채팅방이 존재하는지 확인하고,
      * 없으면 새로 생성하여 반환한다.
+     * - 캐시(참여자 쌍 → 방 ID)에 있으면 DB 조회 없음
+     * - 없으면 조회 → 그래도 없으면 insert-or-ignore 후 다시 조회 (동시 생성 시에도 같은 방 ID)
      */
     @Override
-    public DmChatRoom findOrCreateRoom(Long senderId, Long receiverId) {
+    public DmChatRoomResponse findOrCreateRoom(Long senderId, Long receiverId) {
         // 항상 작은 ID가 앞으로 오도록 정렬
         // userId가 더 작은 사람이 userAId, 큰 사람이 userBId로 들어가게 만드는 로직
         Long userAId = Math.min(senderId, receiverId);
         Long userBId = Math.max(senderId, receiverId);
         String roomKey = userAId + "_" + userBId;
 
-        return dmChatRoomRepository.findByRoomKey(roomKey)
-                .orElseGet(() -> {
-                    DmChatRoom newRoom = DmChatRoom.builder()
-                            .userAId(userAId)
-                            .userBId(userBId)
-                            .roomKey(roomKey)
-                            .build();
-                    return dmChatRoomRepository.save(newRoom);
-                });
+        Long roomId = dmRoomCache.findRoomId(userAId, userBId);
+        if (roomId == null) {
+            roomId = dmChatRoomRepository.findIdByRoomKey(roomKey)
+                    .orElseGet(() -> {
+                        dmChatRoomRepository.insertIfAbsent(userAId, userBId, roomKey);
+                        return dmChatRoomRepository.findIdByRoomKey(roomKey)
+                                .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND_CHATROOM));
+                    });
+            dmRoomCache.put(roomId, userAId, userBId);
+        }
+
+        return new DmChatRoomResponse(roomId, userAId, userBId, roomKey);
     }
 
 
@@ -51,33 +60,25 @@ public class DmChatRoomServiceImpl implements DmChatRoomService {
     /**
      * 채팅방 목록 요약 정보 조회 (프론트 목록용)
      * - 최근 메시지, 읽지 않은 수, 상대방 닉네임 포함
+     * - 방 개수와 무관하게 쿼리 1회 (방마다 유저/최근 메시지를 따로 조회하지 않음)
+     * - 안 읽은 수는 읽음 커서 기준 (메모리 카운터, 방 개수와 무관한 일괄 조회)
      */
     @Override
     public List<DmChatRoomSummaryResponse> getChatRoomSummaries(Long userId) {
-        List<DmChatRoom> myRooms = dmChatRoomRepository.findByUserAIdOrUserBId(userId, userId); // 내가 속한 채팅방 전체 조회
-
-        return myRooms.stream().map(room -> {
-            Long opponentId = room.getUserAId().equals(userId) ? room.getUserBId() : room.getUserAId();
-            User opponent = userRepository.findById(opponentId).orElse(null);
-
-            // 가장 최근 메시지
-            DmChatMessage latestMessage = dmChatMessageRepository
-                    .findTopByDmRoomIdOrderByCreatedAtDesc(room.getId())
-                    .orElse(null);
-
-            // 읽지 않은 메시지 수
-            int unreadCount = dmChatMessageRepository
-                    .countByDmRoomIdAndReceiverIdAndIsReadFalse(room.getId(), userId);
-
-            return DmChatRoomSummaryResponse.builder()
-                    .roomId(room.getId())
-                    .opponentNickname(opponent != null ? opponent.getNickname() : "알 수 없음")
-                    .previewMessage(latestMessage != null ? latestMessage.getContent() : "(메시지 없음)")
-                    .format(latestMessage != null ? latestMessage.getFormat() : null)
-                    .unreadCount(unreadCount)
-                    .sentAt(latestMessage != null ? latestMessage.getCreatedAt() : null)
-                    .build();
-        }).toList();
+        List<DmChatRoomSummaryProjection> rows = dmChatRoomRepository.findRoomSummaries(userId);
+        Map<Long, Integer> unreadCounts = readCursorService.getUnreadCounts(
+                ChatRoomType.DIRECT, rows.stream().map(DmChatRoomSummaryProjection::getRoomId).toList(), userId);
+
+        return rows.stream()
+                .map(row -> DmChatRoomSummaryResponse.builder()
+                        .roomId(row.getRoomId())
+                        .opponentNickname(row.getOpponentNickname() != null ? row.getOpponentNickname() : "알 수 없음")
+                        .previewMessage(row.getPreviewMessage() != null ? row.getPreviewMessage() : "(메시지 없음)")
+                        .format(row.getFormat() != null ? MessageFormat.valueOf(row.getFormat()) : null)
+                        .unreadCount(unreadCounts.getOrDefault(row.getRoomId(), 0))
+                        .sentAt(row.getSentAt())
+                        .build())
+                .toList();
     }
 
 
@@ -88,16 +89,14 @@ public class DmChatRoomServiceImpl implements DmChatRoomService {
      */
     @Override
     public Long getReceiverId(Long roomId, Long requesterId) {
-        DmChatRoom room = dmChatRoomRepository.findById(roomId)
+        DmRoomCache.Participants participants = dmRoomCache.getParticipants(roomId)
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND_CHATROOM));
 
-        if (room.getUserAId().equals(requesterId)) {
-            return room.getUserBId();
-        } else if (room.getUserBId().equals(requesterId)) {
-            return room.getUserAId();
-        } else {
+        Long receiverId = participants.opponentOf(requesterId);
+        if (receiverId == null) {
             throw new ApiException(ErrorCode.FORBIDDEN);
         }
+        return receiverId;
     }
 
 
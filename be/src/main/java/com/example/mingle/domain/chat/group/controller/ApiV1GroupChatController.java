@@ -3,6 +3,7 @@ package com.example.mingle.domain.chat.group.controller;
 import com.example.mingle.domain.chat.group.dto.GroupChatRoomCreateRequest;
 import com.example.mingle.domain.chat.group.dto.GroupChatRoomResponse;
 import com.example.mingle.domain.chat.group.dto.GroupChatRoomSummaryResponse;
+import com.example.mingle.domain.chat.common.dto.ChatMessagePageResponse;
 import com.example.mingle.domain.chat.group.dto.GroupChatMessageResponse;
 import com.example.mingle.domain.chat.common.enums.ChatScope;
 import com.example.mingle.domain.chat.group.service.GroupChatRoomService;
@@ -11,14 +12,12 @@ import com.example.mingle.global.security.auth.SecurityUser;
 
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
-import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 
 import jakarta.validation.Valid;
-import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -123,16 +122,16 @@ public class ApiV1GroupChatController {
      * 채팅방 입장 시 최초 메시지 조회 / 스크롤 위로 이동 시 이전 메시지 더 불러오기 용
      */
     @GetMapping("/{roomId}/messages")
-    public List<GroupChatMessageResponse> getMessages(
+    public ChatMessagePageResponse<GroupChatMessageResponse> getMessages(
             @PathVariable Long roomId,
 
-            // cursor 기준 시각보다 이전 메시지 20개를 최신순으로 조회합니다.
-            // - 생략 시 현재 시간(LocalDateTime.now()) 이전 메시지를 조회 (최신 메시지 20개)
-            // - cursor가 있을 경우: 해당 시각 이전 메시지부터 조회 (스크롤 위로)
-            @RequestParam(required = false)
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-            LocalDateTime cursor
+            // 이전 응답의 nextCursor를 그대로 전달하면 그보다 오래된 메시지를 최신순으로 조회합니다.
+            // - 생략 시 최신 메시지부터 조회
+            @RequestParam(required = false) String cursor,
+
+            // 페이지 크기 (기본 20, 최대 100)
+            @RequestParam(required = false) Integer size
     ) {
-        return groupChatMessageService.getMessagesByRoomIdBefore(roomId, cursor);
+        return groupChatMessageService.getMessagesByRoomIdBefore(roomId, cursor, size);
     }
 }
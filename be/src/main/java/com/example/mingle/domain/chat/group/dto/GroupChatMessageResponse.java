@@ -1,5 +1,6 @@
 package com.example.mingle.domain.chat.group.dto;
 
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
 import com.example.mingle.domain.chat.common.enums.MessageFormat;
 import com.example.mingle.domain.chat.group.entity.GroupChatMessage;
 import lombok.Builder;
@@ -29,4 +30,17 @@ public record GroupChatMessageResponse(
                 .createdAt(message.getCreatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 캐시된 payload → DTO 변환
+     */
+    public static GroupChatMessageResponse from(ChatMessagePayload payload) {
+        return GroupChatMessageResponse.builder()
+                .messageId(payload.getMessageId())
+                .senderId(payload.getSenderId())
+                .content(payload.getContent())
+                .format(payload.getFormat())
+                .createdAt(payload.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.mingle.domain.chat.group.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 채팅방 요약 조회용 native query 결과 (여러 방의 최근 메시지를 1회 쿼리로)
+ */
+public interface GroupChatRoomSummaryProjection {
+
+    Long getRoomId();
+
+    String getPreviewMessage();
+
+    String getFormat();          // MessageFormat 이름 (메시지가 없으면 null)
+
+    LocalDateTime getSentAt();
+}
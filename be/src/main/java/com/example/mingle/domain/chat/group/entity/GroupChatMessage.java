@@ -1,11 +1,15 @@
 package com.example.mingle.domain.chat.group.entity;
 
+import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
 import com.example.mingle.domain.chat.common.enums.MessageFormat;
 import com.example.mingle.global.jpa.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,6 +22,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor // JPA
 @Getter
 @Entity
+@Table(
+        name = "group_chat_message",
+        indexes = {
+                // 방별 최근 메시지 (MAX(id)) 조회용
+                @Index(name = "idx_group_msg_room_id", columnList = "chat_room_id, id"),
+                // (createdAt, id) 키셋 페이징용
+                @Index(name = "idx_group_msg_room_created", columnList = "chat_room_id, created_at, id")
+        }
+)
 public class GroupChatMessage extends BaseEntity {
 
     private Long chatRoomId;
@@ -35,4 +48,16 @@ public class GroupChatMessage extends BaseEntity {
     @Column(name = "is_read")
     private boolean isRead;
 
+    // 캐시 보관용 payload 변환 (웹소켓 전송 메시지와 같은 형태)
+    public ChatMessagePayload toPayload() {
+        return ChatMessagePayload.builder()
+                .messageId(getId())
+                .roomId(chatRoomId)
+                .senderId(senderId)
+                .content(content)
+                .format(format)
+                .roomType(ChatRoomType.GROUP)
+                .createdAt(createdAt)
+                .build();
+    }
 }
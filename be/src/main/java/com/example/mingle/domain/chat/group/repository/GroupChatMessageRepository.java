@@ -1,10 +1,17 @@
 package com.example.mingle.domain.chat.group.repository;
 
+import com.example.mingle.domain.chat.common.dto.ChatReadStateProjection;
+import com.example.mingle.domain.chat.common.dto.ChatRoomCountProjection;
+import com.example.mingle.domain.chat.group.dto.GroupChatRoomSummaryProjection;
 import com.example.mingle.domain.chat.group.entity.GroupChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,16 +21,81 @@ public interface GroupChatMessageRepository extends JpaRepository<GroupChatMessa
     // 특정 채팅방에 속한 모든 메시지 조회 (전체 조회)
     List<GroupChatMessage> findAllByChatRoomId(Long chatRoomId);
 
-    // 페이징: 특정 채팅방에서 cursor 이전 메시지 20개 조회 (최신순)
-    // → 무한 스크롤 구현 시 사용
-    List<GroupChatMessage> findTop20ByChatRoomIdAndCreatedAtBeforeOrderByCreatedAtDesc(
-            Long chatRoomId,
-            LocalDateTime cursor
-    );
+    // 페이징: 특정 채팅방의 (createdAt, id) 커서 이전 메시지 조회 (최신순)
+    // → 무한 스크롤 구현 시 사용, idx_group_msg_room_created 인덱스 범위 읽기
+    // → 행 생성자 비교 (created_at, id) < (...)는 MySQL이 인덱스 범위로 못 씀 → created_at 상한을 따로 둠
+    @Query(value = """
+            SELECT * FROM group_chat_message
+            WHERE chat_room_id = :roomId
+              AND created_at <= :createdAt
+              AND (created_at < :createdAt OR id < :id)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<GroupChatMessage> findPageBefore(@Param("roomId") Long roomId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          @Param("limit") int limit);
+
+    // 페이징: 첫 페이지 (최신순)
+    @Query(value = """
+            SELECT * FROM group_chat_message
+            WHERE chat_room_id = :roomId
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<GroupChatMessage> findLatestPage(@Param("roomId") Long roomId, @Param("limit") int limit);
+
+    // 최신 메시지 N개 조회 (최신순, 최신 메시지 캐시 워밍용)
+    List<GroupChatMessage> findByChatRoomIdOrderByIdDesc(Long chatRoomId, Pageable pageable);
+
+    // 특정 메시지 이후 메시지 조회 (오래된 순, 재접속 시 놓친 메시지 재전송용)
+    List<GroupChatMessage> findByChatRoomIdAndIdGreaterThanOrderByIdAsc(Long chatRoomId, Long id, Pageable pageable);
 
     // 최근 메시지 1개 조회
     Optional<GroupChatMessage> findTopByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId);
 
-    // 안읽은 메시지 수 조회 (보낸 사람 제외)
-    int countByChatRoomIdAndSenderIdNotAndIsReadFalse(Long chatRoomId, Long senderId);
+    // 특정 메시지 이후에 쌓인 메시지 수 (과거 메시지까지만 읽음 처리할 때 사용)
+    long countByChatRoomIdAndIdGreaterThan(Long chatRoomId, Long id);
+
+    // 주어진 ID 중 이미 저장된 메시지 수 (write-behind 미저장분과 중복 제외용)
+    long countByChatRoomIdAndIdIn(Long chatRoomId, Collection<Long> ids);
+
+    // 방별 누적 메시지 수 + 마지막 메시지 ID 집계 (읽음 커서용 방 카운터 초기화)
+    @Query(value = """
+            SELECT chat_room_id AS roomId, COUNT(*) AS messageCount, MAX(id) AS lastMessageId
+            FROM group_chat_message
+            WHERE chat_room_id IN (:roomIds)
+            GROUP BY chat_room_id
+            """, nativeQuery = true)
+    List<ChatRoomCountProjection> countMessagesByRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    // 기존 isRead 기준 유저의 방별 읽음 상태 (읽음 커서 백필용, 보낸 사람 본인 메시지는 읽은 것으로 간주)
+    @Query(value = """
+            SELECT chat_room_id AS roomId,
+                   COUNT(*) AS messageCount,
+                   SUM(CASE WHEN is_read = false AND sender_id <> :userId THEN 1 ELSE 0 END) AS unreadCount,
+                   MIN(CASE WHEN is_read = false AND sender_id <> :userId THEN id END) AS firstUnreadId,
+                   MAX(id) AS lastMessageId
+            FROM group_chat_message
+            WHERE chat_room_id IN (:roomIds)
+            GROUP BY chat_room_id
+            """, nativeQuery = true)
+    List<ChatReadStateProjection> findReadStates(@Param("roomIds") Collection<Long> roomIds,
+                                                 @Param("userId") Long userId);
+
+    // 채팅방 목록 요약: 여러 방의 최근 메시지를 1회 쿼리로 조회
+    // - 최근 메시지: 방별 MAX(id) 서브쿼리 (idx_group_msg_room_id 인덱스 범위 끝만 읽음)
+    // - 안 읽은 수는 ChatReadCursorService(방 누적 수 - 읽음 커서)에서 계산
+    @Query(value = """
+            SELECT r.id AS roomId,
+                   m.content AS previewMessage,
+                   m.format AS format,
+                   m.created_at AS sentAt
+            FROM group_chat_room r
+            LEFT JOIN group_chat_message m
+                   ON m.id = (SELECT MAX(x.id) FROM group_chat_message x WHERE x.chat_room_id = r.id)
+            WHERE r.id IN (:roomIds)
+            """, nativeQuery = true)
+    List<GroupChatRoomSummaryProjection> findRoomSummaries(@Param("roomIds") List<Long> roomIds);
 }
@@ -1,20 +1,20 @@
 package com.example.mingle.domain.chat.group.service;
 
+import com.example.mingle.domain.chat.common.dto.ChatMessagePageResponse;
 import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
 import com.example.mingle.domain.chat.group.dto.GroupChatMessageResponse;
 
-import java.time.LocalDateTime;
-import java.util.List;
-
 public interface GroupChatMessageService {
 
     // 기존 메시지 저장 및 전송
     void saveAndBroadcast(ChatMessagePayload payload);
 
     // 채팅방 메시지 페이징 조회
-    List<GroupChatMessageResponse> getMessagesByRoomIdBefore(
+    // - cursor: 이전 응답의 nextCursor (null이면 최신 페이지), size: 페이지 크기 (null이면 기본값)
+    ChatMessagePageResponse<GroupChatMessageResponse> getMessagesByRoomIdBefore(
             Long roomId,
-            LocalDateTime cursor
+            String cursor,
+            Integer size
     );
 
     // 시스템 메시지 전송용 메서드
@@ -1,20 +1,24 @@
 package com.example.mingle.domain.chat.group.service;
 
+import com.example.mingle.domain.chat.common.cache.RecentMessageCache;
+import com.example.mingle.domain.chat.common.cluster.ChatMessageFanout;
+import com.example.mingle.domain.chat.common.dto.ChatMessageCursor;
+import com.example.mingle.domain.chat.common.dto.ChatMessagePageResponse;
 import com.example.mingle.domain.chat.common.dto.ChatMessagePayload;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
 import com.example.mingle.domain.chat.common.enums.MessageFormat;
+import com.example.mingle.domain.chat.common.persistence.ChatMessageWriteBehindBuffer;
+import com.example.mingle.domain.chat.common.service.ChatReadCursorService;
+import com.example.mingle.domain.chat.common.util.ChatPaging;
 import com.example.mingle.domain.chat.group.dto.GroupChatMessageResponse;
 import com.example.mingle.domain.chat.group.entity.GroupChatMessage;
 import com.example.mingle.domain.chat.group.repository.GroupChatMessageRepository;
-import com.example.mingle.global.websocket.WebSocketSessionManager;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.web.socket.TextMessage;
-import org.springframework.web.socket.WebSocketSession;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -23,49 +27,54 @@ import java.util.List;
 public class GroupChatMessageServiceImpl implements GroupChatMessageService {
 
     private final GroupChatMessageRepository groupChatMessageRepository;
-    private final WebSocketSessionManager sessionManager;
-    private final ObjectMapper objectMapper;
+    private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+    private final ChatMessageFanout chatMessageFanout;
+    private final ChatReadCursorService readCursorService;
+    private final RecentMessageCache recentMessageCache;
 
 
     @Override
     public void saveAndBroadcast(ChatMessagePayload payload) {
-        // 1. DB 저장
-        GroupChatMessage message = GroupChatMessage.builder()
-                .chatRoomId(payload.getRoomId())
-                .content(payload.getContent())
-                .format(payload.getFormat())
-                .senderId(payload.getSenderId())
-                .createdAt(LocalDateTime.now())
-                .build();
-        groupChatMessageRepository.save(message);
-
-        // 2. 동일 채팅방 사용자에게 메시지 전송
-        for (WebSocketSession session : sessionManager.getAllUserSessions().values()) {
-            try {
-                // content만 보내는 대신 payload 전체를 JSON으로 변환
-                String json = objectMapper.writeValueAsString(payload);
-                session.sendMessage(new TextMessage(payload.getContent()));
-            } catch (Exception e) {
-                log.warn("메시지 전송 실패", e);
-            }
-        }
+        // 1. 메시지 접수: 메시지 ID 부여 + write-behind 큐 적재 (DB에는 배치로 비동기 저장)
+        ChatMessagePayload accepted = writeBehindBuffer.accept(payload, ChatRoomType.GROUP);
+
+        // 2. 방 누적 메시지 수 +1 (안 읽은 수 기준값, 접수한 노드에서 1회)
+        readCursorService.recordAccepted(accepted);
+
+        // 3. 이 노드의 채팅방 구독 세션 + 다른 노드로 전파 (직렬화는 1회)
+        chatMessageFanout.broadcast(accepted);
     }
 
 
 
-    // 채팅방 메시지 페이징 조회
+    // 채팅방 메시지 페이징 조회 (createdAt, id 키셋)
+    // - 최초 로딩(cursor 없음)은 최신 메시지 캐시에서 응답 (캐시에 없을 때만 DB에서 워밍)
+    // - 이전 페이지는 커서 이후 인덱스 범위만 DB 조회
+    // - 다음 페이지 존재 여부 확인을 위해 size + 1개를 읽음
     @Override
-    public List<GroupChatMessageResponse> getMessagesByRoomIdBefore(Long roomId, LocalDateTime cursor) {
-        // cursor가 null이면 현재 시각을 기준으로 조회 (최초 로딩 시)
+    public ChatMessagePageResponse<GroupChatMessageResponse> getMessagesByRoomIdBefore(Long roomId, String cursor, Integer size) {
+        int pageSize = ChatPaging.resolveSize(size);
+
+        List<GroupChatMessageResponse> rows;
         if (cursor == null) {
-            cursor = LocalDateTime.now();
+            rows = recentMessageCache
+                    .getLatest(ChatRoomType.GROUP, roomId, pageSize + 1, () -> loadLatest(roomId))
+                    .map(page -> page.stream().map(GroupChatMessageResponse::from).toList())
+                    // 캐시 용량보다 큰 페이지: DB 조회
+                    .orElseGet(() -> toResponses(groupChatMessageRepository.findLatestPage(roomId, pageSize + 1)));
+        } else {
+            ChatMessageCursor position = ChatMessageCursor.decode(cursor);
+            rows = toResponses(groupChatMessageRepository
+                    .findPageBefore(roomId, position.createdAt(), position.id(), pageSize + 1));
         }
 
-        // Repository에서 메시지 조회
-        List<GroupChatMessage> messages = groupChatMessageRepository
-                .findTop20ByChatRoomIdAndCreatedAtBeforeOrderByCreatedAtDesc(roomId, cursor);
+        return ChatMessagePageResponse.of(rows, pageSize,
+                last -> new ChatMessageCursor(last.createdAt(), last.messageId()));
+    }
+
 
-        // DTO 변환 후 반환
+
+    private static List<GroupChatMessageResponse> toResponses(List<GroupChatMessage> messages) {
         return messages.stream()
                 .map(GroupChatMessageResponse::from)
                 .toList();
@@ -73,6 +82,17 @@ public class GroupChatMessageServiceImpl implements GroupChatMessageService {
 
 
 
+    // 캐시 워밍용: 최신 메시지를 캐시 용량만큼 조회
+    private List<ChatMessagePayload> loadLatest(Long roomId) {
+        return groupChatMessageRepository
+                .findByChatRoomIdOrderByIdDesc(roomId, PageRequest.of(0, recentMessageCache.getCapacityPerRoom()))
+                .stream()
+                .map(GroupChatMessage::toPayload)
+                .toList();
+    }
+
+
+
     // 시스템 메시지 전송 메서드
     @Override
     public void sendSystemMessage(String content, Long roomId) {
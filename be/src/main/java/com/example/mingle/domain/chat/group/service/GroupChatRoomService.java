@@ -15,6 +15,12 @@ public interface GroupChatRoomService {
     // 현재 유저가 속한 모든 채팅방 조회
     List<GroupChatRoomResponse> findMyRooms(Long userId, ChatScope scope);
 
+    // 유저가 속한 모든 채팅방 ID (부서 + 프로젝트)
+    List<Long> findMyRoomIds(Long userId);
+
+    // 유저가 채팅방 참여자인지 (findMyRoomIds 기준)
+    boolean isMember(Long userId, Long roomId);
+
     // Project Chat - 진행중 탭
     List<GroupChatRoomResponse> findActiveProjectRooms(Long userId);
 
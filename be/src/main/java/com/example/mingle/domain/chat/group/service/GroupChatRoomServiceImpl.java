@@ -1,10 +1,13 @@
 package com.example.mingle.domain.chat.group.service;
 
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
 import com.example.mingle.domain.chat.common.enums.ChatScope;
 import com.example.mingle.domain.chat.common.enums.MessageFormat;
 import com.example.mingle.domain.chat.common.enums.RoomType;
+import com.example.mingle.domain.chat.common.service.ChatReadCursorService;
 import com.example.mingle.domain.chat.group.dto.GroupChatRoomCreateRequest;
 import com.example.mingle.domain.chat.group.dto.GroupChatRoomResponse;
+import com.example.mingle.domain.chat.group.dto.GroupChatRoomSummaryProjection;
 import com.example.mingle.domain.chat.group.dto.GroupChatRoomSummaryResponse;
 import com.example.mingle.domain.chat.group.entity.GroupChatRoom;
 import com.example.mingle.domain.chat.group.repository.GroupChatRoomRepository;
@@ -21,7 +24,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +40,7 @@ public class GroupChatRoomServiceImpl implements GroupChatRoomService {
     private final ProjectLeaderAuthRepository projectLeaderAuthRepository;
     private final ProjectLeaderAuthService projectLeaderAuthService;
     private final ProjectService projectService;
+    private final ChatReadCursorService readCursorService;
 
 
     /**
@@ -104,34 +112,69 @@ public class GroupChatRoomServiceImpl implements GroupChatRoomService {
 
 
 
+    /**
+     * 유저가 속한 모든 채팅방 ID (부서 + 프로젝트)
+     * - 메시지 검색 등 scope 구분 없이 접근 가능한 방 범위가 필요할 때
+     */
+    @Override
+    public List<Long> findMyRoomIds(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다."));
+
+        List<GroupChatRoom> rooms = new ArrayList<>();
+        if (user.getDepartment() != null) {
+            rooms.addAll(roomRepository.findAllByTeamIdAndScope(user.getDepartment().getId(), ChatScope.DEPARTMENT));
+        }
+        rooms.addAll(findRoomsByScope(userId, ChatScope.PROJECT));
+        return rooms.stream().map(GroupChatRoom::getId).toList();
+    }
+
+
+
+    /**
+     * 유저가 채팅방에 접근할 수 있는지 (WebSocket 구독/재전송 전 확인)
+     * - 접근 범위는 findMyRoomIds와 동일 (부서 + 프로젝트)
+     */
+    @Override
+    public boolean isMember(Long userId, Long roomId) {
+        return roomId != null && findMyRoomIds(userId).contains(roomId);
+    }
+
+
+
     /**
      * 채팅방 요약 목록 (프론트용) 반환
      * - 각 채팅방에 대해: 최근 메시지 / 안 읽은 메시지 수 / 보낸 시각을 포함한 요약 응답 생성
+     * - 방 목록 조회 후, 모든 방의 요약을 쿼리 1회로 가져옴 (방 개수만큼 쿼리하지 않음)
+     * - 안 읽은 수는 유저별 읽음 커서 기준 (공용 isRead 플래그 대신)
      */
     @Override
     public List<GroupChatRoomSummaryResponse> getGroupChatRoomSummaries(Long userId, ChatScope scope) {
 
         List<GroupChatRoom> rooms = findRoomsByScope(userId, scope);
+        if (rooms.isEmpty()) {
+            return List.of();
+        }
 
-        return rooms.stream().map(room -> {
-            // 가장 최근 메시지 1개 조회
-            var latestMessage = messageRepository
-                    .findTopByChatRoomIdOrderByCreatedAtDesc(room.getId())
-                    .orElse(null);
+        List<Long> roomIds = rooms.stream().map(GroupChatRoom::getId).toList();
+        Map<Long, GroupChatRoomSummaryProjection> summaries = messageRepository
+                .findRoomSummaries(roomIds).stream()
+                .collect(Collectors.toMap(GroupChatRoomSummaryProjection::getRoomId, Function.identity()));
+        Map<Long, Integer> unreadCounts = readCursorService.getUnreadCounts(ChatRoomType.GROUP, roomIds, userId);
 
-            // 해당 채팅방에서 내가 읽지 않은 메시지 수 조회
-            int unreadCount = messageRepository
-                    .countByChatRoomIdAndSenderIdNotAndIsReadFalse(room.getId(), userId);
+        // 방 목록 순서를 유지하면서 요약 정보 결합
+        return rooms.stream().map(room -> {
+            GroupChatRoomSummaryProjection summary = summaries.get(room.getId());
+            boolean hasMessage = summary != null && summary.getFormat() != null;
 
-            // builder 직접 사용하여 원하는 필드 세팅
             return GroupChatRoomSummaryResponse.builder()
                     .roomId(room.getId())
                     .name(room.getName())
                     .roomType(room.getRoomType())
-                    .previewMessage(latestMessage != null ? latestMessage.getContent() : "")
-                    .format(latestMessage != null ? latestMessage.getFormat() : MessageFormat.TEXT)
-                    .unreadCount(unreadCount)
-                    .sentAt(latestMessage != null ? latestMessage.getCreatedAt() : null)
+                    .previewMessage(hasMessage ? summary.getPreviewMessage() : "")
+                    .format(hasMessage ? MessageFormat.valueOf(summary.getFormat()) : MessageFormat.TEXT)
+                    .unreadCount(unreadCounts.getOrDefault(room.getId(), 0))
+                    .sentAt(hasMessage ? summary.getSentAt() : null)
                     .build();
         }).toList();
     }
@@ -2,9 +2,12 @@ package com.example.mingle.domain.post.post.controller;
 
 import com.example.mingle.domain.post.post.dto.PostRequestDto;
 import com.example.mingle.domain.post.post.dto.PostResponseDto;
+import com.example.mingle.domain.post.post.dto.PostUploadedCreateRequest;
 import com.example.mingle.domain.post.post.entity.BusinessDocumentCategory;
 import com.example.mingle.domain.post.post.entity.NoticeType;
 import com.example.mingle.domain.post.post.service.PostService;
+import com.example.mingle.global.aws.dto.PresignedUploadRequest;
+import com.example.mingle.global.aws.dto.PresignedUploadResponse;
 import com.example.mingle.global.security.auth.SecurityUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -58,6 +61,46 @@ public class ApiV1PostController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
+    @Operation(
+            summary = "게시글 이미지 업로드 URL 발급",
+            description = "이미지를 서버를 거치지 않고 S3에 직접 올릴 수 있는 presigned PUT URL을 발급합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "발급 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청 (크기 초과 등)")
+            }
+    )
+    @PostMapping("/images/presign")
+    public ResponseEntity<PresignedUploadResponse> presignImage(
+            @RequestBody @Valid PresignedUploadRequest request,
+            @AuthenticationPrincipal SecurityUser user
+    ) {
+        return ResponseEntity.ok(postService.presignImage(user.getId(), request));
+    }
+
+    @Operation(
+            summary = "게시글 작성 (직접 업로드 이미지)",
+            description = "presigned URL로 업로드를 마친 이미지를 확인한 뒤 게시글을 작성합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "작성 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 요청 (업로드 정보 불일치 등)"),
+                    @ApiResponse(responseCode = "403", description = "권한없음"),
+                    @ApiResponse(responseCode = "404", description = "해당 게시판 또는 업로드 파일 없음")
+            }
+    )
+    @PostMapping("/create/uploaded")
+    public ResponseEntity<PostResponseDto> createPostWithUploadedImages(
+            @RequestBody @Valid PostUploadedCreateRequest request,
+            @AuthenticationPrincipal SecurityUser user
+    ) {
+        PostResponseDto responseDto = postService.createPostWithUploadedImages(
+                request.getPost().getPostTypeId(),
+                user.getId(),
+                request.getPost(),
+                request.getImages()
+        );
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
+    }
+
     //공지사항 READ (회사전체공지/부서별공지/회사소식)
     @Operation(
             summary = "공지사항 유형별 조회",
@@ -0,0 +1,26 @@
+package com.example.mingle.domain.post.post.dto;
+
+import com.example.mingle.global.aws.dto.UploadedFileRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 이미지를 S3에 직접 업로드한 뒤 게시글 작성 요청
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostUploadedCreateRequest {
+
+    @Valid
+    @NotNull(message = "게시글 정보를 입력해주세요.")
+    private PostRequestDto post;
+
+    // presigned URL로 업로드를 마친 이미지 (순서 유지)
+    private List<@Valid UploadedFileRequest> images;
+}
@@ -10,12 +10,15 @@ import com.example.mingle.domain.post.post.entity.PostType;
 import com.example.mingle.domain.post.post.repository.MenuRepository;
 import com.example.mingle.domain.post.post.repository.PostRepository;
 import com.example.mingle.domain.post.post.repository.PostTypeRepository;
-import com.example.mingle.domain.user.team.entity.Department;
 import com.example.mingle.domain.user.user.entity.User;
 import com.example.mingle.domain.user.user.entity.UserRole;
 import com.example.mingle.domain.user.user.repository.UserRepository;
 import com.example.mingle.domain.user.user.service.UserService;
+import com.example.mingle.global.aws.AwsS3DirectUploader;
 import com.example.mingle.global.aws.AwsS3Uploader;
+import com.example.mingle.global.aws.dto.PresignedUploadRequest;
+import com.example.mingle.global.aws.dto.PresignedUploadResponse;
+import com.example.mingle.global.aws.dto.UploadedFileRequest;
 import com.example.mingle.global.exception.ApiException;
 import com.example.mingle.global.exception.ErrorCode;
 import io.jsonwebtoken.io.IOException;
@@ -46,6 +49,9 @@ public class PostService {
     private final AwsS3Uploader awsS3Uploader;
     private final MenuRepository menuRepository;
     private final PostTypeRepository postTypeRepository;
+    private final AwsS3DirectUploader awsS3DirectUploader;
+
+    private static final String POST_IMAGE_DIR = "post_images";
 
     //게시글 CREATE
     @Transactional
@@ -53,11 +59,50 @@ public class PostService {
             throws IOException, java.io.IOException {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(USER_NOT_FOUND));
+        PostType postType = checkWritable(user, postTypeId, requestDto);
+
+        List<String> uploadedUrls = new ArrayList<>();
+        if (postImage != null && postImage.length > 0) {
+            for (MultipartFile image : postImage) {
+                if (image != null && !image.isEmpty()) {
+                    uploadedUrls.add(awsS3Uploader.upload(image, POST_IMAGE_DIR));
+                } else {
+                    uploadedUrls.add(null); // 이미지가 없으면 null로 처리
+                }
+            }
+        }
+
+        return savePost(user, postType, requestDto, uploadedUrls);
+    }
+
+    // 게시글 이미지 직접 업로드 1단계: S3 presigned PUT URL 발급
+    public PresignedUploadResponse presignImage(Long userId, PresignedUploadRequest request) {
+        return awsS3DirectUploader.presign(POST_IMAGE_DIR, userId, request);
+    }
+
+    // 게시글 이미지 직접 업로드 2단계: S3에 올라간 이미지 확인 후 게시글 작성
+    @Transactional
+    public PostResponseDto createPostWithUploadedImages(Long postTypeId, Long userId, PostRequestDto requestDto,
+                                                        List<UploadedFileRequest> images) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ApiException(USER_NOT_FOUND));
+        PostType postType = checkWritable(user, postTypeId, requestDto);
+
+        List<String> uploadedUrls = new ArrayList<>();
+        if (images != null) {
+            for (UploadedFileRequest image : images) {
+                uploadedUrls.add(awsS3DirectUploader.confirm(POST_IMAGE_DIR, userId, image));
+            }
+        }
 
+        return savePost(user, postType, requestDto, uploadedUrls);
+    }
+
+    // 게시판 작성 권한 확인
+    private PostType checkWritable(User user, Long postTypeId, PostRequestDto requestDto) {
         PostType postType = postTypeRepository.findById(postTypeId)
                 .orElseThrow(() -> new ApiException(ErrorCode.POST_MENU_NOT_FOUND));
         PostMenu menu = postType.getMenu();
-        Department department = user.getDepartment();
 
         // 이 글이 '공지사항'이라면 -> 작성 권한 체크
         if (menu.getName().equals("공지사항")) {
@@ -86,20 +131,13 @@ public class PostService {
             log.warn("PostType {} has no department assigned, allowing post creation without department restriction", postTypeId);
         }
 
-        List<String> uploadedUrls = new ArrayList<>();
-        if (postImage != null && postImage.length > 0) {
-            for (MultipartFile image : postImage) {
-                if (image != null && !image.isEmpty()) {
-                    uploadedUrls.add(awsS3Uploader.upload(image, "post_images"));
-                } else {
-                    uploadedUrls.add(null); // 이미지가 없으면 null로 처리
-                }
-            }
-        }
+        return postType;
+    }
 
+    private PostResponseDto savePost(User user, PostType postType, PostRequestDto requestDto, List<String> uploadedUrls) {
         Post post = Post.builder()
-                .department(department)
-                .menu(menu)
+                .department(user.getDepartment())
+                .menu(postType.getMenu())
                 .postType(postType)
                 .category(requestDto.getBusinessDocumentCategory())
                 .user(user)
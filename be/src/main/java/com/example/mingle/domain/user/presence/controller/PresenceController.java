@@ -3,10 +3,6 @@ package com.example.mingle.domain.user.presence.controller;
 import com.example.mingle.domain.user.presence.dto.PresenceStatusDto;
 import com.example.mingle.domain.user.presence.service.PresenceService;
 import com.example.mingle.domain.user.user.entity.PresenceStatus;
-import com.example.mingle.domain.user.user.entity.User;
-import com.example.mingle.domain.user.user.repository.UserRepository;
-import com.example.mingle.global.exception.ApiException;
-import com.example.mingle.global.exception.ErrorCode;
 import com.example.mingle.global.security.auth.SecurityUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +10,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 
 @RestController
@@ -22,20 +19,21 @@ import java.util.List;
 public class PresenceController {
 
     private final PresenceService presenceService;
-    private final UserRepository userRepository;
 
     // 단일 유저 상태 조회
     @GetMapping("/{userId}")
     public ResponseEntity<PresenceStatusDto> getStatus(@PathVariable Long userId) {
         PresenceStatus status = presenceService.getStatus(userId);
-        return ResponseEntity.ok(toDto(userId, status));
+        return ResponseEntity.ok(PresenceStatusDto.of(userId, status));
     }
 
     // 여러 유저 상태 한 번에 조회 (채팅방 유저 목록용)
     @GetMapping("/batch")
     public ResponseEntity<List<PresenceStatusDto>> getStatuses(@RequestParam List<Long> userIds) {
+        // 저장소 왕복 1번으로 일괄 조회
+        Map<Long, PresenceStatus> statuses = presenceService.getStatuses(userIds);
         List<PresenceStatusDto> result = userIds.stream()
-                .map(id -> toDto(id, presenceService.getStatus(id)))
+                .map(id -> PresenceStatusDto.of(id, statuses.getOrDefault(id, PresenceStatus.OFFLINE)))
                 .toList();
         return ResponseEntity.ok(result);
     }
@@ -51,23 +49,9 @@ public class PresenceController {
             // 수동 상태 해제 → 자동으로 복귀
             presenceService.clearManualStatus(userId);
         } else {
-            // 수동 상태 설정
+            // 수동 상태 설정 (DB 저장은 PresenceService가 모아서 처리)
             presenceService.setManualStatus(userId, status);
-
-            // DB에 저장
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-            user.setPresence(status);
         }
         return ResponseEntity.ok().build();
     }
-
-    private PresenceStatusDto toDto(Long userId, PresenceStatus status) {
-        return new PresenceStatusDto(
-                userId,
-                status.name(),          // "ONLINE"
-                status.getDisplayName(),// "활동 중"
-                status.getColor()       // "green"
-        );
-    }
 }
@@ -0,0 +1,10 @@
+package com.example.mingle.domain.user.presence.dto;
+
+import java.util.List;
+
+/**
+ * 노드 간 활동 상태 변경 알림 (sweep 1회분을 묶어서 발행)
+ * - 상태 값은 저장소에서 다시 읽으므로 유저 ID만 전달
+ */
+public record PresenceChangedEvent(List<Long> userIds) {
+}
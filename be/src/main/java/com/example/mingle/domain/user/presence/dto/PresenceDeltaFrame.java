@@ -0,0 +1,15 @@
+package com.example.mingle.domain.user.presence.dto;
+
+import java.util.List;
+
+/**
+ * 서버 → 클라이언트 활동 상태 변경 프레임
+ * - 예: {"type":"PRESENCE","statuses":[{"userId":3,"status":"AWAY","displayName":"자리비움","color":"yellow"}]}
+ * - 구독 직후에는 구독한 유저 전체 스냅샷, 이후에는 바뀐 유저만 전송
+ */
+public record PresenceDeltaFrame(String type, List<PresenceStatusDto> statuses) {
+
+    public static PresenceDeltaFrame of(List<PresenceStatusDto> statuses) {
+        return new PresenceDeltaFrame("PRESENCE", statuses);
+    }
+}
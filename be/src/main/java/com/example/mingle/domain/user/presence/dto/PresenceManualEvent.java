@@ -0,0 +1,11 @@
+package com.example.mingle.domain.user.presence.dto;
+
+import com.example.mingle.domain.user.user.entity.PresenceStatus;
+
+/**
+ * 노드 간 수동 상태 변경 요청
+ * - REST 요청을 받은 노드와 소켓이 연결된 노드가 다를 수 있으므로 발행 → 소켓이 있는 노드가 반영
+ * - status가 ONLINE이면 수동 상태 해제
+ */
+public record PresenceManualEvent(Long userId, PresenceStatus status) {
+}
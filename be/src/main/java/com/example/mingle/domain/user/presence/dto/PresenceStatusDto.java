@@ -1,5 +1,6 @@
 package com.example.mingle.domain.user.presence.dto;
 
+import com.example.mingle.domain.user.user.entity.PresenceStatus;
 import lombok.*;
 
 @Getter
@@ -11,4 +12,13 @@ public class PresenceStatusDto {
     private String status;
     private String displayName;
     private String color;
+
+    public static PresenceStatusDto of(Long userId, PresenceStatus status) {
+        return new PresenceStatusDto(
+                userId,
+                status.name(),          // "ONLINE"
+                status.getDisplayName(),// "활동 중"
+                status.getColor()       // "green"
+        );
+    }
 }
@@ -0,0 +1,249 @@
+package com.example.mingle.domain.user.presence.service;
+
+import com.example.mingle.domain.user.presence.dto.PresenceDeltaFrame;
+import com.example.mingle.domain.user.presence.dto.PresenceStatusDto;
+import com.example.mingle.domain.user.user.entity.PresenceStatus;
+import com.example.mingle.global.websocket.WebSocketMessageSender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활동 상태 구독 + 변경분 push (/ws/chat 소켓 공용)
+ * - 클라이언트가 PRESENCE_SUBSCRIBE 프레임으로 관심 유저 ID 목록을 등록하면 현재 상태 스냅샷을 바로 전송
+ * - 이후에는 interval-ms마다 PresenceService에서 바뀐 유저를 가져와 세션별로 모아 프레임 1개로 전송
+ * - 세션별로 마지막 전송 상태를 기억 → 주기 안에서 바뀌었다가 되돌아온 상태는 보내지 않음
+ * - 노드가 죽어 상태 키가 TTL로 만료되면 변경 알림이 없으므로, expiry-sweep-ms마다 구독 중인 유저 전체를 다시 읽어 차이만 전송
+ * - 지표: presence.push.sessions, presence.push.watched, presence.push.frames
+ */
+@Slf4j
+@Service
+public class PresencePushService {
+
+    private final PresenceService presenceService;
+    private final WebSocketMessageSender messageSender;
+    private final ObjectMapper objectMapper;
+    private final int maxWatchedPerSession;
+    private final int expirySweepBatchSize;
+
+    // 세션 ID → 구독 정보
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    // 유저 ID → 그 유저를 구독 중인 세션 ID (변경 시 대상 세션 탐색용)
+    private final Map<Long, Set<String>> watchers = new ConcurrentHashMap<>();
+
+    private final Counter frameCounter;
+
+    public PresencePushService(PresenceService presenceService,
+                               WebSocketMessageSender messageSender,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${presence.push.max-watched-per-session:1000}") int maxWatchedPerSession,
+                               @Value("${presence.push.expiry-sweep-batch-size:1000}") int expirySweepBatchSize) {
+        this.presenceService = presenceService;
+        this.messageSender = messageSender;
+        this.objectMapper = objectMapper;
+        this.maxWatchedPerSession = maxWatchedPerSession;
+        this.expirySweepBatchSize = expirySweepBatchSize;
+
+        Gauge.builder("presence.push.sessions", subscribers, Map::size)
+                .description("활동 상태를 구독 중인 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("presence.push.watched", watchers, Map::size)
+                .description("한 세션 이상이 구독 중인 유저 수")
+                .register(meterRegistry);
+        this.frameCounter = meterRegistry.counter("presence.push.frames");
+    }
+
+    /**
+     * 유저 목록 구독 추가 (기존 구독 유지) + 새로 추가된 유저의 현재 상태 즉시 전송
+     * - 구독을 먼저 등록한 뒤 스냅샷 조회 → 그 사이 바뀐 상태도 flush에서 걸러지지 않음
+     * - 스냅샷 전에 flush/sweep이 먼저 보낸 유저는 스냅샷에서 제외 (이미 최신 상태를 받았거나 다음 flush에서 받음)
+     */
+    public void subscribe(WebSocketSession session, Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) return;
+
+        List<Long> requested = userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .limit(maxWatchedPerSession)
+                .toList();
+
+        // 1) 구독 등록 (아직 보낸 상태 없음 = null)
+        Subscriber subscriber = subscribers.computeIfAbsent(session.getId(), id -> new Subscriber(session));
+        List<Long> added = new ArrayList<>();
+        synchronized (subscriber) {
+            for (Long userId : requested) {
+                if (subscriber.lastSent.containsKey(userId)) continue;
+                if (subscriber.lastSent.size() >= maxWatchedPerSession) {
+                    log.warn("활동 상태 구독 상한 초과: sessionId={}, max={}", session.getId(), maxWatchedPerSession);
+                    break;
+                }
+                subscriber.lastSent.put(userId, null);
+                watch(userId, session.getId());
+                added.add(userId);
+            }
+        }
+        if (added.isEmpty()) return;
+
+        // 2) 저장소 조회는 잠금 밖에서 한 번에
+        Map<Long, PresenceStatus> statuses = presenceService.getStatuses(added);
+
+        // 3) 아직 아무것도 보내지 않은 유저만 스냅샷으로 전송
+        List<PresenceStatusDto> snapshot = new ArrayList<>();
+        synchronized (subscriber) {
+            for (Long userId : added) {
+                if (!subscriber.lastSent.containsKey(userId) || subscriber.lastSent.get(userId) != null) continue;
+                PresenceStatus status = statuses.getOrDefault(userId, PresenceStatus.OFFLINE);
+                subscriber.lastSent.put(userId, status);
+                snapshot.add(PresenceStatusDto.of(userId, status));
+            }
+        }
+        send(subscriber, snapshot);
+    }
+
+    /**
+     * 유저 목록 구독 해제 (userIds가 비어 있으면 전체 해제)
+     */
+    public void unsubscribe(WebSocketSession session, Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            unsubscribeAll(session.getId());
+            return;
+        }
+
+        Subscriber subscriber = subscribers.get(session.getId());
+        if (subscriber == null) return;
+        synchronized (subscriber) {
+            for (Long userId : userIds) {
+                // 스냅샷 전송 전(null)이어도 구독 중이므로 containsKey로 확인
+                if (subscriber.lastSent.containsKey(userId)) {
+                    subscriber.lastSent.remove(userId);
+                    unwatch(userId, session.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * 세션 종료 시 구독 정리
+     */
+    public void unsubscribeAll(String sessionId) {
+        Subscriber subscriber = subscribers.remove(sessionId);
+        if (subscriber == null) return;
+        synchronized (subscriber) {
+            subscriber.lastSent.keySet().forEach(userId -> unwatch(userId, sessionId));
+            subscriber.lastSent.clear();
+        }
+    }
+
+    /**
+     * 주기마다 바뀐 유저의 상태를 세션별로 모아 전송
+     */
+    // flush / sweepExpired는 조회 + 전송을 직렬로 → 늦게 읽은 옛 상태가 새 상태를 덮어 보내지 않음
+    @Scheduled(fixedDelayString = "${presence.push.interval-ms:1000}")
+    public synchronized void flush() {
+        // 구독자가 있는 유저만 저장소에서 한 번에 조회
+        List<Long> changed = presenceService.drainChangedUsers().stream()
+                .filter(watchers::containsKey)
+                .toList();
+        if (changed.isEmpty()) return;
+
+        int sessions = push(presenceService.getStatuses(changed));
+        log.debug("활동 상태 push: changed={}, sessions={}", changed.size(), sessions);
+    }
+
+    /**
+     * 구독 중인 유저 전체 상태를 다시 읽어 마지막 전송 상태와 다른 것만 전송
+     * - 상태 키 TTL 만료(노드 장애로 OFFLINE 기록 없이 사라진 경우)는 변경 알림이 오지 않으므로 주기적으로 확인
+     */
+    @Scheduled(fixedDelayString = "${presence.push.expiry-sweep-ms:30000}")
+    public synchronized void sweepExpired() {
+        List<Long> watched = new ArrayList<>(watchers.keySet());
+        int sessions = 0;
+        for (int from = 0; from < watched.size(); from += expirySweepBatchSize) {
+            List<Long> batch = watched.subList(from, Math.min(from + expirySweepBatchSize, watched.size()));
+            sessions += push(presenceService.getStatuses(batch));
+        }
+        if (sessions > 0) {
+            log.debug("활동 상태 만료 확인 push: watched={}, sessions={}", watched.size(), sessions);
+        }
+    }
+
+    // 유저별 상태를 구독 세션별로 모아 전송 (마지막 전송 상태와 같으면 생략) → 전송한 세션 수
+    private int push(Map<Long, PresenceStatus> statuses) {
+        Map<Subscriber, List<PresenceStatusDto>> deltas = new HashMap<>();
+        for (Long userId : statuses.keySet()) {
+            Set<String> sessionIds = watchers.get(userId);
+            if (sessionIds == null) continue;
+
+            PresenceStatus status = statuses.getOrDefault(userId, PresenceStatus.OFFLINE);
+            for (String sessionId : sessionIds) {
+                Subscriber subscriber = subscribers.get(sessionId);
+                if (subscriber == null) continue;
+
+                synchronized (subscriber) {
+                    // 구독 해제됐거나 마지막으로 보낸 상태와 같으면 생략
+                    if (!subscriber.lastSent.containsKey(userId)) continue;
+                    if (subscriber.lastSent.put(userId, status) == status) continue;
+                }
+                deltas.computeIfAbsent(subscriber, k -> new ArrayList<>()).add(PresenceStatusDto.of(userId, status));
+            }
+        }
+
+        deltas.forEach(this::send);
+        return deltas.size();
+    }
+
+    private void send(Subscriber subscriber, List<PresenceStatusDto> statuses) {
+        if (statuses.isEmpty()) return;
+        try {
+            String json = objectMapper.writeValueAsString(PresenceDeltaFrame.of(statuses));
+            messageSender.send(subscriber.session, new TextMessage(json));
+            frameCounter.increment();
+        } catch (Exception e) {
+            log.warn("활동 상태 push 실패: sessionId={}", subscriber.session.getId(), e);
+        }
+    }
+
+    // compute 안에서 추가/제거 → 빈 집합 제거와 동시에 추가돼도 유실 없음
+    private void watch(Long userId, String sessionId) {
+        watchers.compute(userId, (k, sessionIds) -> {
+            Set<String> target = sessionIds != null ? sessionIds : ConcurrentHashMap.newKeySet();
+            target.add(sessionId);
+            return target;
+        });
+    }
+
+    private void unwatch(Long userId, String sessionId) {
+        watchers.computeIfPresent(userId, (k, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    // 세션별 구독 유저와 마지막으로 보낸 상태 (synchronized(this)로 보호, 스냅샷 전송 전이면 null)
+    private static final class Subscriber {
+        private final WebSocketSession session;
+        private final Map<Long, PresenceStatus> lastSent = new HashMap<>();
+
+        private Subscriber(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
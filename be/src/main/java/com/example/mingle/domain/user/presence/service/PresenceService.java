@@ -1,97 +1,364 @@
 package com.example.mingle.domain.user.presence.service;
 
+import com.example.mingle.domain.chat.common.cluster.ChatClusterBus;
+import com.example.mingle.domain.user.presence.dto.PresenceChangedEvent;
+import com.example.mingle.domain.user.presence.dto.PresenceManualEvent;
+import com.example.mingle.domain.user.presence.store.PresenceStore;
 import com.example.mingle.domain.user.user.entity.PresenceStatus;
-import com.example.mingle.domain.user.user.entity.User;
-import com.example.mingle.domain.user.user.repository.UserRepository;
-import com.example.mingle.global.exception.ApiException;
-import com.example.mingle.global.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.TaskScheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
 
 import static com.example.mingle.global.constants.TimeConstants.AWAY_DELAY_SECONDS;
+import static com.example.mingle.global.constants.TimeConstants.OFFLINE_DELAY_SECONDS;
+import static com.example.mingle.global.constants.TimeConstants.PRESENCE_SWEEP_INTERVAL_MS;
 
-
-@Service
-@RequiredArgsConstructor
+/**
+ * 유저 활동 상태 관리
+ * - 소켓이 연결된 노드가 그 유저 상태의 주인: 마지막 ping 시각을 기록하고 sweeper가 AWAY / OFFLINE으로 일괄 전환
+ * - 같은 유저의 연결(탭/기기)은 노드별로 개수를 세고, 마지막 연결이 끊길 때만 OFFLINE 처리 (수동 상태 유지)
+ * - ping 처리는 volatile 필드 쓰기 1회, 저장소(Redis) 기록은 sweep마다 바뀐 상태 + TTL 갱신분만 파이프라인 1회
+ * - 조회는 저장소에서 → 어느 노드가 응답해도 같은 상태
+ * - 상태가 바뀐 유저는 클러스터 버스로 알리고, 받은 유저 ID는 changedUsers에 모아 PresencePushService가 가져감
+ * - 수동 상태는 버스로 소켓이 있는 노드에 전달, DB(User.presence)에는 유저별 마지막 값만 주기적으로 저장 (write-behind)
+ */
 @Slf4j
+@Service
 public class PresenceService {
 
-    private final UserRepository userRepository;
-    private final TaskScheduler taskScheduler;
+    private static final String CHANGED_CHANNEL = ChatClusterBus.PRESENCE_CHANNEL_PREFIX + "changed";
+    private static final String MANUAL_CHANNEL = ChatClusterBus.PRESENCE_CHANNEL_PREFIX + "manual";
+
+    private static final String PRESENCE_UPDATE = "UPDATE `user` SET presence = ? WHERE id = ?";
+
+    private final PresenceStore presenceStore;
+    private final ChatClusterBus clusterBus;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final long refreshIntervalMs;
+
+    // 이 노드에 소켓이 연결된 유저의 상태 + 마지막 ping 시각
+    private final Map<Long, PresenceEntry> presenceMap = new ConcurrentHashMap<>();
+
+    // 이 노드에 열린 유저별 소켓 수 (connect/disconnect는 이 맵의 compute 안에서 처리 → 유저 단위로 직렬화)
+    private final Map<Long, Integer> connections = new ConcurrentHashMap<>();
+
+    // 연결이 끊겨 저장소에 OFFLINE을 기록해야 하는 유저
+    private final Set<Long> disconnectedUsers = ConcurrentHashMap.newKeySet();
 
-    // 유저 상태 저장소
-    private final Map<Long, PresenceStatus> presenceMap = new ConcurrentHashMap<>();
-    // 유저별 자리비움 타이머 저장소
-    private final Map<Long, ScheduledFuture<?>> awayTimers = new ConcurrentHashMap<>();
-    // 수동으로 상태 변경한 유저 셋
-    private final Set<Long> manualUsers = ConcurrentHashMap.newKeySet();
+    // 이 노드에서 상태가 바뀌어 다음 sweep 때 다른 노드에 알릴 유저
+    private final Set<Long> pendingAnnounce = ConcurrentHashMap.newKeySet();
+
+    // 클러스터 전체에서 상태가 바뀐 유저 (마지막으로 가져간 이후)
+    private final Set<Long> changedUsers = ConcurrentHashMap.newKeySet();
+
+    // DB에 저장할 수동 상태 (유저별 마지막 값만 남음)
+    private final Map<Long, PresenceStatus> pendingPersist = new ConcurrentHashMap<>();
+
+    public PresenceService(PresenceStore presenceStore,
+                           ChatClusterBus clusterBus,
+                           ObjectMapper objectMapper,
+                           JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${presence.store.ttl-seconds:90}") long ttlSeconds) {
+        this.presenceStore = presenceStore;
+        this.clusterBus = clusterBus;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        // TTL의 1/3마다 갱신 → 한두 번 기록이 실패해도 만료되지 않음
+        this.refreshIntervalMs = ttl.toMillis() / 3;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        clusterBus.subscribe(ChatClusterBus.PRESENCE_CHANNEL_PREFIX, this::onClusterEvent);
+    }
 
     // 유저의 현재 상태 조회
     public PresenceStatus getStatus(Long userId) {
-        return presenceMap.getOrDefault(userId, PresenceStatus.OFFLINE);
+        return getStatuses(List.of(userId)).get(userId);
     }
 
-    public void startAwayTimer(Long userId) {
-        cancelAwayTimer(userId);
-        ScheduledFuture<?> task = taskScheduler.schedule(
-                () -> {
-                    log.info("⏰ 타이머 완료: userId={} → 상태를 AWAY로 변경", userId);
-                    setStatus(userId, PresenceStatus.AWAY);
-                },
-                Instant.now().plus(AWAY_DELAY_SECONDS, ChronoUnit.SECONDS)
-        );
-        awayTimers.put(userId, task);
+    // 여러 유저 상태 일괄 조회 (저장소 왕복 1번)
+    public Map<Long, PresenceStatus> getStatuses(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        return presenceStore.read(userIds);
     }
 
+    /**
+     * 소켓 연결 시 호출 (이 노드가 상태의 주인이 됨)
+     * - 저장된 상태가 방해금지/자리비움이면 수동 상태로 복원, 아니면 ONLINE
+     * - 이미 다른 연결이 있고 수동 상태면 그대로 유지 (DB 값은 아직 반영 전일 수 있음)
+     */
+    public void connect(Long userId, PresenceStatus savedStatus) {
+        // 아직 DB에 반영되지 않은 수동 상태가 있으면 그 값이 최신
+        PresenceStatus saved = pendingPersist.getOrDefault(userId, savedStatus);
+        boolean manual = saved == PresenceStatus.DO_NOT_DISTURB || saved == PresenceStatus.AWAY;
+        PresenceStatus status = manual ? saved : PresenceStatus.ONLINE;
 
-    // 유저의 자리비움 타이머 취소
-    public void cancelAwayTimer(Long userId) {
-        ScheduledFuture<?> existing = awayTimers.remove(userId);
-        if (existing != null) existing.cancel(true);
+        connections.compute(userId, (id, count) -> {
+            PresenceEntry entry = entryOf(userId);
+            if (count != null && entry.manual) {
+                entry.lastSeen = System.currentTimeMillis();
+            } else {
+                markChanged(userId, entry.set(status, manual, true));
+            }
+            disconnectedUsers.remove(userId);
+            return count == null ? 1 : count + 1;
+        });
     }
 
-    // 유저가 수동 상태 설정
-    @Transactional
-    public void setManualStatus(Long userId, PresenceStatus status) {
-        presenceMap.put(userId, status);
-        manualUsers.add(userId);
-        cancelAwayTimer(userId);
+    /**
+     * 소켓 종료 시 호출 → 이 노드의 마지막 연결이면 다음 sweep 때 저장소에 OFFLINE 기록
+     */
+    public void disconnect(Long userId) {
+        connections.computeIfPresent(userId, (id, count) -> {
+            if (count > 1) return count - 1;
+            if (presenceMap.remove(userId) != null) {
+                disconnectedUsers.add(userId);
+                pendingAnnounce.add(userId);
+            }
+            return null;
+        });
+    }
 
-        // DB에도 저장
-        User user = userRepository.findById(userId).orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-        user.setPresence(status);
+    // 유저가 수동 상태 설정 (어느 노드에서 호출해도 됨)
+    public void setManualStatus(Long userId, PresenceStatus status) {
+        pendingPersist.put(userId, status);
+        publish(MANUAL_CHANNEL, new PresenceManualEvent(userId, status));
     }
 
     // 유저가 수동 다시 온라인으로 상태 변화
     public void clearManualStatus(Long userId) {
-        manualUsers.remove(userId);
-        presenceMap.put(userId, PresenceStatus.ONLINE);
-        startAwayTimer(userId);
+        // 다음 접속 때 수동 상태가 복원되지 않도록 DB 값도 되돌림
+        pendingPersist.put(userId, PresenceStatus.ONLINE);
+        publish(MANUAL_CHANNEL, new PresenceManualEvent(userId, PresenceStatus.ONLINE));
     }
 
     // 자동 ping 처리 시 manual 유저는 무시
     public void handlePing(Long userId) {
-        if (manualUsers.contains(userId)) {
-            return;
+        PresenceEntry entry = entryOf(userId);
+        entry.lastSeen = System.currentTimeMillis();
+        if (entry.status != PresenceStatus.ONLINE && !entry.manual) {
+            entry.status = PresenceStatus.ONLINE;
+            pendingAnnounce.add(userId);
         }
-        presenceMap.put(userId, PresenceStatus.ONLINE);
-        startAwayTimer(userId);
     }
 
     // 유저의 현재 상태를 변경 하는 메서드
+    // - ONLINE으로 바꾸면 그 시점부터 자리비움 시간 계산
     public void setStatus(Long userId, PresenceStatus status) {
-        presenceMap.put(userId, status);
+        PresenceEntry entry = entryOf(userId);
+        markChanged(userId, entry.set(status, entry.manual, status == PresenceStatus.ONLINE));
     }
 
-}
+    /**
+     * 마지막 ping 이후 일정 시간이 지난 유저를 일괄 전환하고 저장소에 반영
+     * - ONLINE → AWAY: AWAY_DELAY_SECONDS
+     * - ONLINE / AWAY → OFFLINE: OFFLINE_DELAY_SECONDS (연결 종료 이벤트 없이 끊긴 경우)
+     * - 수동 상태 유저는 전환 제외
+     * - 저장소에는 상태가 바뀐 유저 + ping이 있었고 갱신 주기가 된 유저만 기록
+     */
+    @Scheduled(fixedDelay = PRESENCE_SWEEP_INTERVAL_MS)
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        long awayBefore = now - AWAY_DELAY_SECONDS * 1000L;
+        long offlineBefore = now - OFFLINE_DELAY_SECONDS * 1000L;
+
+        int away = 0;
+        int offline = 0;
+        Map<Long, PresenceStatus> writes = new HashMap<>();
+        for (Map.Entry<Long, PresenceEntry> e : presenceMap.entrySet()) {
+            Long userId = e.getKey();
+            PresenceEntry entry = e.getValue();
+
+            PresenceStatus status = entry.status;
+            long lastSeen = entry.lastSeen;
+            if (!entry.manual && status == PresenceStatus.ONLINE && lastSeen < awayBefore) {
+                // ping이 그 사이 들어왔으면 덮어쓰지 않음
+                if (entry.transition(lastSeen, PresenceStatus.ONLINE, PresenceStatus.AWAY)) {
+                    pendingAnnounce.add(userId);
+                    away++;
+                }
+            } else if (!entry.manual && status == PresenceStatus.AWAY && lastSeen < offlineBefore) {
+                if (entry.transition(lastSeen, PresenceStatus.AWAY, PresenceStatus.OFFLINE)) {
+                    pendingAnnounce.add(userId);
+                    offline++;
+                }
+            }
+
+            status = entry.status;
+            boolean refresh = entry.lastSeen > entry.writtenAt && now - entry.writtenAt >= refreshIntervalMs;
+            if (status != entry.written || refresh) {
+                writes.put(userId, status);
+                entry.written = status;
+                entry.writtenAt = now;
+            }
+        }
+
+        List<Long> disconnected = drain(disconnectedUsers);
+        for (Long userId : disconnected) {
+            // 그 사이 다시 연결됐으면 새 항목 값 유지 (이번에 못 읽었으면 다음 sweep에서 기록)
+            if (!presenceMap.containsKey(userId)) {
+                writes.put(userId, PresenceStatus.OFFLINE);
+            }
+        }
+
+        if (!writes.isEmpty()) {
+            try {
+                presenceStore.write(writes, ttl);
+            } catch (Exception e) {
+                // 다음 sweep에서 다시 기록
+                writes.keySet().forEach(userId -> {
+                    PresenceEntry entry = presenceMap.get(userId);
+                    if (entry != null) entry.written = null;
+                });
+                disconnectedUsers.addAll(disconnected);
+                log.warn("Presence 저장 실패: users={}, error={}", writes.size(), e.getMessage());
+                return;
+            }
+        }
+
+        // 저장소 반영 후 알림 → 받은 노드가 읽으면 새 값
+        List<Long> announce = drain(pendingAnnounce);
+        if (!announce.isEmpty()) {
+            publish(CHANGED_CHANNEL, new PresenceChangedEvent(announce));
+        }
+
+        if (away > 0 || offline > 0) {
+            log.debug("Presence 일괄 전환: AWAY={}, OFFLINE={}", away, offline);
+        }
+    }
 
+    /**
+     * 수동 상태를 DB(User.presence)에 반영 (write-behind)
+     * - 유저별 마지막 값만 batch UPDATE, 실패하면 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${presence.persist.flush-interval-ms:2000}")
+    public void persist() {
+        if (pendingPersist.isEmpty()) return;
+
+        Map<Long, PresenceStatus> batch = new HashMap<>(pendingPersist);
+        List<Object[]> args = new ArrayList<>(batch.size());
+        batch.forEach((userId, status) -> args.add(new Object[]{status.name(), userId}));
+
+        try {
+            transactionTemplate.executeWithoutResult(tx -> jdbcTemplate.batchUpdate(PRESENCE_UPDATE, args));
+            // 그 사이 다시 바뀐 값은 남겨서 다음 주기에 저장
+            batch.forEach(pendingPersist::remove);
+        } catch (Exception e) {
+            log.warn("수동 Presence 저장 실패: users={}, error={}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persist();
+    }
+
+    /**
+     * 마지막 호출 이후 상태가 바뀐 유저 ID를 가져가고 비움
+     */
+    public List<Long> drainChangedUsers() {
+        return drain(changedUsers);
+    }
+
+    // 다른 노드(자기 자신 포함)의 상태 변경 반영
+    private void onClusterEvent(String channel, String json) {
+        try {
+            if (CHANGED_CHANNEL.equals(channel)) {
+                changedUsers.addAll(objectMapper.readValue(json, PresenceChangedEvent.class).userIds());
+            } else if (MANUAL_CHANNEL.equals(channel)) {
+                applyManual(objectMapper.readValue(json, PresenceManualEvent.class));
+            }
+        } catch (Exception e) {
+            log.warn("Presence 이벤트 처리 실패: channel={}, error={}", channel, e.getMessage());
+        }
+    }
+
+    // 소켓이 이 노드에 있는 유저만 반영 (없으면 다음 접속 때 DB 값으로 복원)
+    private void applyManual(PresenceManualEvent event) {
+        PresenceEntry entry = presenceMap.get(event.userId());
+        if (entry == null) return;
+
+        boolean changed = event.status() == PresenceStatus.ONLINE
+                ? entry.set(PresenceStatus.ONLINE, false, true)
+                : entry.set(event.status(), true, false);
+        markChanged(event.userId(), changed);
+    }
+
+    private void publish(String channel, Object event) {
+        try {
+            clusterBus.publish(channel, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.warn("Presence 이벤트 발행 실패: channel={}", channel, e);
+        }
+    }
+
+    private void markChanged(Long userId, boolean changed) {
+        if (changed) pendingAnnounce.add(userId);
+    }
+
+    private PresenceEntry entryOf(Long userId) {
+        PresenceEntry entry = presenceMap.get(userId);
+        return entry != null ? entry : presenceMap.computeIfAbsent(userId, id -> new PresenceEntry());
+    }
+
+    private static <T> List<T> drain(Set<T> set) {
+        List<T> drained = new ArrayList<>(set);
+        drained.forEach(set::remove);
+        return drained;
+    }
+
+    // 유저 1명의 상태 (ping 스레드와 sweeper가 함께 접근)
+    private static final class PresenceEntry {
+        volatile long lastSeen = System.currentTimeMillis();
+        volatile PresenceStatus status = PresenceStatus.OFFLINE;
+        volatile boolean manual;
+
+        // 저장소에 마지막으로 기록한 상태/시각 (sweeper만 접근)
+        PresenceStatus written;
+        long writtenAt;
+
+        // sweeper 전환: 확인 이후 ping/상태 변경이 없었을 때만 적용
+        // - 상태를 먼저 쓰고 lastSeen을 다시 읽음 (ping은 lastSeen을 쓰고 상태를 읽음)
+        //   → 동시에 들어온 ping은 둘 중 한쪽에서 반드시 보이므로 ONLINE이 유지됨
+        synchronized boolean transition(long seenAt, PresenceStatus from, PresenceStatus to) {
+            if (lastSeen != seenAt || status != from || manual) return false;
+            status = to;
+            if (lastSeen != seenAt) {
+                status = from;
+                return false;
+            }
+            return true;
+        }
+
+        // 상태가 바뀌었으면 true
+        synchronized boolean set(PresenceStatus newStatus, boolean newManual, boolean seen) {
+            if (seen) lastSeen = System.currentTimeMillis();
+            manual = newManual;
+            PresenceStatus previous = status;
+            status = newStatus;
+            return previous != newStatus;
+        }
+    }
+}
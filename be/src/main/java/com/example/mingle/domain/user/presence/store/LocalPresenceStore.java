@@ -0,0 +1,43 @@
+package com.example.mingle.domain.user.presence.store;
+
+import com.example.mingle.domain.user.user.entity.PresenceStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내부 저장소 (Redis 대체용)
+ * - presence.store.type=local (기본값, test 프로필)
+ * - 단일 노드에서는 연결 종료 시 항상 OFFLINE이 기록되므로 TTL은 사용하지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "presence.store.type", havingValue = "local", matchIfMissing = true)
+public class LocalPresenceStore implements PresenceStore {
+
+    private final Map<Long, PresenceStatus> statuses = new ConcurrentHashMap<>();
+
+    @Override
+    public void write(Map<Long, PresenceStatus> updates, Duration ttl) {
+        updates.forEach((userId, status) -> {
+            if (status == PresenceStatus.OFFLINE) {
+                statuses.remove(userId);
+            } else {
+                statuses.put(userId, status);
+            }
+        });
+    }
+
+    @Override
+    public Map<Long, PresenceStatus> read(Collection<Long> userIds) {
+        Map<Long, PresenceStatus> result = new HashMap<>();
+        for (Long userId : userIds) {
+            result.put(userId, statuses.getOrDefault(userId, PresenceStatus.OFFLINE));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.mingle.domain.user.presence.store;
+
+import com.example.mingle.domain.user.user.entity.PresenceStatus;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 클러스터 전체에서 조회하는 유저 활동 상태 저장소
+ * - 쓰기는 소켓이 연결된 노드(상태의 주인)의 PresenceService sweep에서만 한 번에 모아서 수행
+ * - 키가 없거나 만료된 유저는 OFFLINE
+ * - 구현체: 프로세스 내부 (단일 노드/테스트), Redis (다중 노드)
+ */
+public interface PresenceStore {
+
+    // 상태 일괄 기록 (OFFLINE은 삭제), ttl 동안 갱신이 없으면 OFFLINE으로 간주
+    void write(Map<Long, PresenceStatus> statuses, Duration ttl);
+
+    // 상태 일괄 조회 (요청한 모든 유저 포함, 없으면 OFFLINE)
+    Map<Long, PresenceStatus> read(Collection<Long> userIds);
+}
@@ -0,0 +1,86 @@
+package com.example.mingle.domain.user.presence.store;
+
+import com.example.mingle.domain.user.user.entity.PresenceStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 저장소
+ * - presence.store.type=redis (prod 프로필)
+ * - 유저마다 presence:user:{id} = 상태 이름, TTL 부여 → 노드가 죽어 갱신이 끊기면 만료되어 OFFLINE
+ * - 쓰기/읽기 모두 파이프라인 1회 (유저 수와 무관하게 왕복 1번)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "presence.store.type", havingValue = "redis")
+public class RedisPresenceStore implements PresenceStore {
+
+    private static final String KEY_PREFIX = "presence:user:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisPresenceStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void write(Map<Long, PresenceStatus> statuses, Duration ttl) {
+        Expiration expiration = Expiration.from(ttl);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            statuses.forEach((userId, status) -> {
+                byte[] key = key(userId);
+                if (status == PresenceStatus.OFFLINE) {
+                    connection.keyCommands().del(key);
+                } else {
+                    connection.stringCommands().set(key, status.name().getBytes(StandardCharsets.UTF_8),
+                            expiration, RedisStringCommands.SetOption.upsert());
+                }
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public Map<Long, PresenceStatus> read(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : ids) {
+                connection.stringCommands().get(key(userId));
+            }
+            return null;
+        });
+
+        Map<Long, PresenceStatus> result = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            result.put(ids.get(i), parse(values.get(i)));
+        }
+        return result;
+    }
+
+    private static byte[] key(Long userId) {
+        return (KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static PresenceStatus parse(Object value) {
+        if (value == null) return PresenceStatus.OFFLINE;
+        try {
+            return PresenceStatus.valueOf(value.toString());
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 활동 상태 값: {}", value);
+            return PresenceStatus.OFFLINE;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.mingle.global.aws;
+
+import com.example.mingle.global.aws.dto.PresignedUploadRequest;
+import com.example.mingle.global.aws.dto.PresignedUploadResponse;
+import com.example.mingle.global.aws.dto.UploadedFileRequest;
+import com.example.mingle.global.exception.ApiException;
+import com.example.mingle.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 클라이언트 → S3 직접 업로드 (서버는 파일 내용을 받지 않음)
+ * - 1단계 presign: 크기/타입/SHA-256 체크섬을 서명에 포함한 PUT URL 발급 → 다른 내용은 S3가 거부
+ * - 2단계 confirm: HEAD로 실제 객체의 크기/타입/체크섬을 확인한 뒤 URL 반환 (호출 측에서 DB 행 생성)
+ *   → 확인된 체크섬으로 중복 제거 인덱스에 등록 (삭제 시 checksumSha256으로 참조 해제)
+ * - 키는 {dirName}/{userId}/{uuid}{ext} → 다른 유저가 올린 객체나 다른 폴더의 객체로 완료 요청 불가
+ * - 완료되지 않은 객체는 버킷 수명 주기 규칙으로 정리
+ */
+@Slf4j
+@Component
+public class AwsS3DirectUploader {
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final StoredObjectService storedObjectService;
+    private final String bucket;
+    private final long maxSize;
+    private final Duration expiry;
+
+    public AwsS3DirectUploader(S3Client s3Client,
+                               S3Presigner s3Presigner,
+                               StoredObjectService storedObjectService,
+                               @Value("${cloud.aws.s3.bucket}") String bucket,
+                               @Value("${cloud.aws.s3.presign.max-size:104857600}") long maxSize,
+                               @Value("${cloud.aws.s3.presign.expiry-seconds:600}") long expirySeconds) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.storedObjectService = storedObjectService;
+        this.bucket = bucket;
+        this.maxSize = maxSize;
+        this.expiry = Duration.ofSeconds(expirySeconds);
+    }
+
+    /**
+     * presigned PUT URL 발급
+     */
+    public PresignedUploadResponse presign(String dirName, Long userId, PresignedUploadRequest request) {
+        if (request.size() > maxSize) {
+            throw new ApiException(ErrorCode.INVALID_UPLOAD_REQUEST);
+        }
+
+        String key = keyPrefix(dirName, userId) + UUID.randomUUID() + AwsS3Uploader.getFileExtension(request.filename());
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(request.contentType())
+                .contentLength(request.size())
+                .checksumSHA256(request.checksumSha256())
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(builder -> builder
+                .signatureDuration(expiry)
+                .putObjectRequest(putRequest));
+
+        // 클라이언트가 PUT 때 그대로 보내야 하는 서명된 헤더 (host는 브라우저가 채움)
+        Map<String, String> headers = new HashMap<>();
+        for (Map.Entry<String, List<String>> header : presigned.signedHeaders().entrySet()) {
+            if (!"host".equalsIgnoreCase(header.getKey())) {
+                headers.put(header.getKey(), String.join(",", header.getValue()));
+            }
+        }
+
+        return new PresignedUploadResponse(
+                key,
+                presigned.url().toString(),
+                headers,
+                LocalDateTime.ofInstant(presigned.expiration(), ZoneId.systemDefault())
+        );
+    }
+
+    /**
+     * 업로드 완료 확인 후 파일 URL 반환
+     * - 요청 값과 실제 객체가 다르면 객체를 지우고 예외
+     */
+    public String confirm(String dirName, Long userId, UploadedFileRequest uploaded) {
+        String key = uploaded.key();
+        if (!key.startsWith(keyPrefix(dirName, userId)) || key.contains("..")) {
+            throw new ApiException(ErrorCode.INVALID_UPLOAD_REQUEST);
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(builder -> builder
+                    .bucket(bucket)
+                    .key(key)
+                    .checksumMode(ChecksumMode.ENABLED));
+        } catch (NoSuchKeyException e) {
+            throw new ApiException(ErrorCode.UPLOAD_NOT_FOUND);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) throw new ApiException(ErrorCode.UPLOAD_NOT_FOUND);
+            throw e;
+        }
+
+        boolean matches = uploaded.size().equals(head.contentLength())
+                && uploaded.contentType().equals(head.contentType())
+                && uploaded.checksumSha256().equals(head.checksumSHA256());
+        if (!matches) {
+            log.warn("직접 업로드 검증 실패: key={}, size={}/{}, type={}/{}", key,
+                    uploaded.size(), head.contentLength(), uploaded.contentType(), head.contentType());
+            deleteQuietly(key);
+            throw new ApiException(ErrorCode.UPLOAD_MISMATCH);
+        }
+
+        // 같은 내용이 이미 있으면 기존 객체 URL (방금 올린 객체는 삭제됨)
+        String fileUrl = s3Client.utilities()
+                .getUrl(builder -> builder.bucket(bucket).key(key))
+                .toString();
+        return storedObjectService.register(uploaded.checksumSha256(), key, fileUrl, uploaded.size());
+    }
+
+    private static String keyPrefix(String dirName, Long userId) {
+        return dirName + "/" + userId + "/";
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            s3Client.deleteObject(builder -> builder.bucket(bucket).key(key));
+        } catch (Exception e) {
+            log.warn("검증 실패 객체 삭제 실패: key={}", key, e);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.mingle.global.aws;
 
 // SDK v2 import
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
-import lombok.RequiredArgsConstructor;
+import com.example.mingle.global.aws.dto.StoredFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,10 +20,31 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * S3 업로드
+ * - 파일 내용을 힙에 통째로 올리지 않고 MultipartFile의 InputStream을 그대로 S3로 흘려보냄 (길이를 알고 있으므로 버퍼링 없음)
+ * - multipart.threshold를 넘는 파일은 S3 multipart 업로드: part-size 단위로 읽어 최대 parallelism개 part를 병렬 전송
+ *   → 업로드 1건이 쓰는 힙은 최대 (parallelism + 1) x part-size
+ * - 같은 내용(SHA-256)이 이미 올라가 있으면 업로드하지 않고 기존 객체를 참조 (StoredObjectService)
+ * - 지표: s3.upload (mode=single|multipart), s3.upload.dedup.hit
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Component
 @Service
 public class AwsS3Uploader {
@@ -25,37 +52,225 @@ public class AwsS3Uploader {
     // v2 전용 S3Client
     private final S3Client s3Client;
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    // 내용 해시 → 객체 인덱스 (중복 업로드 제거)
+    private final StoredObjectService storedObjectService;
+
+    private final String bucket;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final int parallelism;
+
+    // multipart part 전송용 스레드 (업로드별 동시 전송 수는 parallelism으로 제한)
+    private final ExecutorService partExecutor;
+
+    private final Timer singleUploadTimer;
+    private final Timer multipartUploadTimer;
+    private final Counter dedupHitCounter;
+
+    public AwsS3Uploader(S3Client s3Client,
+                         StoredObjectService storedObjectService,
+                         MeterRegistry meterRegistry,
+                         @Value("${cloud.aws.s3.bucket}") String bucket,
+                         @Value("${cloud.aws.s3.multipart.threshold:8388608}") long multipartThreshold,
+                         @Value("${cloud.aws.s3.multipart.part-size:5242880}") int partSize,
+                         @Value("${cloud.aws.s3.multipart.parallelism:4}") int parallelism) {
+        this.s3Client = s3Client;
+        this.storedObjectService = storedObjectService;
+        this.bucket = bucket;
+        this.multipartThreshold = multipartThreshold;
+        // S3는 마지막 part를 제외하고 5MB 이상이어야 함
+        this.partSize = Math.max(partSize, 5 * 1024 * 1024);
+        this.parallelism = Math.max(parallelism, 1);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.partExecutor = Executors.newFixedThreadPool(this.parallelism * 2,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "s3-part-" + threadIndex.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.singleUploadTimer = meterRegistry.timer("s3.upload", "mode", "single");
+        this.multipartUploadTimer = meterRegistry.timer("s3.upload", "mode", "multipart");
+        this.dedupHitCounter = meterRegistry.counter("s3.upload.dedup.hit");
+    }
 
     /**
      * [SDK v1 방식] : MultipartFile → File (임시 파일로 변환) → S3 업로드 (PutObjectRequest)
      * → 업로드 후 로컬 파일 삭제
      *
-     * [SDK v2 방식] : MultipartFile → byte[] 변환 : 파일 변환 없이!!
-     * → byte[] → 바로 S3 업로드 (메모리 내 처리)
+     * [SDK v2 방식] : MultipartFile → InputStream : 파일 변환, byte[] 복사 없이!!
+     * → 크기를 알고 있으니 스트림 그대로 S3 업로드, 큰 파일은 multipart 병렬 업로드
      */
     public String upload(MultipartFile multipartFile, String dirName) throws IOException {
+        return store(multipartFile, dirName).fileUrl();
+    }
+
+    /**
+     * 내용 기준 중복 제거 업로드
+     * - 먼저 SHA-256을 계산해서 같은 내용이 이미 있으면 PUT 없이 기존 URL 재사용 (참조 +1)
+     * - 삭제할 때는 반환된 sha256으로 StoredObjectService.release 호출
+     */
+    public StoredFile store(MultipartFile multipartFile, String dirName) throws IOException {
+        String sha256 = sha256(multipartFile);
+        Optional<String> existing = storedObjectService.acquire(sha256);
+        if (existing.isPresent()) {
+            dedupHitCounter.increment();
+            return new StoredFile(existing.get(), sha256);
+        }
+
         String ext = getFileExtension(multipartFile.getOriginalFilename());
         String uuid = UUID.randomUUID().toString(); //UUID를 적용하여 같은 이미지파일이어도 고유한 이름을 부여하여 전송
         String fileName = dirName + "/" + uuid + ext;
 
+        long start = System.nanoTime();
+        if (multipartFile.getSize() > multipartThreshold) {
+            uploadMultipart(multipartFile, fileName);
+            multipartUploadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } else {
+            uploadSingle(multipartFile, fileName, sha256);
+            singleUploadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        // 업로드 URL (v2 utility 사용)
+        String fileUrl = s3Client.utilities()
+                .getUrl(builder -> builder.bucket(bucket).key(fileName))
+                .toString();
+        return new StoredFile(storedObjectService.register(sha256, fileName, fileUrl, multipartFile.getSize()), sha256);
+    }
+
+    /**
+     * 서버에서 만든 작은 파일(썸네일 등) 업로드 - 키는 호출 측이 지정 (같은 키면 덮어씀)
+     */
+    public String uploadBytes(byte[] content, String key, String contentType) {
+        s3Client.putObject(builder -> builder
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) content.length),
+                RequestBody.fromBytes(content));
+        return s3Client.utilities()
+                .getUrl(builder -> builder.bucket(bucket).key(key))
+                .toString();
+    }
+
+    /**
+     * 업로드된 파일 URL로 객체 스트림 열기 (호출 측에서 close)
+     */
+    public ResponseInputStream<GetObjectResponse> download(String fileUrl) {
+        String key = s3Client.utilities().parseUri(URI.create(fileUrl)).key()
+                .orElseThrow(() -> new IllegalArgumentException("S3 객체 URL이 아님: " + fileUrl));
+        return s3Client.getObject(builder -> builder.bucket(bucket).key(key));
+    }
+
+    // 단일 PUT: 길이를 알려주고 스트림 그대로 전송 (S3가 체크섬으로 내용 검증)
+    private void uploadSingle(MultipartFile multipartFile, String fileName, String sha256) throws IOException {
         // PutObjectRequest는 builder로 구성
         PutObjectRequest request = PutObjectRequest.builder()
                 .bucket(bucket)
                 .key(fileName)
+                .contentType(multipartFile.getContentType())
+                .contentLength(multipartFile.getSize())
+                .checksumSHA256(sha256)
                 .build();
 
-        // 실제 업로드 실행
-        s3Client.putObject(request, RequestBody.fromBytes(multipartFile.getBytes()));
+        try (InputStream in = multipartFile.getInputStream()) {
+            s3Client.putObject(request, RequestBody.fromInputStream(in, multipartFile.getSize()));
+        }
+    }
+
+    // 파일 내용 SHA-256 (Base64) - 스트림을 고정 크기 버퍼로 한 번 읽음 (파일 전체를 힙에 올리지 않음)
+    private static String sha256(MultipartFile multipartFile) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
 
-        // 업로드 URL 반환 (v2 utility 사용)
-        return s3Client.utilities()
-                .getUrl(builder -> builder.bucket(bucket).key(fileName))
-                .toString();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = multipartFile.getInputStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    // multipart: part-size씩 읽어서 병렬 전송, 실패하면 업로드 취소 (S3에 남은 part 정리)
+    private void uploadMultipart(MultipartFile multipartFile, String fileName) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(builder -> builder
+                        .bucket(bucket)
+                        .key(fileName)
+                        .contentType(multipartFile.getContentType()))
+                .uploadId();
+
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        Semaphore inFlight = new Semaphore(parallelism);
+        try (InputStream in = multipartFile.getInputStream()) {
+            int partNumber = 1;
+            while (true) {
+                // 전송 중인 part가 parallelism개면 하나 끝날 때까지 다음 part를 읽지 않음 (힙 사용량 상한)
+                inFlight.acquire();
+                byte[] buffer = in.readNBytes(partSize);
+                if (buffer.length == 0) {
+                    inFlight.release();
+                    break;
+                }
+
+                int number = partNumber++;
+                parts.add(CompletableFuture
+                        .supplyAsync(() -> uploadPart(fileName, uploadId, number, buffer), partExecutor)
+                        .whenComplete((part, e) -> inFlight.release()));
+
+                if (buffer.length < partSize) break;
+            }
+
+            List<CompletedPart> completed = parts.stream().map(CompletableFuture::join).toList();
+            s3Client.completeMultipartUpload(builder -> builder
+                    .bucket(bucket)
+                    .key(fileName)
+                    .uploadId(uploadId)
+                    .multipartUpload(upload -> upload.parts(completed)));
+            log.debug("S3 multipart 업로드 완료: key={}, parts={}", fileName, completed.size());
+
+        } catch (Exception e) {
+            parts.forEach(part -> part.cancel(true));
+            abortQuietly(fileName, uploadId);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw e instanceof IOException io ? io : new IOException("S3 multipart 업로드 실패: " + fileName, e);
+        }
+    }
+
+    private CompletedPart uploadPart(String fileName, String uploadId, int partNumber, byte[] buffer) {
+        String eTag = s3Client.uploadPart(builder -> builder
+                                .bucket(bucket)
+                                .key(fileName)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) buffer.length),
+                        RequestBody.fromBytes(buffer))
+                .eTag();
+        return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+    }
+
+    private void abortQuietly(String fileName, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(builder -> builder.bucket(bucket).key(fileName).uploadId(uploadId));
+        } catch (Exception e) {
+            log.warn("S3 multipart 업로드 취소 실패: key={}, uploadId={}", fileName, uploadId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partExecutor.shutdown();
     }
 
-    private String getFileExtension(String fileName) {
+    static String getFileExtension(String fileName) {
         int index = fileName.lastIndexOf(".");
         return index != -1 ? fileName.substring(index) : "";  // 예: ".jpg"
     }
@@ -63,7 +278,7 @@ public class AwsS3Uploader {
 
 /**
  * "파일로 변환해서 S3에 올린다"는 구버전 로직
- * multipartFile.getBytes()만으로 바로 업로드되니까 전부 불필요
+ * multipartFile 스트림으로 바로 업로드되니까 전부 불필요
   */
 //    private String putS3(File uploadFile, String fileName) {
 //        amazonS3.putObject(
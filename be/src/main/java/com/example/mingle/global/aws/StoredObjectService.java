@@ -0,0 +1,172 @@
+package com.example.mingle.global.aws;
+
+import com.example.mingle.global.aws.entity.StoredObject;
+import com.example.mingle.global.aws.repository.StoredObjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 내용 해시(SHA-256) → S3 객체 인덱스 + 참조 수 관리
+ * - 업로드 전에 acquire로 같은 내용이 있는지 확인 → 있으면 PUT 없이 기존 URL 재사용
+ * - acquire/register는 호출 측 트랜잭션과 분리해서 짧게 커밋
+ *   (새 해시는 UPDATE/INSERT가 갭 락을 잡으므로 업로드 내내 잡고 있으면 동시 업로드와 교착)
+ *   대신 호출 측 트랜잭션이 롤백되면 잡은 참조를 release로 되돌림 (방금 올린 객체도 마지막 참조면 삭제)
+ *   트랜잭션 밖에서 호출했다면 실패 시 호출 측이 release
+ * - release는 호출 측 트랜잭션에 참여 → 게시글/자료 삭제가 롤백되면 참조 해제도 롤백
+ * - 마지막 참조가 해제되면 행 삭제 커밋 후 S3 객체 + 파생 객체(썸네일 등) 삭제
+ */
+@Slf4j
+@Service
+public class StoredObjectService {
+
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
+    private final StoredObjectRepository storedObjectRepository;
+    private final S3Client s3Client;
+    private final TransactionTemplate requiresNew;
+    private final String bucket;
+
+    public StoredObjectService(StoredObjectRepository storedObjectRepository,
+                               S3Client s3Client,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${cloud.aws.s3.bucket}") String bucket) {
+        this.storedObjectRepository = storedObjectRepository;
+        this.s3Client = s3Client;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.bucket = bucket;
+    }
+
+    /**
+     * 같은 내용의 객체가 있으면 참조 +1 하고 URL 반환
+     */
+    public Optional<String> acquire(String sha256) {
+        Optional<String> fileUrl = requiresNew.execute(status -> {
+            if (storedObjectRepository.incrementRefCount(sha256) == 0) {
+                return Optional.<String>empty();
+            }
+            return storedObjectRepository.findBySha256(sha256).map(StoredObject::getFileUrl);
+        });
+        if (fileUrl.isPresent()) {
+            releaseAfterRollback(sha256);
+        }
+        return fileUrl;
+    }
+
+    /**
+     * 새로 올린 객체 등록 후 사용할 URL 반환
+     * - 동시에 같은 내용이 먼저 등록됐으면 그쪽 참조 +1, 방금 올린 객체는 삭제
+     * - 호출 측 트랜잭션이 롤백되면 참조 해제 → 방금 올린 객체가 마지막 참조였으면 삭제
+     */
+    public String register(String sha256, String objectKey, String fileUrl, long size) {
+        Registration registration = requiresNew.execute(status -> insertOrJoin(sha256, objectKey, fileUrl, size));
+        if (registration.referenced()) {
+            releaseAfterRollback(sha256);
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteAfterRollback(objectKey);
+        }
+        return registration.fileUrl();
+    }
+
+    /**
+     * 참조 -1, 마지막 참조였으면 행과 S3 객체 삭제
+     * @param derivedKeys 같은 내용에서 만든 객체 키 (예: 해시 기반 썸네일) → 원본과 같은 커밋 후 삭제
+     */
+    @Transactional
+    public void release(String sha256, String... derivedKeys) {
+        if (sha256 == null) return; // 중복 제거 도입 전 업로드
+        decrement(sha256, derivedKeys);
+    }
+
+    private Registration insertOrJoin(String sha256, String objectKey, String fileUrl, long size) {
+        for (int attempt = 0; attempt < MAX_REGISTER_ATTEMPTS; attempt++) {
+            if (storedObjectRepository.insertIfAbsent(sha256, objectKey, fileUrl, size) == 1) {
+                deleteAfterRollback(objectKey);
+                return new Registration(fileUrl, true);
+            }
+            if (storedObjectRepository.incrementRefCount(sha256) == 1) {
+                Optional<StoredObject> existing = storedObjectRepository.findBySha256(sha256);
+                if (existing.isPresent()) {
+                    // 같은 키로 다시 등록(완료 요청 재시도)한 경우는 지우지 않음
+                    // 방금 올린 객체는 커밋/롤백 어느 쪽이든 쓰이지 않음
+                    if (!existing.get().getObjectKey().equals(objectKey)) {
+                        deleteAfterCompletion(List.of(objectKey), true, true);
+                    }
+                    return new Registration(existing.get().getFileUrl(), true);
+                }
+            }
+            // 그 사이 마지막 참조가 해제되어 행이 지워짐 → 다시 등록 시도
+        }
+
+        // 인덱스 없이 사용 (중복 제거만 빠짐)
+        log.warn("업로드 객체 등록 실패, 인덱스 없이 사용: sha256={}, key={}", sha256, objectKey);
+        return new Registration(fileUrl, false);
+    }
+
+    private void decrement(String sha256, String... derivedKeys) {
+        storedObjectRepository.decrementRefCount(sha256);
+        Optional<StoredObject> stored = storedObjectRepository.findBySha256(sha256);
+        if (stored.isPresent() && storedObjectRepository.deleteIfUnreferenced(sha256) == 1) {
+            List<String> keys = new ArrayList<>();
+            keys.add(stored.get().getObjectKey());
+            keys.addAll(Arrays.asList(derivedKeys));
+            deleteAfterCompletion(keys, true, false);
+        }
+    }
+
+    // 호출 측 트랜잭션이 롤백되면 별도 트랜잭션으로 참조 해제 (트랜잭션 밖 호출이면 호출 측 책임)
+    private void releaseAfterRollback(String sha256) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) return;
+                try {
+                    requiresNew.executeWithoutResult(tx -> decrement(sha256));
+                } catch (Exception e) {
+                    log.warn("롤백된 업로드의 참조 해제 실패: sha256={}", sha256, e);
+                }
+            }
+        });
+    }
+
+    // 방금 올린 객체: 등록이 롤백되면 삭제 (커밋되면 유지)
+    private void deleteAfterRollback(String objectKey) {
+        deleteAfterCompletion(List.of(objectKey), false, true);
+    }
+
+    // 트랜잭션 결과에 따라 S3 객체 삭제 (결과를 알 수 없으면 유지)
+    private void deleteAfterCompletion(List<String> objectKeys, boolean onCommit, boolean onRollback) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                boolean delete = (status == STATUS_COMMITTED && onCommit) || (status == STATUS_ROLLED_BACK && onRollback);
+                if (!delete) return;
+                for (String objectKey : objectKeys) {
+                    try {
+                        s3Client.deleteObject(builder -> builder.bucket(bucket).key(objectKey));
+                        log.info("참조가 없는 S3 객체 삭제: key={}", objectKey);
+                    } catch (Exception e) {
+                        log.warn("S3 객체 삭제 실패: key={}", objectKey, e);
+                    }
+                }
+            }
+        });
+    }
+
+    private record Registration(String fileUrl, boolean referenced) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.mingle.global.aws.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 직접 업로드 1단계: presigned PUT URL 발급 요청
+ * - 크기/타입/체크섬이 서명에 포함되어 S3가 다른 내용의 업로드를 거부함
+ */
+public record PresignedUploadRequest(
+
+        @NotBlank(message = "파일명은 필수입니다.")
+        String filename,
+
+        @NotBlank(message = "파일 타입은 필수입니다.")
+        String contentType,
+
+        @NotNull(message = "파일 크기는 필수입니다.")
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        Long size,
+
+        @NotBlank(message = "체크섬은 필수입니다.")
+        String checksumSha256 // 파일 내용의 SHA-256 (Base64)
+
+) {}
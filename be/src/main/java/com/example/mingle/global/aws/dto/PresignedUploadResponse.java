@@ -0,0 +1,15 @@
+package com.example.mingle.global.aws.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * presigned PUT URL 발급 결과
+ * - 클라이언트는 uploadUrl로 headers를 그대로 붙여 PUT 한 뒤 key로 완료 API 호출
+ */
+public record PresignedUploadResponse(
+        String key,
+        String uploadUrl,
+        Map<String, String> headers,
+        LocalDateTime expiresAt
+) {}
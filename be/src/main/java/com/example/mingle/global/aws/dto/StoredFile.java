@@ -0,0 +1,7 @@
+package com.example.mingle.global.aws.dto;
+
+/**
+ * 업로드 결과 (같은 내용이 이미 있으면 기존 객체 URL)
+ * - sha256은 삭제 시 참조 해제용으로 보관
+ */
+public record StoredFile(String fileUrl, String sha256) {}
@@ -0,0 +1,26 @@
+package com.example.mingle.global.aws.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 직접 업로드 2단계: 업로드 완료 확인 요청 (presign 때 보낸 값과 같아야 함)
+ */
+public record UploadedFileRequest(
+
+        @NotBlank(message = "업로드 키는 필수입니다.")
+        String key,
+
+        @NotBlank(message = "파일명은 필수입니다.")
+        String filename,
+
+        @NotBlank(message = "파일 타입은 필수입니다.")
+        String contentType,
+
+        @NotNull(message = "파일 크기는 필수입니다.")
+        Long size,
+
+        @NotBlank(message = "체크섬은 필수입니다.")
+        String checksumSha256
+
+) {}
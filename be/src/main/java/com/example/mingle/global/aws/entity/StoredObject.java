@@ -0,0 +1,46 @@
+package com.example.mingle.global.aws.entity;
+
+import com.example.mingle.global.jpa.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * S3 객체 내용 해시 인덱스 (중복 업로드 제거용)
+ * - 같은 내용(SHA-256)은 객체 1개만 두고 참조 수(refCount)로 공유
+ * - 참조 수가 0이 되면 행과 S3 객체를 함께 삭제
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@SuperBuilder
+@Table(
+        name = "stored_object",
+        indexes = {
+                @Index(name = "uk_stored_object_sha256", columnList = "sha256", unique = true)
+        }
+)
+public class StoredObject extends BaseEntity {
+
+    // 파일 내용 SHA-256 (Base64, S3 체크섬과 같은 형식)
+    @Column(nullable = false, length = 44)
+    private String sha256;
+
+    @Column(nullable = false)
+    private String objectKey;
+
+    @Column(nullable = false)
+    private String fileUrl;
+
+    private long size;
+
+    // 이 객체를 가리키는 자료/게시글 수
+    private long refCount;
+}
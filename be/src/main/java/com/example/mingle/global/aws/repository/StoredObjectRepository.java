@@ -0,0 +1,39 @@
+package com.example.mingle.global.aws.repository;
+
+import com.example.mingle.global.aws.entity.StoredObject;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface StoredObjectRepository extends JpaRepository<StoredObject, Long> {
+
+    Optional<StoredObject> findBySha256(String sha256);
+
+    // 참조 수 +1 (행이 없으면 0 반환)
+    @Modifying
+    @Query(value = "UPDATE stored_object SET ref_count = ref_count + 1, updated_at = NOW() WHERE sha256 = :sha256",
+            nativeQuery = true)
+    int incrementRefCount(@Param("sha256") String sha256);
+
+    @Modifying
+    @Query(value = "UPDATE stored_object SET ref_count = ref_count - 1, updated_at = NOW() WHERE sha256 = :sha256 AND ref_count > 0",
+            nativeQuery = true)
+    int decrementRefCount(@Param("sha256") String sha256);
+
+    // 참조가 남아 있지 않을 때만 삭제 (그 사이 +1 됐으면 0 반환)
+    @Modifying
+    @Query(value = "DELETE FROM stored_object WHERE sha256 = :sha256 AND ref_count = 0", nativeQuery = true)
+    int deleteIfUnreferenced(@Param("sha256") String sha256);
+
+    // 같은 해시가 이미 있으면 무시 (동시 업로드 중 먼저 등록한 쪽만 1 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO stored_object (sha256, object_key, file_url, size, ref_count, created_at, updated_at) " +
+            "VALUES (:sha256, :objectKey, :fileUrl, :size, 1, NOW(), NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("sha256") String sha256,
+                       @Param("objectKey") String objectKey,
+                       @Param("fileUrl") String fileUrl,
+                       @Param("size") long size);
+}
@@ -13,4 +13,6 @@ public class TimeConstants {
     public static final int OVERTIME_THRESHOLD_MINUTES = 10; // 야근 허용 유예 시간 (10분)
 
     public static final int AWAY_DELAY_SECONDS = 5;
+    public static final int OFFLINE_DELAY_SECONDS = 60;      // ping이 끊긴 채 연결 종료 이벤트도 없을 때 OFFLINE 처리
+    public static final int PRESENCE_SWEEP_INTERVAL_MS = 1000; // 상태 일괄 전환 주기
 }
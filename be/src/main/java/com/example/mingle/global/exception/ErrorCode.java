@@ -22,6 +22,10 @@ public enum ErrorCode {
     REQUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "신청을 찾을 수 없습니다."),
     ATTENDANCE_RECORD_EXISTS(HttpStatus.CONFLICT, "해당 날짜에 이미 출결 기록이 존재합니다."),
     LEAVE_NOTICE_REQUIRED(HttpStatus.BAD_REQUEST, "휴가는 최소 3영업일 전에 신청해야 합니다."),
+    INVALID_CHAT_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 메시지 커서입니다."),
+    INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "검색어는 2글자 이상 입력해야 합니다."),
+    INVALID_UPLOAD_REQUEST(HttpStatus.BAD_REQUEST, "업로드 요청 정보가 올바르지 않습니다."),
+    UPLOAD_MISMATCH(HttpStatus.BAD_REQUEST, "업로드된 파일이 요청 정보와 일치하지 않습니다."),
 
 
     // 401 UNAUTHORIZED
@@ -57,6 +61,7 @@ public enum ErrorCode {
     SCHEDULE_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 일정입니다."),
     ATTENDANCE_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 출결 기록입니다."),
     NOT_FOUND_ARCHIVE(HttpStatus.NOT_FOUND, "해당 자료를 찾을 수 없습니다."),
+    UPLOAD_NOT_FOUND(HttpStatus.NOT_FOUND, "업로드된 파일을 찾을 수 없습니다."),
     NOT_FOUND_CHATROOM(HttpStatus.NOT_FOUND, "해당 채팅방을 찾을 수 없습니다."),
 
     // 409 CONFLICT
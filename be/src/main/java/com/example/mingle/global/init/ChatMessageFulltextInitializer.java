@@ -0,0 +1,45 @@
+package com.example.mingle.global.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 본문 FULLTEXT 인덱스 생성 (ngram 파서, 한국어 2글자 단위 토큰)
+ * - JPA @Index로는 FULLTEXT를 만들 수 없어서 기동 시 없으면 생성
+ * - 이후 메시지 INSERT 시 InnoDB가 커밋 단위로 인덱스를 갱신 (별도 색인 작업 없음)
+ * - 첫 생성은 테이블 재구성이 필요해서 메시지가 많으면 오래 걸릴 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageFulltextInitializer implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        createIfNotExists("group_chat_message", "ft_group_msg_content");
+        createIfNotExists("dm_chat_message", "ft_dm_msg_content");
+    }
+
+    private void createIfNotExists(String table, String indexName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, indexName);
+        if (count != null && count > 0) return;
+
+        try {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD FULLTEXT INDEX " + indexName +
+                    " (content) WITH PARSER ngram");
+            log.info("[ChatMessageFulltextInitializer] '{}' 생성 완료", indexName);
+        } catch (DataAccessException e) {
+            // 다른 노드가 동시에 만든 경우 등 → 메시지 검색만 불가, 기동은 계속
+            log.warn("[ChatMessageFulltextInitializer] '{}' 생성 실패", indexName, e);
+        }
+    }
+}
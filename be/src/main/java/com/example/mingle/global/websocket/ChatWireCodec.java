@@ -0,0 +1,183 @@
+package com.example.mingle.global.websocket;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 소켓 와이어 포맷 변환 (JSON 텍스트 ↔ CBOR 바이너리)
+ * - 서비스 계층은 지금처럼 JSON 문자열(TextMessage)만 만들고, CBOR 세션으로 보낼 때만 여기서 변환
+ *   → JSON 파서 → CBOR 생성기로 토큰을 바로 복사 (객체/트리 생성 없음)
+ * - 바이너리 프레임 = 1바이트 WireFrameType 헤더 + 본문
+ * - 묶음(BATCH)은 MESSAGE 본문을 CBOR 가변 길이 배열(0x9F ... 0xFF)로 이어 붙여 재인코딩 없이 생성
+ * - 지표: chat.wire.bytes(format별 프레임 크기), chat.wire.encode(변환 시간), chat.wire.decode(format별 수신 파싱 시간)
+ */
+@Slf4j
+@Component
+public class ChatWireCodec {
+
+    // 핸드셰이크 때 정해진 세션 인코딩 (세션 attribute 키, 없으면 JSON)
+    public static final String FORMAT_ATTRIBUTE = "wireFormat";
+
+    private static final int CBOR_INDEFINITE_ARRAY = 0x9F;
+    private static final int CBOR_BREAK = 0xFF;
+
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper = new CBORMapper();
+
+    private final DistributionSummary jsonBytes;
+    private final DistributionSummary cborBytes;
+    private final Timer encodeTimer;
+    private final Timer jsonDecodeTimer;
+    private final Timer cborDecodeTimer;
+
+    public ChatWireCodec(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+
+        this.jsonBytes = DistributionSummary.builder("chat.wire.bytes").tag("format", "json")
+                .baseUnit("bytes").register(meterRegistry);
+        this.cborBytes = DistributionSummary.builder("chat.wire.bytes").tag("format", "cbor")
+                .baseUnit("bytes").register(meterRegistry);
+        this.encodeTimer = Timer.builder("chat.wire.encode")
+                .description("JSON → CBOR 프레임 변환 시간")
+                .register(meterRegistry);
+        this.jsonDecodeTimer = Timer.builder("chat.wire.decode").tag("format", "json").register(meterRegistry);
+        this.cborDecodeTimer = Timer.builder("chat.wire.decode").tag("format", "cbor").register(meterRegistry);
+    }
+
+    public static WireFormat formatOf(WebSocketSession session) {
+        Object format = session.getAttributes().get(FORMAT_ATTRIBUTE);
+        return format instanceof WireFormat wireFormat ? wireFormat : WireFormat.JSON;
+    }
+
+    /**
+     * 세션 포맷에 맞는 프레임 반환 (JSON 세션이거나 이미 바이너리면 그대로)
+     */
+    public WebSocketMessage<?> encodeFor(WebSocketSession session, WebSocketMessage<?> message) {
+        if (formatOf(session) != WireFormat.CBOR || !(message instanceof TextMessage text)) {
+            return message;
+        }
+        return encode(text);
+    }
+
+    /**
+     * JSON 텍스트 프레임 → CBOR 바이너리 프레임 (JSON 객체가 아닌 안내 문구는 NOTICE)
+     */
+    public BinaryMessage encode(TextMessage text) {
+        String payload = text.getPayload();
+        if (!payload.startsWith("{")) {
+            return frame(WireFrameType.NOTICE, payload.getBytes(StandardCharsets.UTF_8));
+        }
+
+        long start = System.nanoTime();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length());
+        out.write(WireFrameType.MESSAGE.code());
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload);
+             JsonGenerator generator = cborMapper.getFactory().createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] bytes = out.toByteArray();
+        encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        jsonBytes.record(text.getPayloadLength());
+        cborBytes.record(bytes.length);
+        return new BinaryMessage(bytes);
+    }
+
+    /**
+     * MESSAGE 프레임 여러 개 → BATCH 프레임 1개 (본문 복사만, 재인코딩 없음)
+     */
+    public static BinaryMessage batch(List<BinaryMessage> messages) {
+        int length = 3;
+        for (BinaryMessage message : messages) {
+            length += message.getPayloadLength() - 1;
+        }
+
+        ByteBuffer frame = ByteBuffer.allocate(length)
+                .put(WireFrameType.BATCH.code())
+                .put((byte) CBOR_INDEFINITE_ARRAY);
+        for (BinaryMessage message : messages) {
+            ByteBuffer body = message.getPayload().duplicate();
+            body.position(body.position() + 1); // 헤더 제외
+            frame.put(body);
+        }
+        frame.put((byte) CBOR_BREAK);
+        return new BinaryMessage(frame.array());
+    }
+
+    /**
+     * 수신 JSON 텍스트 파싱
+     */
+    public JsonNode decode(String json) throws IOException {
+        long start = System.nanoTime();
+        JsonNode node = objectMapper.readTree(json);
+        jsonDecodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return node;
+    }
+
+    /**
+     * 수신 MESSAGE 프레임의 CBOR 본문 파싱 (JSON과 같은 JsonNode로 반환 → 이후 처리 공용)
+     */
+    public JsonNode decode(BinaryMessage message) throws IOException {
+        long start = System.nanoTime();
+        ByteBuffer payload = message.getPayload();
+        JsonNode node;
+        if (payload.hasArray()) {
+            int offset = payload.arrayOffset() + payload.position() + 1;
+            node = cborMapper.readTree(payload.array(), offset, payload.remaining() - 1);
+        } else {
+            byte[] body = new byte[payload.remaining() - 1];
+            payload.duplicate().position(payload.position() + 1).get(body);
+            node = cborMapper.readTree(body);
+        }
+        cborDecodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return node;
+    }
+
+    /**
+     * 송신 대기 중인 프레임을 포맷과 관계없이 트리로 읽기 (메시지가 아닌 프레임이면 null)
+     */
+    public JsonNode readTree(WebSocketMessage<?> message) {
+        try {
+            if (message instanceof TextMessage text && text.getPayload().startsWith("{")) {
+                return objectMapper.readTree(text.getPayload());
+            }
+            if (message instanceof BinaryMessage binary && WireFrameType.of(binary) == WireFrameType.MESSAGE) {
+                return decode(binary);
+            }
+        } catch (IOException e) {
+            log.debug("프레임 파싱 실패: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private static BinaryMessage frame(WireFrameType type, byte[] body) {
+        byte[] bytes = new byte[body.length + 1];
+        bytes[0] = type.code();
+        System.arraycopy(body, 0, bytes, 1, body.length);
+        return new BinaryMessage(bytes);
+    }
+}
@@ -5,6 +5,7 @@ import com.example.mingle.global.security.jwt.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpRequest;
@@ -21,6 +22,9 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor {
 
     private final JwtUtil jwtUtil;
 
+    @Value("${chat.wire.cbor-enabled:true}")
+    private boolean cborEnabled;
+
     @Override
     public boolean beforeHandshake(ServerHttpRequest request,
                                    ServerHttpResponse response,
@@ -39,6 +43,16 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor {
                 String email = (String) payload.get("email");
 
                 attributes.put("auth", new WebSocketAuthDto(userId, email));
+
+                // 묶음 프레임(JSON 배열) 수신 가능 클라이언트
+                if ("1".equals(httpRequest.getParameter("batch"))) {
+                    attributes.put(WebSocketMessageSender.BATCH_ATTRIBUTE, true);
+                }
+
+                // proto=cbor: 바이너리 프레임(헤더 1바이트 + CBOR)으로 송수신, 없으면 기존 JSON 텍스트
+                if (cborEnabled && "cbor".equalsIgnoreCase(httpRequest.getParameter("proto"))) {
+                    attributes.put(ChatWireCodec.FORMAT_ATTRIBUTE, WireFormat.CBOR);
+                }
                 log.info("WebSocket 인증 성공 - userId={}, email={}", userId, email);
                 return true;
             }
@@ -0,0 +1,9 @@
+package com.example.mingle.global.websocket;
+
+/**
+ * 세션별 송신 큐가 가득 찼을 때의 처리 정책
+ */
+public enum OutboundOverflowPolicy {
+    DROP_OLDEST, // 가장 오래된 메시지를 버리고 새 메시지를 넣음
+    CLOSE        // 느린 클라이언트로 보고 세션을 종료
+}
@@ -0,0 +1,303 @@
+package com.example.mingle.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * WebSocketSession 1개에 대한 송신 큐
+ * - offer()는 큐에 넣기만 하고 바로 반환 (호출 스레드는 네트워크 I/O를 기다리지 않음)
+ * - 실제 전송은 drainExecutor에서 세션당 하나의 drain 작업만 순차 실행
+ *   → 같은 세션에 sendMessage가 동시에 호출되지 않음
+ * - 큐 용량 초과 시 OutboundOverflowPolicy에 따라 오래된 메시지를 버리거나 세션을 종료
+ * - hold() ~ release() 사이의 일반 메시지는 따로 보관했다가 release 시점에 순서대로 큐에 넣음
+ *   (재접속 시 놓친 메시지를 먼저 보내고 실시간 메시지로 넘어가기 위함)
+ * - 묶음 전송(batch) 세션: drain 시작 전 windowMs만큼 모은 뒤 연속된 메시지를 최대 maxMessages개씩
+ *   프레임 1개로 전송 (JSON 세션: JSON 배열, CBOR 세션: BATCH 프레임 / 메시지 1개면 그대로, 안내 문구는 단독 전송)
+ */
+@Slf4j
+public class SessionOutbox {
+
+    private final WebSocketSession session;
+    private final int capacity;
+    private final OutboundOverflowPolicy overflowPolicy;
+    private final Executor drainExecutor;
+    private final BatchSettings batch;
+
+    private final Queue<WebSocketMessage<?>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();          // ConcurrentLinkedQueue.size()는 O(n)이라 별도 관리
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicLong dropped = new AtomicLong();
+
+    // hold 중에 들어온 메시지 (this로 동기화)
+    private final List<WebSocketMessage<?>> held = new ArrayList<>();
+    private int holdDepth;
+    private volatile boolean holding;
+
+    public SessionOutbox(WebSocketSession session, int capacity,
+                         OutboundOverflowPolicy overflowPolicy, Executor drainExecutor) {
+        this(session, capacity, overflowPolicy, drainExecutor, null);
+    }
+
+    /**
+     * @param batch 묶음 전송 설정 (null이면 메시지마다 프레임 1개)
+     */
+    public SessionOutbox(WebSocketSession session, int capacity,
+                         OutboundOverflowPolicy overflowPolicy, Executor drainExecutor, BatchSettings batch) {
+        this.session = session;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.drainExecutor = drainExecutor;
+        this.batch = batch;
+    }
+
+    /**
+     * 메시지를 송신 큐에 넣는다 (non-blocking)
+     * @return 큐에 들어갔으면 true, 세션이 닫혀 있거나 CLOSE 정책으로 거부되면 false
+     */
+    public boolean offer(WebSocketMessage<?> message) {
+        if (!session.isOpen()) {
+            return false;
+        }
+
+        if (holding) {
+            synchronized (this) {
+                if (holding) {
+                    if (held.size() >= capacity) {
+                        held.remove(0);
+                        dropped.incrementAndGet();
+                    }
+                    held.add(message);
+                    return true;
+                }
+            }
+        }
+        return enqueue(message);
+    }
+
+    /**
+     * hold 여부와 관계없이 바로 큐에 넣음 (재전송 메시지용)
+     */
+    public boolean offerNow(WebSocketMessage<?> message) {
+        if (!session.isOpen()) {
+            return false;
+        }
+        return enqueue(message);
+    }
+
+    /**
+     * 일반 메시지 보류 시작 (중첩 가능)
+     */
+    public synchronized void hold() {
+        holdDepth++;
+        holding = true;
+    }
+
+    /**
+     * 보류 해제: keep을 통과한 보류 메시지만 남기고, 마지막 해제 시 큐에 순서대로 넣음
+     */
+    public synchronized void release(Predicate<WebSocketMessage<?>> keep) {
+        held.removeIf(keep.negate());
+        if (holdDepth == 0 || --holdDepth > 0) {
+            return;
+        }
+        holding = false;
+        for (WebSocketMessage<?> message : held) {
+            enqueue(message);
+        }
+        held.clear();
+    }
+
+    private boolean enqueue(WebSocketMessage<?> message) {
+        if (size.incrementAndGet() > capacity) {
+            if (overflowPolicy == OutboundOverflowPolicy.CLOSE) {
+                size.decrementAndGet();
+                dropped.incrementAndGet();
+                closeSlowConsumer();
+                return false;
+            }
+
+            // DROP_OLDEST: 가장 오래된 메시지 하나를 버리고 자리 확보
+            if (queue.poll() != null) {
+                size.decrementAndGet();
+                dropped.incrementAndGet();
+            }
+        }
+
+        queue.offer(message);
+        scheduleDrain();
+        return true;
+    }
+
+    // drain 작업이 돌고 있지 않을 때만 새로 예약
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            drainExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        if (batch != null) {
+            // 첫 메시지 이후 잠깐 기다려 같이 보낼 메시지를 모음 (가상 스레드라 대기 비용 작음)
+            pause(batch.windowMs());
+        }
+
+        do {
+            if (batch != null) {
+                drainBatched();
+            } else {
+                WebSocketMessage<?> message;
+                while ((message = queue.poll()) != null) {
+                    size.decrementAndGet();
+                    send(message);
+                }
+            }
+            draining.set(false);
+            // 플래그를 내린 직후 들어온 메시지가 있으면 다시 drain
+        } while (!queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    // 연속된 메시지 프레임을 묶어서 전송 (그 외 프레임은 순서 유지하며 단독 전송)
+    private void drainBatched() {
+        List<WebSocketMessage<?>> pending = new ArrayList<>(batch.maxMessages());
+        WebSocketMessage<?> message;
+        while ((message = queue.poll()) != null) {
+            size.decrementAndGet();
+            if (isBatchable(message)) {
+                pending.add(message);
+                if (pending.size() >= batch.maxMessages()) {
+                    flush(pending);
+                }
+            } else {
+                flush(pending);
+                send(message);
+            }
+        }
+        flush(pending);
+    }
+
+    // 세션 포맷은 연결 동안 고정 → 한 세션의 묶음 대상은 모두 텍스트이거나 모두 바이너리
+    private static boolean isBatchable(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage text) {
+            return text.getPayload().startsWith("{");
+        }
+        return message instanceof BinaryMessage binary && WireFrameType.of(binary) == WireFrameType.MESSAGE;
+    }
+
+    private void flush(List<WebSocketMessage<?>> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (pending.size() == 1) {
+            send(pending.get(0));
+        } else {
+            send(pending.get(0) instanceof BinaryMessage ? batchBinary(pending) : batchText(pending));
+            batch.framesCounter().increment();
+            batch.messagesCounter().increment(pending.size());
+        }
+        pending.clear();
+    }
+
+    // 각 payload는 이미 직렬화된 JSON → 문자열로 이어 붙여 배열 생성 (재직렬화 없음)
+    private static TextMessage batchText(List<WebSocketMessage<?>> pending) {
+        int length = pending.size() + 1;
+        for (WebSocketMessage<?> message : pending) {
+            length += ((TextMessage) message).getPayload().length();
+        }
+        StringBuilder frame = new StringBuilder(length).append('[');
+        for (int i = 0; i < pending.size(); i++) {
+            if (i > 0) frame.append(',');
+            frame.append(((TextMessage) pending.get(i)).getPayload());
+        }
+        return new TextMessage(frame.append(']'));
+    }
+
+    private static BinaryMessage batchBinary(List<WebSocketMessage<?>> pending) {
+        List<BinaryMessage> messages = new ArrayList<>(pending.size());
+        for (WebSocketMessage<?> message : pending) {
+            messages.add((BinaryMessage) message);
+        }
+        return ChatWireCodec.batch(messages);
+    }
+
+    private static void pause(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(WebSocketMessage<?> message) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            // fan-out은 같은 BinaryMessage를 공유 → 전송 시 position이 움직이지 않도록 세션마다 별도 뷰 사용
+            session.sendMessage(message instanceof BinaryMessage binary
+                    ? new BinaryMessage(binary.getPayload().duplicate(), binary.isLast())
+                    : message);
+        } catch (Exception e) {
+            log.warn("WebSocket 전송 실패: sessionId={}, error={}", session.getId(), e.getMessage());
+        }
+    }
+
+    private void closeSlowConsumer() {
+        log.warn("송신 큐 초과로 세션 종료: sessionId={}, capacity={}", session.getId(), capacity);
+        queue.clear();
+        size.set(0);
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            log.warn("느린 세션 종료 중 예외: sessionId={}", session.getId(), e);
+        }
+    }
+
+    /**
+     * 세션 종료 시 남은 메시지 폐기
+     */
+    public void clear() {
+        queue.clear();
+        size.set(0);
+        synchronized (this) {
+            held.clear();
+        }
+    }
+
+    // 현재 큐에 쌓인 메시지 수
+    public int getDepth() {
+        return size.get();
+    }
+
+    // 지금까지 버려진 메시지 수
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public WebSocketSession getSession() {
+        return session;
+    }
+
+    /**
+     * 묶음 전송 설정
+     * @param windowMs     drain 시작 전 메시지를 모으는 시간
+     * @param maxMessages  프레임 1개에 담는 최대 메시지 수
+     */
+    public record BatchSettings(long windowMs, int maxMessages, Counter framesCounter, Counter messagesCounter) {
+    }
+}
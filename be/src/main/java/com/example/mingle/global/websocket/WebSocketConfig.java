@@ -18,6 +18,7 @@ public class WebSocketConfig implements WebSocketConfigurer {
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         // /ws/chat 경로로 WebSocket 연결 허용
+        // permessage-deflate는 Tomcat이 기본으로 협상/압축 (별도 설정 불필요)
         registry.addHandler(chatWebSocketHandler, "/ws/chat/{roomId}")
                 .addInterceptors(jwtHandshakeInterceptor)
                 .setAllowedOrigins("*");
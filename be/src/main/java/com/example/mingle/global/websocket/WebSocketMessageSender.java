@@ -0,0 +1,209 @@
+package com.example.mingle.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * WebSocket 송신 전용 컴포넌트
+ * - 호출자는 이미 직렬화된 메시지(TextMessage 등 불변 객체)를 넘기고,
+ *   같은 인스턴스를 여러 세션에 공유해서 fan-out 한다 (메시지당 직렬화 1회)
+ * - 세션마다 SessionOutbox(상한 있는 송신 큐)를 두어 느린 클라이언트가
+ *   송신자 스레드나 다른 세션의 전달을 막지 않도록 함
+ * - 큐 깊이 / 드롭 수는 Micrometer 지표(chat.outbound.*)로 노출
+ * - 핸드셰이크 때 batch=1로 연결한 세션은 짧은 시간 모은 메시지를 JSON 배열 프레임 하나로 전송
+ *   (batch.enabled=false면 요청해도 메시지마다 프레임 1개, 클라이언트는 둘 다 처리)
+ * - CBOR 세션은 큐에 넣기 전에 ChatWireCodec으로 변환 (fan-out 1회당 변환 1회)
+ */
+@Slf4j
+@Component
+public class WebSocketMessageSender {
+
+    // 핸드셰이크 때 묶음 전송을 요청한 세션 표시 (세션 attribute 키)
+    public static final String BATCH_ATTRIBUTE = "outboundBatch";
+
+    private final WebSocketSessionManager sessionManager;
+    private final ChatWireCodec wireCodec;
+    private final int queueCapacity;
+    private final OutboundOverflowPolicy overflowPolicy;
+
+    // 묶음 전송 설정 (비활성화 시 null)
+    private final SessionOutbox.BatchSettings batchSettings;
+
+    // 세션 ID 기준 → 송신 큐
+    private final Map<String, SessionOutbox> outboxMap = new ConcurrentHashMap<>();
+
+    // 느린 소켓 쓰기가 플랫폼 스레드를 점유하지 않도록 가상 스레드에서 drain
+    private final ExecutorService drainExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ws-outbound-", 0).factory());
+
+    // 종료된 세션까지 포함한 누적 드롭 수
+    private final AtomicLong closedDropped = new AtomicLong();
+
+    public WebSocketMessageSender(WebSocketSessionManager sessionManager,
+                                  ChatWireCodec wireCodec,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.outbound.queue-capacity:256}") int queueCapacity,
+                                  @Value("${chat.outbound.overflow-policy:DROP_OLDEST}") OutboundOverflowPolicy overflowPolicy,
+                                  @Value("${chat.outbound.batch.enabled:true}") boolean batchEnabled,
+                                  @Value("${chat.outbound.batch.window-ms:5}") long batchWindowMs,
+                                  @Value("${chat.outbound.batch.max-messages:32}") int batchMaxMessages) {
+        this.sessionManager = sessionManager;
+        this.wireCodec = wireCodec;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+
+        Counter batchFrames = meterRegistry.counter("chat.outbound.batch.frames");
+        Counter batchMessages = meterRegistry.counter("chat.outbound.batch.messages");
+        this.batchSettings = batchEnabled && batchMaxMessages > 1
+                ? new SessionOutbox.BatchSettings(batchWindowMs, batchMaxMessages, batchFrames, batchMessages)
+                : null;
+
+        Gauge.builder("chat.outbound.queue.depth", this, WebSocketMessageSender::getTotalQueueDepth)
+                .description("모든 세션 송신 큐에 대기 중인 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.outbound.queue.max-depth", this, WebSocketMessageSender::getMaxQueueDepth)
+                .description("가장 많이 밀린 세션의 송신 큐 길이")
+                .register(meterRegistry);
+        Gauge.builder("chat.outbound.dropped", this, WebSocketMessageSender::getTotalDroppedCount)
+                .description("송신 큐 초과로 버려진 메시지 누적 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.outbound.sessions", outboxMap, Map::size)
+                .description("송신 큐를 가진 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단일 세션에 전송 (non-blocking)
+     */
+    public boolean send(WebSocketSession session, WebSocketMessage<?> message) {
+        if (session == null || !session.isOpen()) {
+            return false;
+        }
+        return outboxOf(session).offer(wireCodec.encodeFor(session, message));
+    }
+
+    /**
+     * 여러 세션에 같은 메시지 인스턴스를 fan-out (CBOR 세션용 변환은 처음 필요할 때 1회)
+     */
+    public void sendAll(Collection<WebSocketSession> sessions, WebSocketMessage<?> message) {
+        WebSocketMessage<?> binary = null;
+        for (WebSocketSession session : sessions) {
+            if (!session.isOpen()) continue;
+            if (ChatWireCodec.formatOf(session) == WireFormat.CBOR && message instanceof TextMessage text) {
+                if (binary == null) binary = wireCodec.encode(text);
+                outboxOf(session).offer(binary);
+            } else {
+                outboxOf(session).offer(message);
+            }
+        }
+    }
+
+    /**
+     * 채팅방 구독 세션 전체에 전송
+     */
+    public void sendToRoom(Long roomId, WebSocketMessage<?> message) {
+        sendAll(sessionManager.getRoomSessions(roomId), message);
+    }
+
+    /**
+     * 특정 유저의 세션에 전송 (DM 등)
+     */
+    public boolean sendToUser(Long userId, WebSocketMessage<?> message) {
+        return send(sessionManager.getSessionByUserId(userId), message);
+    }
+
+    /**
+     * 일반 메시지 전송 보류 (재접속 시 놓친 메시지를 먼저 보내기 위함)
+     */
+    public void hold(WebSocketSession session) {
+        outboxOf(session).hold();
+    }
+
+    /**
+     * 보류 중에도 바로 전송 (놓친 메시지 재전송용)
+     */
+    public boolean sendNow(WebSocketSession session, WebSocketMessage<?> message) {
+        if (session == null || !session.isOpen()) {
+            return false;
+        }
+        return outboxOf(session).offerNow(wireCodec.encodeFor(session, message));
+    }
+
+    /**
+     * 보류 해제: keep을 통과한 보류 메시지를 이어서 전송 (재전송과 중복된 메시지 제거용)
+     */
+    public void resume(WebSocketSession session, Predicate<WebSocketMessage<?>> keep) {
+        SessionOutbox outbox = outboxMap.get(session.getId());
+        if (outbox != null) {
+            outbox.release(keep);
+        }
+    }
+
+    /**
+     * 세션 종료 시 송신 큐 정리
+     */
+    public void release(String sessionId) {
+        SessionOutbox removed = outboxMap.remove(sessionId);
+        if (removed != null) {
+            removed.clear();
+            closedDropped.addAndGet(removed.getDroppedCount());
+        }
+    }
+
+    // 세션 ID 기준 송신 큐 깊이 조회 (디버깅용)
+    public int getQueueDepth(String sessionId) {
+        SessionOutbox outbox = outboxMap.get(sessionId);
+        return outbox != null ? outbox.getDepth() : 0;
+    }
+
+    public long getTotalQueueDepth() {
+        long total = 0;
+        for (SessionOutbox outbox : outboxMap.values()) {
+            total += outbox.getDepth();
+        }
+        return total;
+    }
+
+    public int getMaxQueueDepth() {
+        int max = 0;
+        for (SessionOutbox outbox : outboxMap.values()) {
+            max = Math.max(max, outbox.getDepth());
+        }
+        return max;
+    }
+
+    public long getTotalDroppedCount() {
+        long total = closedDropped.get();
+        for (SessionOutbox outbox : outboxMap.values()) {
+            total += outbox.getDroppedCount();
+        }
+        return total;
+    }
+
+    private SessionOutbox outboxOf(WebSocketSession session) {
+        return outboxMap.computeIfAbsent(session.getId(),
+                id -> new SessionOutbox(session, queueCapacity, overflowPolicy, drainExecutor,
+                        Boolean.TRUE.equals(session.getAttributes().get(BATCH_ATTRIBUTE)) ? batchSettings : null));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainExecutor.shutdown();
+    }
+}
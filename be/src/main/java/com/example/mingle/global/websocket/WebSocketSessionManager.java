@@ -1,12 +1,14 @@
 package com.example.mingle.global.websocket;
 
 import com.example.mingle.domain.chat.common.dto.WebSocketAuthDto;
+import com.example.mingle.domain.chat.common.enums.ChatRoomType;
 import org.springframework.web.socket.WebSocketSession;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
@@ -19,6 +21,15 @@ public class WebSocketSessionManager {
     // 유저 ID 기준 → WebSocketSession (DM 등 직접 송신용)
     private final Map<Long, WebSocketSession> userSessionMap = new ConcurrentHashMap<>();
 
+    // 채팅방 ID 기준 → 해당 방을 구독 중인 WebSocketSession 목록 (그룹 브로드캐스트용)
+    private final Map<Long, Set<WebSocketSession>> roomSessionMap = new ConcurrentHashMap<>();
+
+    // 세션 ID 기준 → 구독 중인 채팅방 ID 목록 (연결 종료 시 역방향 정리용)
+    private final Map<String, Set<Long>> sessionRoomMap = new ConcurrentHashMap<>();
+
+    // 세션 ID 기준 → 구독 중인 DM 방 ID 목록 (DM은 유저 단위 전달이라 방 인덱스 없이 구독 여부만 기록)
+    private final Map<String, Set<Long>> sessionDmRoomMap = new ConcurrentHashMap<>();
+
     /**
      * WebSocket 연결 시: 인증 정보 + 세션 바인딩
      */
@@ -29,16 +40,105 @@ public class WebSocketSessionManager {
     }
 
     /**
-     * 연결 종료 시: 인증 정보 + 세션 모두 제거
+     * 연결 종료 시: 인증 정보 + 세션 + 채팅방 구독 모두 제거
+     * - 같은 유저가 이미 새 세션으로 재연결한 경우, 새 세션은 유지
      */
     public void unregister(String sessionId) {
+        leaveAllRooms(sessionId);
+        sessionDmRoomMap.remove(sessionId);
+
         WebSocketAuthDto removed = sessionMap.remove(sessionId);
         if (removed != null) {
-            userSessionMap.remove(removed.getUserId());
+            userSessionMap.computeIfPresent(removed.getUserId(),
+                    (userId, current) -> current.getId().equals(sessionId) ? null : current);
             log.info("🗑 WebSocket 해제: sessionId={}, userId={}", sessionId, removed.getUserId());
         }
     }
 
+    /**
+     * 채팅방 구독: roomId → 세션 인덱스에 추가
+     * - /ws/chat/{roomId} 연결 시 또는 SUBSCRIBE 프레임 수신 시 호출
+     */
+    public void joinRoom(Long roomId, WebSocketSession session) {
+        // compute로 추가해야 마지막 구독자 제거(removeFromRoom)와 경합해도 세션이 유실되지 않음
+        roomSessionMap.compute(roomId, (id, sessions) -> {
+            Set<WebSocketSession> target = (sessions != null) ? sessions : ConcurrentHashMap.newKeySet();
+            target.add(session);
+            return target;
+        });
+        sessionRoomMap.computeIfAbsent(session.getId(), id -> ConcurrentHashMap.newKeySet()).add(roomId);
+        log.debug("채팅방 구독: roomId={}, sessionId={}", roomId, session.getId());
+    }
+
+    /**
+     * 채팅방 구독 해제: UNSUBSCRIBE 프레임 수신 시 호출
+     */
+    public void leaveRoom(Long roomId, WebSocketSession session) {
+        removeFromRoom(roomId, session.getId());
+
+        Set<Long> rooms = sessionRoomMap.get(session.getId());
+        if (rooms != null) {
+            rooms.remove(roomId);
+        }
+        log.debug("채팅방 구독 해제: roomId={}, sessionId={}", roomId, session.getId());
+    }
+
+    /**
+     * DM 방 구독 기록 / 해제 (참여자 확인 후 호출)
+     */
+    public void joinDmRoom(Long dmRoomId, WebSocketSession session) {
+        sessionDmRoomMap.computeIfAbsent(session.getId(), id -> ConcurrentHashMap.newKeySet()).add(dmRoomId);
+    }
+
+    public void leaveDmRoom(Long dmRoomId, WebSocketSession session) {
+        Set<Long> rooms = sessionDmRoomMap.get(session.getId());
+        if (rooms != null) {
+            rooms.remove(dmRoomId);
+        }
+    }
+
+    /**
+     * 세션이 채팅방을 구독 중인지 (속도 제한 채팅방 버킷 생성 여부 판단용)
+     */
+    public boolean isSubscribed(String sessionId, ChatRoomType roomType, Long roomId) {
+        if (roomId == null) return false;
+        Map<String, Set<Long>> index = roomType == ChatRoomType.DIRECT ? sessionDmRoomMap : sessionRoomMap;
+        return index.getOrDefault(sessionId, Set.of()).contains(roomId);
+    }
+
+    /**
+     * 채팅방을 구독 중인 세션 목록 조회 (그룹 브로드캐스트용)
+     * - 구독자가 없으면 빈 Set 반환
+     */
+    public Set<WebSocketSession> getRoomSessions(Long roomId) {
+        return roomSessionMap.getOrDefault(roomId, Set.of());
+    }
+
+    /**
+     * 세션이 구독 중인 채팅방 ID 목록 조회
+     */
+    public Set<Long> getSubscribedRooms(String sessionId) {
+        return sessionRoomMap.getOrDefault(sessionId, Set.of());
+    }
+
+    // 세션이 구독하던 모든 채팅방에서 제거
+    private void leaveAllRooms(String sessionId) {
+        Set<Long> rooms = sessionRoomMap.remove(sessionId);
+        if (rooms == null) return;
+
+        for (Long roomId : rooms) {
+            removeFromRoom(roomId, sessionId);
+        }
+    }
+
+    // 방 인덱스에서 세션 제거, 마지막 구독자였다면 방 엔트리도 제거
+    private void removeFromRoom(Long roomId, String sessionId) {
+        roomSessionMap.computeIfPresent(roomId, (id, sessions) -> {
+            sessions.removeIf(s -> s.getId().equals(sessionId));
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
     /**
      * 세션 ID로 인증 정보 조회
      */
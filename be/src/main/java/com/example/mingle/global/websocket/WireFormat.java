@@ -0,0 +1,9 @@
+package com.example.mingle.global.websocket;
+
+/**
+ * 세션별 송수신 인코딩 (핸드셰이크 때 proto 파라미터로 결정)
+ */
+public enum WireFormat {
+    JSON, // 텍스트 프레임 + JSON (기본값)
+    CBOR  // 바이너리 프레임 + 1바이트 프레임 타입 헤더 + CBOR 본문
+}
@@ -0,0 +1,39 @@
+package com.example.mingle.global.websocket;
+
+import org.springframework.web.socket.BinaryMessage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * CBOR 세션 바이너리 프레임의 첫 바이트 (프레임 타입 헤더)
+ */
+public enum WireFrameType {
+    MESSAGE(0x01),    // 본문: CBOR map 1개 (채팅 메시지 / 제어 프레임)
+    BATCH(0x02),      // 본문: CBOR 가변 길이 배열 (MESSAGE 본문 여러 개)
+    NOTICE(0x03),     // 본문: UTF-8 문자열 (서버 안내 문구)
+    PING(0x10),       // 본문 없음 (클라이언트 → 서버, 텍스트 "ping" 대응)
+    TAB_HIDDEN(0x11); // 본문 없음 (클라이언트 → 서버, 텍스트 "tab_hidden" 대응)
+
+    private final byte code;
+
+    WireFrameType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    /**
+     * 헤더 바이트로 프레임 타입 조회 (빈 프레임이거나 모르는 값이면 null)
+     */
+    public static WireFrameType of(BinaryMessage message) {
+        ByteBuffer payload = message.getPayload();
+        if (!payload.hasRemaining()) return null;
+        byte header = payload.get(payload.position());
+        for (WireFrameType type : values()) {
+            if (type.code == header) return type;
+        }
+        return null;
+    }
+}
@@ -20,7 +20,7 @@ export default function ArchiveUploadForm({ roomId }: ArchiveUploadFormProps) {
   const [isUploading, setIsUploading] = useState(false); // 업로드 중 여부 상태
   const [currentInput, setCurrentInput] = useState(''); // 자동완성 검색어 상태
 
-  const { suggestions } = useTagAutocomplete(currentInput); // 자동완성 hook 사용
+  const { suggestions } = useTagAutocomplete(roomId, currentInput); // 자동완성 hook 사용
   const { fetchItems } = useArchive(roomId);
   const token = sessionStorage.getItem('token')!; // 토큰 가져오기
   const { send } = useSocket(roomId, token, () => {}); // 메시지 전송용 useSocket 훅 사용
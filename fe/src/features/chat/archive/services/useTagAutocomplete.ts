@@ -2,7 +2,7 @@
 
 import { useState, useEffect } from 'react';
 
-export function useTagAutocomplete(input: string) {
+export function useTagAutocomplete(roomId: number, input: string) {
   const [suggestions, setSuggestions] = useState<string[]>([]);
   const [loading, setLoading] = useState(false);
 
@@ -12,7 +12,9 @@ export function useTagAutocomplete(input: string) {
     const fetchSuggestions = async () => {
       try {
         setLoading(true);
-        const res = await fetch(`/api/v1/archive/tags/search?prefix=${input}`);
+        const res = await fetch(
+          `/api/v1/archive/${roomId}/tags/search?prefix=${encodeURIComponent(input)}`,
+        );
         const data = await res.json();
         setSuggestions(data);
       } catch (err) {
@@ -24,7 +26,7 @@ export function useTagAutocomplete(input: string) {
 
     const timeoutId = setTimeout(fetchSuggestions, 200); // ⏱ debounce
     return () => clearTimeout(timeoutId);
-  }, [input]);
+  }, [roomId, input]);
 
   return { suggestions, loading };
 }
@@ -6,5 +6,8 @@ export async function fetchDmChatMessages(
   roomId: number
 ): Promise<ChatMessagePayload[]> {
   // GET 요청으로 해당 roomId의 DM 메시지 조회
-  return await apiClient<ChatMessagePayload[]>(`/dm-chat/${roomId}/messages`);
+  const res = await apiClient<{ messages: ChatMessagePayload[] }>(
+    `/dm-chat/${roomId}/messages`
+  );
+  return res.messages;
 }
@@ -19,11 +19,16 @@ export function useDmChat(roomId: number, receiverId: number | null) {
       : 0; // senderId도 SSR-safe로
 
   // WebSocket 연결 및 메시지 핸들링 (token이 있을 때만)
-  const { send } = useSocket(roomId, token, (msg) => {
-    if (msg.chatType === ChatRoomType.DIRECT && msg.roomId === roomId) {
-      setMessages((prev) => [...prev, msg]);
-    }
-  });
+  const { send } = useSocket(
+    roomId,
+    token,
+    (msg) => {
+      if (msg.chatType === ChatRoomType.DIRECT && msg.roomId === roomId) {
+        setMessages((prev) => [...prev, msg]);
+      }
+    },
+    ChatRoomType.DIRECT
+  );
 
   // 초기에 과거 메시지 불러오기
   useEffect(() => {
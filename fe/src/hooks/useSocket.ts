@@ -2,11 +2,13 @@
 
 import { useEffect, useRef, useState } from 'react';
 import type { ChatMessagePayload } from '@/features/chat/common/types/ChatMessagePayload';
+import { ChatRoomType } from '@/features/chat/common/types/ChatRoomType';
 
 export function useSocket(
   roomId: number,
   token: string | null,
-  onMessage: (msg: ChatMessagePayload) => void
+  onMessage: (msg: ChatMessagePayload) => void,
+  roomType: ChatRoomType = ChatRoomType.GROUP // DM 소켓은 DIRECT (같은 번호의 그룹 채팅방 구독 방지)
 ) {
   const socketRef = useRef<WebSocket | null>(null);
   const [isConnected, setIsConnected] = useState(false);
@@ -25,7 +27,10 @@ export function useSocket(
     }
 
     // [WebSocket 연결 URL 구성]
-    const wsUrl = `${process.env.NEXT_PUBLIC_WS_BASE_URL}/ws/chat/${roomId}?token=${token}`; // EC2 주소 또는 localhost
+    // batch=1: 서버가 짧은 시간 모은 메시지를 JSON 배열 프레임 하나로 보낼 수 있음
+    // roomType=DIRECT: 경로의 roomId를 DM 방 ID로 해석 (없으면 그룹 채팅방)
+    const roomTypeParam = roomType === ChatRoomType.DIRECT ? '&roomType=DIRECT' : '';
+    const wsUrl = `${process.env.NEXT_PUBLIC_WS_BASE_URL}/ws/chat/${roomId}?token=${token}&batch=1${roomTypeParam}`; // EC2 주소 또는 localhost
     const socket = new WebSocket(wsUrl);
     socketRef.current = socket;
 
@@ -44,7 +49,12 @@ export function useSocket(
     socket.onmessage = (event) => {
       console.log('[WebSocket 수신]', event.data);
       const data = JSON.parse(event.data);
-      onMessage(data);
+      // 묶음 프레임이면 담긴 순서대로 하나씩 처리
+      if (Array.isArray(data)) {
+        data.forEach((msg: ChatMessagePayload) => onMessage(msg));
+      } else {
+        onMessage(data);
+      }
     };
 
     socket.onerror = (err) => {
@@ -68,7 +78,7 @@ export function useSocket(
       // 컴포넌트 언마운트 시 ping 중단
       clearInterval(pingInterval);
     };
-  }, [roomId, token]);
+  }, [roomId, token, roomType]);
 
   const send = (payload: ChatMessagePayload) => {
     console.log('[send() 호출됨] payload:', payload);